@@ -18,7 +18,9 @@
  */
 package org.apache.causeway.applib.services.bookmark;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
@@ -73,6 +75,20 @@ public interface BookmarkService {
      */
     Optional<Object> lookup(@Nullable Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #lookup(Bookmark)}, that (as supported by the persistence stack)
+     * fetches entities with a single query per entity type, rather than one query per entity.
+     *
+     * @param bookmarks - representing domain objects, (null elements allowed)
+     * @return - in order of given {@code bookmarks}, optionally the corresponding domain object,
+     *      empty for any {@link Bookmark} that is {@code null} or could not be looked up
+     */
+    default List<Optional<Object>> lookupAll(@NonNull final List<Bookmark> bookmarks) {
+        return bookmarks.stream()
+                .map(this::lookup)
+                .collect(Collectors.toList());
+    }
+
     // -- SHORTCUTS
 
     /**
@@ -182,6 +182,32 @@ default Try<Void> runAnonymousAndCatch(
         return callAnonymousAndCatch(ThrowingRunnable.toCallable(runnable));
     }
 
+    // -- CONTEXT PROPAGATION
+
+    /**
+     * Returns a {@link Callable} that, when called (typically by a child task on some other thread),
+     * runs the given {@code callable} within an {@link InteractionLayer} based on a snapshot
+     * of the {@link InteractionContext} current at the time this method is invoked.
+     * <p>
+     * If there is no current {@link InteractionContext}, the resulting {@link Callable} runs anonymously.
+     *
+     * @see #propagatingRunnable(ThrowingRunnable)
+     */
+    default <R> Callable<R> propagatingCallable(final @NonNull Callable<R> callable) {
+        return currentInteractionContext()
+                .<Callable<R>>map(interactionContext->()->call(interactionContext, callable))
+                .orElseGet(()->()->callAnonymous(callable));
+    }
+
+    /**
+     * Variant of {@link #propagatingCallable(Callable)} that takes a runnable.
+     */
+    default Runnable propagatingRunnable(final @NonNull ThrowingRunnable runnable) {
+        return currentInteractionContext()
+                .<Runnable>map(interactionContext->()->run(interactionContext, runnable))
+                .orElseGet(()->()->runAnonymous(runnable));
+    }
+
     /**
      * Primarily for testing, closes the current interaction and opens a new one.
      *
@@ -170,21 +170,7 @@ public final String toXml(
             val domainClass = domainObject.getClass();
             val jaxbContext = jaxbContextForObject(domainObject);
             try {
-                val marshaller = jaxbContext.createMarshaller();
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-
-                for (val entry : _NullSafe.entrySet(marshallerProperties)) {
-                    marshaller.setProperty(entry.getKey(), entry.getValue());
-                }
-
-                configure(marshaller);
-
-                val writer = new StringWriter();
-                marshaller.marshal(domainObject, writer);
-                val xml = writer.toString();
-
-                return xml;
-
+                return marshal(jaxbContext, domainObject, marshallerProperties);
             } catch (Exception e) {
                 throw _Xml.verboseException("marshalling domain object to XML", domainClass, e);
             }
@@ -227,6 +213,38 @@ protected Object internalFromXml(
             if (xml == null) {
                 return null;
             }
+            return unmarshal(jaxbContext, xml, unmarshallerProperties);
+        }
+
+        /**
+         * Optional hook, allowing for {@link Marshaller}s to be reused.
+         */
+        protected String marshal(
+                final @NonNull JAXBContext jaxbContext,
+                final @NonNull Object domainObject,
+                final @Nullable Map<String, Object> marshallerProperties) throws JAXBException {
+
+            val marshaller = jaxbContext.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+
+            for (val entry : _NullSafe.entrySet(marshallerProperties)) {
+                marshaller.setProperty(entry.getKey(), entry.getValue());
+            }
+
+            configure(marshaller);
+
+            val writer = new StringWriter();
+            marshaller.marshal(domainObject, writer);
+            return writer.toString();
+        }
+
+        /**
+         * Optional hook, allowing for {@link Unmarshaller}s to be reused.
+         */
+        protected Object unmarshal(
+                final @NonNull JAXBContext jaxbContext,
+                final @NonNull String xml,
+                final @Nullable Map<String, Object> unmarshallerProperties) throws JAXBException {
 
             val unmarshaller = jaxbContext.createUnmarshaller();
 
@@ -236,8 +254,7 @@ protected Object internalFromXml(
 
             configure(unmarshaller);
 
-            val pojo = unmarshaller.unmarshal(new StringReader(xml));
-            return pojo;
+            return unmarshaller.unmarshal(new StringReader(xml));
         }
 
         @Override
@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.services.publishing.spi;
 
 import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
 
 /**
@@ -48,4 +49,19 @@ public interface EntityPropertyChangeSubscriber extends HasEnabling {
      */
     void onChanging(EntityPropertyChange entityPropertyChange);
 
+    /**
+     * Receives all property change events of the transaction at once, allowing
+     * implementations to process them in bulk (eg. to persist them using batched
+     * inserts).
+     *
+     * <p>
+     *     Called once at the end of the transaction, during the pre-commit phase.
+     *     The default implementation simply delegates to
+     *     {@link #onChanging(EntityPropertyChange)} for each of the changes.
+     * </p>
+     */
+    default void onBulkChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
+        entityPropertyChanges.forEach(this::onChanging);
+    }
+
 }
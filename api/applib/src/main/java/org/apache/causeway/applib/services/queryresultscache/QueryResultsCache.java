@@ -21,6 +21,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 import javax.annotation.Priority;
@@ -37,10 +38,13 @@
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.collections._Sets;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 
@@ -154,6 +158,60 @@ public <R, A0, A1, A2, A3, A4> R execute(final MethodReferences.Call5<? extends
         return executeWithCaching(()->action.call(arg0, arg1, arg2, arg3, arg4), cacheKey);
     }
 
+    /**
+     * Returns a view onto this cache, that in addition (on a miss) consults the application scoped
+     * {@link SharedQueryResultsCache}, if configured.
+     *
+     * <p>
+     * This is opt-in per query, as it is only safe for results that depend solely on the state of the given
+     * entity types: results are shared across interactions (and users) until any entity of these types is
+     * changed, or the result expires.  Keys should therefore be values (rather than entities),
+     * and the result must not depend on the current user.
+     * Only results that are entities, immutable values, or collections, arrays or {@link java.util.Optional}s
+     * thereof, are shared; any other results are cached per interaction only.
+     * </p>
+     *
+     * <p>
+     * The returned view is bound to the current interaction, hence must not be retained.
+     * </p>
+     *
+     * @param dependsOn - entity types the query results depend on
+     */
+    public Shared shared(final Class<?>... dependsOn) {
+        return new Shared(_Sets.of(dependsOn));
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public class Shared {
+
+        private final Set<Class<?>> dependsOn;
+
+        /**
+         * Executes the callable if not already cached (at interaction or application scope) for the supplied
+         * calling class, method and keys.
+         */
+        public <T> T execute(
+                final Callable<T> callable,
+                final Class<?> callingClass,
+                final String methodName,
+                final Object... keys) {
+            if(isIgnoreCache()) {
+                try {
+                    return callable.call();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            final Key cacheKey = new Key(callingClass, methodName, keys);
+            final SharedQueryResultsCache sharedCache = sharedQueryResultsCache;
+            if(sharedCache == null
+                    || !sharedCache.isEnabled()) {
+                return executeWithCaching(callable, cacheKey);
+            }
+            return executeWithCaching(()->sharedCache.execute(callable, dependsOn, cacheKey), cacheKey);
+        }
+    }
+
     @Getter @EqualsAndHashCode
     public static class Key {
 
@@ -240,6 +298,9 @@ public void destroy() throws Exception {
     @Autowired(required = false)
     protected List<QueryResultsCacheControl> cacheControl;
 
+    @Autowired(required = false)
+    protected SharedQueryResultsCache sharedQueryResultsCache;
+
     private boolean isIgnoreCache() {
         return _NullSafe.stream(cacheControl)
                 .anyMatch(c->c.isIgnoreCache());
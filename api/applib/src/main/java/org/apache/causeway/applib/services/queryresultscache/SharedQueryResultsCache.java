@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import lombok.Value;
+
+/**
+ * Application scoped (second level) tier of the {@link QueryResultsCache}, shared across
+ * {@link org.apache.causeway.applib.services.iactn.Interaction}s.
+ *
+ * <p>
+ * Caching is opt-in per query, using {@link QueryResultsCache#shared(Class...)}, which also declares the
+ * entity types the query result depends on.  Cached results are discarded whenever entities of any of those
+ * types (or sub-types thereof) are created, updated or deleted.
+ * </p>
+ *
+ * <p>
+ * Not intended to be called by domain code directly.
+ * </p>
+ *
+ * @see QueryResultsCache#shared(Class...)
+ * @since 2.0 {@index}
+ */
+public interface SharedQueryResultsCache {
+
+    /**
+     * Whether the shared tier is enabled (by configuration); if not, {@link QueryResultsCache#shared(Class...)}
+     * falls back to interaction scoped caching only.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the cached result for given key, else executes given callable and caches its result, as long as none
+     * of the entity types it depends on were changed in the meantime.
+     *
+     * @param dependsOn - entity types the result of the callable depends on
+     */
+    <T> T execute(Callable<T> callable, Set<Class<?>> dependsOn, QueryResultsCache.Key key) throws Exception;
+
+    /**
+     * Discards any cached results that depend on any of the given logical types.
+     *
+     * <p>
+     * Called by the framework once entity changes are about to be committed (and again once committed).
+     * </p>
+     */
+    void invalidate(Set<String> changedLogicalTypeNames);
+
+    /**
+     * Discards all cached results.
+     */
+    void clear();
+
+    Statistics getStatistics();
+
+    @Value(staticConstructor = "of")
+    class Statistics {
+        /** number of cached results currently held */
+        int size;
+        long hitCount;
+        long missCount;
+        /** number of results evicted, because of size or age constraints */
+        long evictionCount;
+        /** number of results discarded, because of entity changes */
+        long invalidationCount;
+    }
+
+}
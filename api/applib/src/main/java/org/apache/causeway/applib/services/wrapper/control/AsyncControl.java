@@ -120,7 +120,8 @@ public AsyncControl<R> with(final ExceptionHandler exceptionHandler) {
      * to invoke the action.
      *
      * <p>
-     * The default executor service is the common pool.
+     * The default executor service is the common pool, unless configured to use virtual threads
+     * (<code>causeway.core.runtime-services.wrapper-factory.async.use-virtual-threads</code>).
      * </p>
      *
      *
@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.concurrent;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import lombok.val;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Provides virtual threads, if supported by the runtime (Java 21+), while the framework itself
+ * is still compiled against an older Java release.
+ * </p>
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * </p>
+ *
+ * @since 2.0
+ */
+public final class _VirtualThreads {
+
+    /**
+     * Whether the runtime supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return Holder.VIRTUAL_THREAD_PER_TASK_EXECUTOR.isPresent();
+    }
+
+    /**
+     * A shared {@link ExecutorService}, that starts a new virtual thread for each task, if supported,
+     * otherwise the {@link ForkJoinPool#commonPool() common pool}.
+     */
+    public static ExecutorService executorServiceElseCommonPool() {
+        return Holder.VIRTUAL_THREAD_PER_TASK_EXECUTOR
+                .orElseGet(ForkJoinPool::commonPool);
+    }
+
+    // -- HELPER
+
+    private static final class Holder {
+        private static final Optional<ExecutorService> VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+                newVirtualThreadPerTaskExecutor();
+    }
+
+    private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            val factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factoryMethod.invoke(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not supported by this runtime (or a preview feature, not enabled)
+            return Optional.empty();
+        }
+    }
+
+}
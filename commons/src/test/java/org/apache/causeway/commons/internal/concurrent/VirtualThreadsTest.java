@@ -0,0 +1,56 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.concurrent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class VirtualThreadsTest {
+
+    @Test @SneakyThrows
+    void executorServiceShouldExecuteTasks() {
+        val executorService = _VirtualThreads.executorServiceElseCommonPool();
+
+        val result = executorService.submit(()->"done").get(10, TimeUnit.SECONDS);
+
+        assertEquals("done", result);
+    }
+
+    @Test
+    void executorServiceShouldBeSharedAndOnlyFallbackToCommonPoolIfUnsupported() {
+        val executorService = _VirtualThreads.executorServiceElseCommonPool();
+
+        assertSame(executorService, _VirtualThreads.executorServiceElseCommonPool());
+        if(_VirtualThreads.isSupported()) {
+            assertNotSame(ForkJoinPool.commonPool(), executorService);
+        } else {
+            assertSame(ForkJoinPool.commonPool(), executorService);
+        }
+    }
+
+}
@@ -1552,6 +1552,36 @@ public static class Jdoql {
                 }
 
             }
+
+            private final Snapshot snapshot = new Snapshot();
+            @Data
+            public static class Snapshot {
+
+                /**
+                 * Whether to persist a snapshot of the metamodel, once fully introspected and validated without
+                 * failures, and to verify subsequent bootstraps against it.
+                 *
+                 * <p>
+                 *     The snapshot records a fingerprint of all introspected types, of the programming model and
+                 *     of the <code>causeway.*</code> configuration, along with the types' logical names and bean sorts.
+                 *     If on bootstrap the fingerprint still matches, the (eager) introspection of all remaining types
+                 *     and the metamodel validators are skipped; any types not yet introspected are then introspected
+                 *     lazily.  Otherwise the metamodel is created and validated as usual, and the snapshot is
+                 *     rewritten.
+                 * </p>
+                 *
+                 * <p>
+                 *     Only applies if the introspector is configured to perform full introspection up-front.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Location of the snapshot file, either created as part of the build (by bootstrapping the
+                 * application once) or on first boot.
+                 */
+                private String file = "causeway-metamodel.snapshot";
+            }
         }
 
 
@@ -1708,6 +1738,46 @@ public static class RepositoryService {
 
             }
 
+            private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+            @Data
+            public static class QueryResultsCache {
+
+                private final Shared shared = new Shared();
+                @Data
+                public static class Shared {
+
+                    /**
+                     * Whether query results, for which caching at application scope was requested (using
+                     * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache#shared(Class...)}),
+                     * are actually shared across interactions.
+                     *
+                     * <p>
+                     *     If disabled (the default), such results are cached for the duration of the
+                     *     interaction only.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * The maximum number of query results held; once exceeded, the least recently used results
+                     * are evicted.
+                     */
+                    @Min(value = 1)
+                    private int maxSize = 1000;
+
+                    /**
+                     * How long a query result is held, before being evicted.
+                     *
+                     * <p>
+                     *     Results are discarded early, if any entities of the types they depend on are changed.
+                     *     This bounds staleness for changes that are not observed by this application instance,
+                     *     eg. changes made directly to the database or by another node of a cluster.
+                     * </p>
+                     */
+                    private Duration expiry = Duration.ofMinutes(10);
+                }
+            }
+
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
             @Data
             public static class ExceptionRecognizer {
@@ -1773,6 +1843,38 @@ public static class Po {
                      * </p>
                      */
                     Mode mode = Mode.WRITE;
+
+                    /**
+                     * Only applies when in {@link Mode#READ read} mode: the locales (eg. <code>en</code>,
+                     * <code>fr_FR</code>) for which translations are to be loaded eagerly (in parallel) on startup.
+                     *
+                     * <p>
+                     *     Translations for any other locale are loaded on first use.
+                     * </p>
+                     */
+                    private final List<String> preloadLocales = new ArrayList<>();
+                }
+            }
+
+            private final WrapperFactory wrapperFactory = new WrapperFactory();
+            @Data
+            public static class WrapperFactory {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+
+                    /**
+                     * Whether actions and property edits invoked asynchronously (using
+                     * {@link org.apache.causeway.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.causeway.applib.services.wrapper.control.AsyncControl)})
+                     * run each on its own virtual thread, if supported by the JVM (Java 21+), rather than on the common pool.
+                     *
+                     * <p>
+                     *     Only applies if no {@link java.util.concurrent.ExecutorService} was specified explicitly
+                     *     using {@link org.apache.causeway.applib.services.wrapper.control.AsyncControl#with(java.util.concurrent.ExecutorService)}.
+                     * </p>
+                     */
+                    private boolean useVirtualThreads = false;
                 }
             }
         }
@@ -1911,6 +2013,20 @@ public static class Application {
                 @NotNull @NotEmpty
                 private String menubarsLayoutFile = "menubars.layout.xml";
 
+                /**
+                 * Whether the menu entries (as resolved from the menubars layout) are cached per menu bar,
+                 * the user's roles and locale, rather than having the visibility of all their actions
+                 * evaluated on every request.
+                 *
+                 * <p>
+                 *     Actions with supporting <code>hideXxx</code> methods or domain events are evaluated on
+                 *     every request regardless. Only enable if the <code>Authorizor</code>
+                 *     in use decides on visibility solely by the user's roles (unlike eg. tenancy rules, that might
+                 *     take other user attributes into account).
+                 * </p>
+                 */
+                private boolean menubarsCaching = false;
+
                 /**
                  * Identifies the application on the sign-in page
                  * (unless a {@link Application#brandLogoSignin sign-in} image is configured) and
@@ -2017,6 +2133,57 @@ public static class Authentication {
              */
             private boolean honorUiHints = false;
 
+            public enum EtagPolicy {
+                /**
+                 * No <code>ETag</code> headers are emitted, nor are conditional requests evaluated.
+                 */
+                DISABLED,
+                /**
+                 * Weak <code>ETag</code>s are emitted (and <code>If-None-Match</code> requests answered with
+                 * <i>Not Modified</i>) for the metamodel resources only, that is the home page, menubars and
+                 * domain type resources.
+                 *
+                 * <p>
+                 *     Note that the entity tags only reflect the metamodel and the user's role names, not the
+                 *     permissions granted to those roles; hence a cached representation can be stale, if
+                 *     permissions are changed at runtime (eg. using the SecMan extension).
+                 * </p>
+                 */
+                METAMODEL,
+                /**
+                 * As per {@link #METAMODEL}, and in addition for domain objects whose type declares a version
+                 * (as used for optimistic locking).
+                 *
+                 * <p>
+                 *     Note that an object's version only reflects changes to its own persistent state; hence
+                 *     a cached representation can be stale, eg. with respect to titles of referenced objects.
+                 * </p>
+                 */
+                METAMODEL_AND_DOMAIN_OBJECTS;
+                public boolean isMetamodel() {
+                    return this != DISABLED;
+                }
+                public boolean isDomainObjects() {
+                    return this == METAMODEL_AND_DOMAIN_OBJECTS;
+                }
+            }
+
+            /**
+             * Whether to emit (weak) <code>ETag</code> headers and to answer conditional <code>GET</code> requests
+             * (using <code>If-None-Match</code>) with <i>Not Modified</i> (304), without rendering the
+             * representation.
+             *
+             * <p>
+             *     The entity tags are specific to the current user (including roles), locale and time zone.
+             * </p>
+             *
+             * <p>
+             *     Disabled by default, as the entity tags do not reflect permission changes at runtime;
+             *     see {@link EtagPolicy#METAMODEL}.
+             * </p>
+             */
+            private EtagPolicy etagPolicy = EtagPolicy.DISABLED;
+
             /**
              * When rendering domain objects, if set the representation returned is stripped back to a minimal set,
              * excluding links to actions and collections and with a simplified representation of an object's
@@ -2029,6 +2196,26 @@ public static class Authentication {
              */
             private boolean objectPropertyValuesOnly = false;
 
+            /**
+             * If set, representations are written directly to the response's output stream (rather than first
+             * being serialized to a string), and the elements of lists and of collections are rendered one
+             * by one while being written, rather than up-front.
+             *
+             * <p>
+             *     Only elements rendered as links are deferred; elements rendered in full (as per followed links
+             *     or {@link #isHonorUiHints() UI hints}) are still rendered up-front, as which object gets rendered
+             *     in full depends on the order of rendering. Hence the JSON produced is the same either way,
+             *     however peak memory is much reduced for large lists of links.
+             * </p>
+             *
+             * <p>
+             *     The trade-off is that a failure while rendering an element can no longer be reported as an
+             *     error representation, as by then the response has been committed; hence this is disabled by
+             *     default.
+             * </p>
+             */
+            private boolean streamingRendering = false;
+
             /**
              * If set, then any unrecognised <code>Accept</code> headers will result in an HTTP <i>Not Acceptable</i>
              * response code (406).
@@ -2875,6 +3062,23 @@ public enum MultipleExecutionStrategy {
     @Data
     public static class Extensions {
 
+        private final AuditTrail auditTrail = new AuditTrail();
+        @Data
+        public static class AuditTrail {
+
+            /**
+             * The number of audit trail entries persisted before the transaction is flushed, when persisting all
+             * of the property changes of a transaction in bulk.
+             *
+             * <p>
+             *     Flushing in chunks (rather than once per entry) reduces the number of flushes, each of which has
+             *     the underlying ORM check all entities of its persistence context for changes.
+             * </p>
+             */
+            @Min(value = 1)
+            private int persistBatchSize = 500;
+        }
+
         private final CommandLog commandLog = new CommandLog();
         @Data
         public static class CommandLog {
@@ -2904,6 +3108,36 @@ public enum PublishPolicy {
             @Getter @Setter
             private PublishPolicy publishPolicy = PublishPolicy.ALWAYS;
 
+            private final RunBackgroundCommands runBackgroundCommands = new RunBackgroundCommands();
+            @Data
+            public static class RunBackgroundCommands {
+
+                /**
+                 * Number of worker threads used to execute background commands.
+                 *
+                 * <p>
+                 *     Commands are partitioned by their target, such that commands against the same target object
+                 *     are always executed one after another, in the order they were submitted.  With a single
+                 *     worker thread (the default), all commands are executed in the order they were submitted, on
+                 *     the thread of the background job itself.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int workerThreads = 1;
+
+                /**
+                 * Maximum number of not yet started background commands to claim at a time.
+                 *
+                 * <p>
+                 *     Commands are claimed (atomically marked as started), such that background jobs running on
+                 *     several nodes can share the load.  The job keeps claiming batches until no more commands
+                 *     are left.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int batchSize = 100;
+            }
+
         }
 
         private final CommandReplay commandReplay = new CommandReplay();
@@ -3094,6 +3328,14 @@ public static class RestApi {
                 @Min(value = 1)
                 @Max(value = 1000)
                 private int maxPending = 100;
+
+                /**
+                 * The maximum number of interactions that will be returned when the REST API is polled for a batch
+                 * of pending interactions, irrespective of the limit requested by the caller.
+                 */
+                @Min(value = 1)
+                @Max(value = 10000)
+                private int maxBatchSize = 1000;
             }
         }
 
@@ -3298,6 +3540,36 @@ public enum PermissionsEvaluationPolicy {
              */
             private PermissionsEvaluationPolicy permissionsEvaluationPolicy = PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
 
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * The maximum number of users, for which the resolved permissions (and the grant decisions
+                 * derived from these) are cached application-wide.
+                 *
+                 * <p>
+                 *     Cached permissions are discarded, whenever changes to any of secman's
+                 *     <code>ApplicationUser</code>, <code>ApplicationRole</code> or <code>ApplicationPermission</code>
+                 *     entities are published (as per entity change publishing).
+                 *     For this purpose these entities have entity change publishing enabled, hence any other
+                 *     entity change subscribers (eg. audit trail) also receive their changes.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int maxSize = 1000;
+
+                /**
+                 * How long cached permissions of a user are kept, before being reloaded from the database.
+                 *
+                 * <p>
+                 *     This bounds staleness for changes that are not observed by this application instance,
+                 *     eg. changes made directly to the database or by another node of a cluster.
+                 * </p>
+                 */
+                private Duration expiry = Duration.ofMinutes(5);
+            }
+
             private final UserRegistration userRegistration = new UserRegistration();
             @Data
             public static class UserRegistration {
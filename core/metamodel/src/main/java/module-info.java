@@ -41,6 +41,7 @@
     exports org.apache.causeway.core.metamodel.facets.members.cssclassfa.annotprop;
     exports org.apache.causeway.core.metamodel.facets.members.cssclassfa;
     exports org.apache.causeway.core.metamodel.facets.members.disabled;
+    exports org.apache.causeway.core.metamodel.facets.members.hidden.method;
     exports org.apache.causeway.core.metamodel.facets.members.layout.group;
     exports org.apache.causeway.core.metamodel.facets.members.publish.command;
     exports org.apache.causeway.core.metamodel.facets.members.publish.execution;
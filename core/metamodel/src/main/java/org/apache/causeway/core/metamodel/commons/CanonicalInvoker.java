@@ -43,6 +43,9 @@
  * <p>
  * We do this for collection parameter types List, Set, SortedSet, Collection, Can, Arrays
  * missing arguments and primitives that are not initialized.
+ * <p>
+ * Method invocation (with default parameter adaption) is delegated to {@link CompiledInvoker},
+ * which binds each method once to a {@link java.lang.invoke.MethodHandle}.
  */
 @UtilityClass
 public class CanonicalInvoker {
@@ -93,27 +96,30 @@ public void invokeAll(final Iterable<Method> methods, final Object object) {
     }
 
     public Object invoke(
-            final Method method,
-            final Object targetPojo) {
-        return invoke(MethodInvocationRequest.builder()
-                .method(method)
-                .targetPojo(targetPojo)
-                .build());
+            final @NonNull Method method,
+            final @NonNull Object targetPojo) {
+        return CompiledInvoker.forMethod(method)
+                .invoke(targetPojo, null);
     }
 
     public Object invoke(
-            final Method method,
-            final Object targetPojo,
+            final @NonNull Method method,
+            final @NonNull Object targetPojo,
             final @Nullable Object[] executionParameters) {
-        return invoke(MethodInvocationRequest.builder()
-                .method(method)
-                .targetPojo(targetPojo)
-                .params(executionParameters)
-                .build());
+        return CompiledInvoker.forMethod(method)
+                .invoke(targetPojo, executionParameters);
     }
 
     public Object invoke(final MethodInvocationRequest invocationRequest) {
 
+        if(invocationRequest.getParameterAdapter() == ParameterAdapter.DEFAULT) {
+            // optimization: uses a method handle and parameter adaption decided once per method
+            return invoke(
+                    invocationRequest.getMethod(),
+                    invocationRequest.getTargetPojo(),
+                    invocationRequest.getParams());
+        }
+
         val adaptedExecutionParameters = invocationRequest.getAdaptedParameters();
 
         // supports effective private methods as well
@@ -131,7 +137,7 @@ public Object invoke(final MethodInvocationRequest invocationRequest) {
 
     // -- HELPER
 
-    private Throwable toVerboseException(
+    Throwable toVerboseException(
             final Executable executable,
             final Object[] adaptedExecutionParameters,
             final Throwable e) {
@@ -0,0 +1,219 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal._Constants;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * Helper for {@link CanonicalInvoker}.
+ * <p>
+ * Binds a {@link Method} once into a spreading {@link MethodHandle}
+ * of shape {@code (Object target, Object[] args) -> Object}, and decides once per method,
+ * which of its parameters (if any) require adaption by the {@link ParameterAdapter#DEFAULT}.
+ * <p>
+ * Falls back to reflective invocation, in case a {@link MethodHandle} cannot be obtained,
+ * eg. because the declaring class is not accessible.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor
+final class CompiledInvoker {
+
+    // -- FACTORY
+
+    /**
+     * Weakly associated with the method's declaring class, such that classes can be unloaded.
+     */
+    private static final ClassValue<Map<Method, CompiledInvoker>> invokersByDeclaringClass =
+            new ClassValue<Map<Method, CompiledInvoker>>() {
+                @Override protected Map<Method, CompiledInvoker> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    static CompiledInvoker forMethod(final @NonNull Method method) {
+        return invokersByDeclaringClass.get(method.getDeclaringClass())
+                .computeIfAbsent(method, CompiledInvoker::compile);
+    }
+
+    // -- FIELDS
+
+    private static enum ParamAdaption {
+        /** passed on as is */
+        NONE,
+        /** {@code null} replaced by the primitive's default */
+        PRIMITIVE,
+        /** always adapted (defensive copy) */
+        COLLECTION;
+    }
+
+    private final @NonNull Method method;
+    private final @NonNull Class<?>[] parameterTypes;
+    private final @NonNull ParamAdaption[] paramAdaptions;
+    private final boolean anyCollectionParam;
+    /** {@code null} when falling back to reflective invocation */
+    private final @Nullable MethodHandle methodHandle;
+
+    // -- INVOKE
+
+    @SneakyThrows
+    Object invoke(final @NonNull Object targetPojo, final @Nullable Object[] executionParameters) {
+
+        val adaptedExecutionParameters = adaptAll(executionParameters);
+
+        if(methodHandle==null) {
+            // supports effective private methods as well
+            return _Reflect.invokeMethodOn(method, targetPojo, adaptedExecutionParameters)
+            .mapFailure(ex->CanonicalInvoker.toVerboseException(method, adaptedExecutionParameters, ex))
+            .ifFailureFail()
+            .getValue().orElse(null);
+        }
+
+        try {
+            return (Object) methodHandle.invokeExact(targetPojo, adaptedExecutionParameters);
+        } catch (ClassCastException ex) {
+            // either thrown by the method itself or a param-type mismatch,
+            // the latter corresponds to the IllegalArgumentException thrown by reflective invocation
+            throw CanonicalInvoker.toVerboseException(method, adaptedExecutionParameters,
+                    isCompatible(targetPojo, adaptedExecutionParameters)
+                        ? ex
+                        : new IllegalArgumentException("argument type mismatch", ex));
+        } catch (Throwable ex) {
+            throw CanonicalInvoker.toVerboseException(method, adaptedExecutionParameters, ex);
+        }
+    }
+
+    // -- HELPER
+
+    private Object[] adaptAll(final @Nullable Object[] executionParameters) {
+        final int paramCount = parameterTypes.length;
+        if(paramCount==0) {
+            return _Constants.emptyObjects;
+        }
+        if(!needsAdaption(executionParameters)) {
+            return executionParameters; // optimization: no need to copy
+        }
+        val adaptedExecutionParameters = new Object[paramCount];
+        final int argCount = executionParameters!=null
+                ? executionParameters.length
+                : 0;
+        for(int i=0; i<paramCount; ++i) {
+            val origParam = i<argCount
+                    ? executionParameters[i]
+                    : null;
+            adaptedExecutionParameters[i] = paramAdaptions[i] == ParamAdaption.NONE
+                    ? origParam
+                    : ParameterAdapter.DEFAULT.adaptToType(parameterTypes[i], origParam);
+        }
+        return adaptedExecutionParameters;
+    }
+
+    private boolean needsAdaption(final @Nullable Object[] executionParameters) {
+        if(anyCollectionParam
+                || executionParameters==null
+                || executionParameters.length!=parameterTypes.length) {
+            return true;
+        }
+        for(int i=0; i<paramAdaptions.length; ++i) {
+            if(paramAdaptions[i] == ParamAdaption.PRIMITIVE
+                    && executionParameters[i]==null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isCompatible(final Object targetPojo, final Object[] adaptedExecutionParameters) {
+        if(!Modifier.isStatic(method.getModifiers())
+                && !method.getDeclaringClass().isInstance(targetPojo)) {
+            return false;
+        }
+        for(int i=0; i<parameterTypes.length; ++i) {
+            val arg = adaptedExecutionParameters[i];
+            if(arg!=null
+                    && !parameterTypes[i].isInstance(arg)
+                    && !ClassExtensions.equalsWhenBoxing(arg.getClass(), parameterTypes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CompiledInvoker compile(final Method method) {
+        val parameterTypes = method.getParameterTypes();
+        val paramAdaptions = new ParamAdaption[parameterTypes.length];
+        boolean anyCollectionParam = false;
+        for(int i=0; i<parameterTypes.length; ++i) {
+            val parameterType = parameterTypes[i];
+            if(parameterType.isPrimitive()) {
+                paramAdaptions[i] = ParamAdaption.PRIMITIVE;
+            } else if(ProgrammingModelConstants.CollectionSemantics.valueOf(parameterType).isPresent()) {
+                paramAdaptions[i] = ParamAdaption.COLLECTION;
+                anyCollectionParam = true;
+            } else {
+                paramAdaptions[i] = ParamAdaption.NONE;
+            }
+        }
+        return new CompiledInvoker(method, parameterTypes, paramAdaptions, anyCollectionParam,
+                spreadingMethodHandle(method));
+    }
+
+    /**
+     * @return {@code (Object target, Object[] args) -> Object} or {@code null} if not accessible
+     */
+    @Nullable
+    private static MethodHandle spreadingMethodHandle(final Method method) {
+        try {
+            val declaringClass = method.getDeclaringClass();
+            val lookup = Modifier.isPublic(method.getModifiers())
+                    && Modifier.isPublic(declaringClass.getModifiers())
+                        ? MethodHandles.publicLookup()
+                        : MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+
+            MethodHandle mh = lookup.unreflect(method).asFixedArity();
+            if(Modifier.isStatic(method.getModifiers())) {
+                mh = MethodHandles.dropArguments(mh, 0, Object.class); // ignore the target
+            }
+            return mh
+                    .asType(mh.type().generic()) // void returns become null
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null; // fallback to reflective invocation
+        }
+    }
+
+}
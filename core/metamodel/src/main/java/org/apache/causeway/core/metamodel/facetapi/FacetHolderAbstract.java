@@ -18,18 +18,18 @@
  */
 package org.apache.causeway.core.metamodel.facetapi;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.apache.causeway.applib.Identifier;
-import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 
 import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +38,6 @@
 /**
  * For base subclasses or, more likely, to help write tests.
  */
-@AllArgsConstructor
 @RequiredArgsConstructor
 //@Log4j2
 abstract class FacetHolderAbstract
@@ -54,11 +53,25 @@
     private final Map<Class<? extends Facet>, FacetRanking> rankingByType = _Maps.newHashMap();
     private final Object $lock = new Object();
 
+    /**
+     * Immutable (never modified once published) facet table, holding the winning facet per facet type.
+     * <p>
+     * Reads are lock-free, writes are copy-on-write: any facet addition that changes a winner
+     * invalidates the table, which then gets republished on next read.
+     * (Facets do not change once the metamodel is fully introspected, except when specifications are reloaded.)
+     */
+    private volatile Map<Class<? extends Facet>, Facet> snapshot;
+
+    protected FacetHolderAbstract(
+            final @NonNull MetaModelContext metaModelContext,
+            final Identifier featureIdentifier) {
+        this(metaModelContext);
+        this.featureIdentifier = featureIdentifier;
+    }
+
     @Override
     public final boolean containsFacet(final Class<? extends Facet> facetType) {
-        synchronized($lock) {
-            return snapshot.get().containsKey(facetType);
-        }
+        return snapshot().containsKey(facetType);
     }
 
     @Override
@@ -68,7 +81,7 @@ public final void addFacet(final @NonNull Facet facet) {
             val ranking = rankingByType.computeIfAbsent(facet.facetType(), FacetRanking::new);
             val needsInvalidate = ranking.add(facet);
             if(needsInvalidate) {
-                snapshot.clear(); //invalidate
+                snapshot = null; //invalidate
             }
         }
     }
@@ -77,24 +90,17 @@ public final void addFacet(final @NonNull Facet facet) {
     // which potentially leads to inconsistent behavior with facet and facet-ranking streaming
     @Override
     public /*final*/ <T extends Facet> T getFacet(final Class<T> facetType) {
-        synchronized($lock) {
-            return uncheckedCast(snapshot.get().get(facetType));
-        }
+        return uncheckedCast(snapshot().get(facetType));
     }
 
     @Override
     public final Stream<Facet> streamFacets() {
-        synchronized($lock) {
-            // consumers should play nice and don't take too long (as we have a lock)
-            return snapshot.get().values().stream();
-        }
+        return snapshot().values().stream();
     }
 
     @Override
     public final int getFacetCount() {
-        synchronized($lock) {
-            return snapshot.get().size();
-        }
+        return snapshot().size();
     }
 
     // -- VALIDATION SUPPORT
@@ -111,11 +117,25 @@ public final Optional<FacetRanking> getFacetRanking(final Class<? extends Facet>
 
     // -- HELPER
 
-    private final _Lazy<Map<Class<? extends Facet>, Facet>> snapshot = _Lazy.threadSafe(this::snapshot);
+    private Map<Class<? extends Facet>, Facet> snapshot() {
+        // fast path: lock-free
+        val published = snapshot;
+        if(published!=null) {
+            return published;
+        }
+        synchronized($lock) {
+            val current = snapshot;
+            if(current!=null) {
+                return current;
+            }
+            return snapshot = createSnapshot();
+        }
+    }
 
     // collect all facet information provided with the top-level facets (contributed facets and aliases)
-    private Map<Class<? extends Facet>, Facet> snapshot() {
-        val snapshot = _Maps.<Class<? extends Facet>, Facet>newHashMap();
+    private Map<Class<? extends Facet>, Facet> createSnapshot() {
+        // facet types are classes, so identity semantics suffice
+        val snapshot = new IdentityHashMap<Class<? extends Facet>, Facet>(rankingByType.size() * 2);
         rankingByType.values()
         .stream()
         .map(facetRanking->facetRanking.getWinner(facetRanking.facetType()))
@@ -128,7 +148,7 @@ private Map<Class<? extends Facet>, Facet> snapshot() {
                     winningFacet);
 
         });
-        return snapshot;
+        return Collections.unmodifiableMap(snapshot);
     }
 
 
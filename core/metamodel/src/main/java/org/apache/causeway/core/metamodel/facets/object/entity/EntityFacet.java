@@ -19,6 +19,8 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -40,6 +42,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
+import lombok.val;
 
 /**
  * Indicates that this class is managed by a persistence context.
@@ -136,12 +139,37 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
     }
 
 
+    /**
+     * Optionally the version (as used for optimistic locking) of given entity pojo,
+     * based on whether its type declares a version and it is persistent.
+     */
+    default Optional<Object> versionOf(final @Nullable Object pojo) {
+        return Optional.empty();
+    }
+
     /**
      * Optionally the entity pojo corresponding to given {@link Bookmark},
      * based on whether could be found.
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #fetchByBookmark(Bookmark)}, for {@link Bookmark}s of the entity type
+     * this facet is associated with.
+     *
+     * @return the entity pojos that could be found, keyed by their {@link Bookmark};
+     *      those that could not be found have no entry
+     * @implNote the default implementation fetches one at a time,
+     *      implementations are encouraged to fetch with as few queries as possible
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        val entityPojoByBookmark = new HashMap<Bookmark, Object>(bookmarks.size());
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(entityPojo->entityPojoByBookmark.put(bookmark, entityPojo)));
+        return entityPojoByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
     void persist(Object pojo);
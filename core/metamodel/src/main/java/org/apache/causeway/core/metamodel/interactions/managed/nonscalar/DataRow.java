@@ -18,14 +18,21 @@
  */
 package org.apache.causeway.core.metamodel.interactions.managed.nonscalar;
 
+import java.util.Locale;
 import java.util.UUID;
 
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Bindables.BooleanBindable;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
 
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.val;
 
 public class DataRow {
 
@@ -63,4 +70,40 @@ public ManagedObject getCellElement(final @NonNull DataColumn column) {
         return column.getPropertyMetaModel().get(getRowElement());
     }
 
+    // -- SEARCH SUPPORT
+
+    /**
+     * Title and column values (their titles), lower-cased, computed once.
+     */
+    private final _Lazy<String> searchableText = _Lazy.threadSafe(this::createSearchableText);
+
+    /**
+     * @param normalizedSearchTerm as produced by {@link #normalizeSearchTerm(String)}
+     */
+    boolean matchesSearchTerm(final @NonNull String normalizedSearchTerm) {
+        return searchableText.get().contains(normalizedSearchTerm);
+    }
+
+    /**
+     * @return lower-cased and trimmed search term or {@code null} if empty
+     */
+    @Nullable
+    static String normalizeSearchTerm(final @Nullable String searchArgument) {
+        return _Strings.isNullOrEmpty(searchArgument)
+                || searchArgument.isBlank()
+                ? null
+                : searchArgument.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String createSearchableText() {
+        val sb = new StringBuilder(rowElement.getTitle());
+        parentTable.getDataColumns().getValue().forEach(column->{
+            val cellElement = getCellElement(column);
+            if(!ManagedObjects.isNullOrUnspecifiedOrEmpty(cellElement)) {
+                sb.append('\n').append(cellElement.getTitle());
+            }
+        });
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
 }
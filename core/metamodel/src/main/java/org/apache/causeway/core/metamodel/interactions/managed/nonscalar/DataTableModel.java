@@ -19,11 +19,14 @@
 package org.apache.causeway.core.metamodel.interactions.managed.nonscalar;
 
 import java.io.Serializable;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
@@ -34,7 +37,6 @@
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
 import org.apache.causeway.commons.internal.binding._Observables.LazyObservable;
-import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.consent.InteractionResult;
@@ -50,8 +52,10 @@
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedMember;
 import org.apache.causeway.core.metamodel.interactions.managed.MultiselectChoices;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
 
 import lombok.AccessLevel;
@@ -101,6 +105,8 @@ public static DataTableModel forAction(
     @Getter private final @NonNull LazyObservable<Can<ManagedObject>> dataElements;
     @Getter private final @NonNull _BindableAbstract<String> searchArgument; // filter the data rows
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsFiltered;
+    private final @NonNull LazyObservable<Can<DataRow>> dataRowsVisible; // not filtered by searchArgument
+    private final @NonNull LazyObservable<Map<UUID, DataRow>> dataRowByUuid; // indexes the filtered data rows
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsSelected;
     @Getter private final _BindableAbstract<Boolean> selectAllToggle;
 
@@ -122,15 +128,32 @@ private DataTableModel(
 
         searchArgument = _Bindables.forValue(null);
 
-        dataRowsFiltered = _Observables.lazy(()->
+        // created only once, such that filtering does not recreate data rows (and their UUIDs)
+        dataRowsVisible = _Observables.lazy(()->
             dataElements.getValue().stream()
-                //XXX future extension: filter by searchArgument
                 .filter(this::ignoreHidden)
                 .sorted(managedMember.getMetaModel().getElementComparator()
                         .orElseGet(()->(a, b)->0)) // else don't sort (no-op comparator for streams)
                 .map(domainObject->new DataRow(this, domainObject))
                 .collect(Can.toCan()));
 
+        dataRowsFiltered = _Observables.lazy(this::filterBySearchArgument);
+
+        dataRowByUuid = _Observables.lazy(()->
+            dataRowsFiltered.getValue().stream()
+                .collect(Collectors.toMap(DataRow::getUuid, UnaryOperator.identity())));
+
+        // derived state is reset together with the data rows it was derived from
+        dataElements.addListener(__->dataRowsVisible.invalidate());
+        dataRowsVisible.addListener(__->{
+            lastSearchResult = null;
+            dataRowsFiltered.invalidate();
+        });
+        dataRowsFiltered.addListener(__->{
+            sortedDataRows = null;
+            dataRowByUuid.invalidate();
+        });
+
         dataRowsSelected = _Observables.lazy(()->
             dataRowsFiltered.getValue().stream()
             .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
@@ -184,12 +207,119 @@ public ObjectSpecification getElementType() {
         return getMetaModel().getElementType();
     }
 
-    private final Map<UUID, Optional<DataRow>> dataRowByUuidLookupCache = _Maps.newConcurrentHashMap();
+    /**
+     * Looks up a filtered data row by its UUID.
+     */
     public Optional<DataRow> lookupDataRow(final @NonNull UUID uuid) {
-        // lookup can be safely cached
-        return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsFiltered().getValue().stream()
-                .filter(dr->dr.getUuid().equals(uuid))
-                .findFirst());
+        return Optional.ofNullable(dataRowByUuid.getValue().get(uuid));
+    }
+
+    // -- FILTERING
+
+    @RequiredArgsConstructor
+    private static class SearchResult {
+        final @NonNull String searchTerm;
+        final @NonNull Can<DataRow> dataRows;
+    }
+
+    // in support of incremental filtering
+    private volatile SearchResult lastSearchResult;
+
+    /**
+     * Filters the visible data rows by the current {@link #getSearchArgument()},
+     * matching (case-insensitive) against each data row's searchable text.
+     * <p>
+     * When the search term got extended (new term contains the previous one), only the previous
+     * result is searched, as it already contains all candidates.
+     */
+    private Can<DataRow> filterBySearchArgument() {
+        val searchTerm = DataRow.normalizeSearchTerm(searchArgument.getValue());
+        if(searchTerm==null) {
+            lastSearchResult = null;
+            return dataRowsVisible.getValue();
+        }
+        val previous = lastSearchResult;
+        val candidates = previous!=null
+                && searchTerm.contains(previous.searchTerm)
+                    ? previous.dataRows
+                    : dataRowsVisible.getValue();
+        val dataRows = candidates.filter(dataRow->dataRow.matchesSearchTerm(searchTerm));
+        lastSearchResult = new SearchResult(searchTerm, dataRows);
+        return dataRows;
+    }
+
+    // -- SORTING
+
+    @RequiredArgsConstructor
+    private static class SortedDataRows {
+        final @NonNull Can<DataRow> dataRowsFiltered;
+        final @NonNull ObjectAssociation sortProperty;
+        final boolean ascending;
+        final @NonNull Can<DataRow> dataRowsSorted;
+        boolean isValidFor(
+                final Can<DataRow> dataRowsFiltered,
+                final ObjectAssociation sortProperty,
+                final boolean ascending) {
+            return this.dataRowsFiltered == dataRowsFiltered // identity check suffices
+                    && this.sortProperty == sortProperty
+                    && this.ascending == ascending;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class SortEntry {
+        final @NonNull DataRow dataRow;
+        final @Nullable ManagedObject sortKey;
+        static SortEntry of(final DataRow dataRow, final ObjectAssociation sortProperty) {
+            return new SortEntry(dataRow, sortProperty.get(dataRow.getRowElement(), InteractionInitiatedBy.FRAMEWORK));
+        }
+    }
+
+    private volatile SortedDataRows sortedDataRows;
+
+    /**
+     * Returns the filtered data rows, sorted by given property (if any).
+     * <p>
+     * The result is memoized and only recomputed when either the sort criteria or the filtered
+     * data rows change, hence paging through a sorted table does not re-sort on every page request.
+     * The memoized result is discarded together with the filtered data rows, that is, when either
+     * the search argument or the {@link #getDataElements() data elements} are invalidated.
+     * (Viewers render a new table model after property edits or action invocations anyway.)
+     * Also each data row's sort key (property value) is read only once per sort.
+     */
+    public Can<DataRow> getDataRowsFilteredAndSorted(
+            final @Nullable ObjectAssociation sortProperty,
+            final boolean ascending) {
+        val dataRows = dataRowsFiltered.getValue();
+        if(sortProperty==null
+                || dataRows.size()<2) {
+            return dataRows;
+        }
+        val memoized = sortedDataRows;
+        if(memoized!=null
+                && memoized.isValidFor(dataRows, sortProperty, ascending)) {
+            return memoized.dataRowsSorted;
+        }
+        val dataRowsSorted = sortByProperty(dataRows, sortProperty, ascending);
+        this.sortedDataRows = new SortedDataRows(dataRows, sortProperty, ascending, dataRowsSorted);
+        return dataRowsSorted;
+    }
+
+    private static Can<DataRow> sortByProperty(
+            final Can<DataRow> dataRows,
+            final ObjectAssociation sortProperty,
+            final boolean ascending) {
+        final Comparator<ManagedObject> naturalNullFirst = ManagedObjects::compare;
+        final Comparator<SortEntry> comparator = Comparator.comparing(
+                sortEntry->sortEntry.sortKey,
+                ascending
+                    ? naturalNullFirst
+                    : naturalNullFirst.reversed());
+        return dataRows.stream()
+                .map(dataRow->SortEntry.of(dataRow, sortProperty))
+                .sorted(comparator)
+                .map(sortEntry->sortEntry.dataRow)
+                .collect(Can.toCan());
     }
 
     // -- TOGGLE ALL
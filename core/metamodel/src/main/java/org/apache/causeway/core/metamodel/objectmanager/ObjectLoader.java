@@ -18,10 +18,15 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.handler.ChainOfResponsibility;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -30,6 +35,7 @@
 import org.apache.causeway.core.metamodel.facets.object.value.ValueSerializer.Format;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ProtoObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
 import lombok.val;
@@ -41,6 +47,45 @@ public interface ObjectLoader {
 
     ManagedObject loadObject(@NonNull ProtoObject objectLoadRequest);
 
+    /**
+     * Bulk variant of {@link #loadObject(ProtoObject)}, that fetches entities grouped by type,
+     * with (as supported by the persistence stack) a single query per type.
+     *
+     * @return the loaded objects, in order of given requests; entities that could not be found
+     *      are represented by {@link ManagedObject#empty(ObjectSpecification) empty} objects
+     */
+    default Can<ManagedObject> loadObjects(final @NonNull Can<ProtoObject> objectLoadRequests) {
+
+        val entityBookmarksBySpec = new LinkedHashMap<ObjectSpecification, List<Bookmark>>();
+        objectLoadRequests.forEach(objectLoadRequest->{
+            val spec = objectLoadRequest.getObjectSpecification();
+            if(spec.isEntity()) {
+                entityBookmarksBySpec.computeIfAbsent(spec, __->new ArrayList<>())
+                    .add(objectLoadRequest.getBookmark());
+            }
+        });
+
+        if(entityBookmarksBySpec.isEmpty()) {
+            return objectLoadRequests.map(this::loadObject);
+        }
+
+        val entityPojoByBookmark = new HashMap<Bookmark, Object>(objectLoadRequests.size());
+        entityBookmarksBySpec.forEach((spec, bookmarks)->
+            entityPojoByBookmark.putAll(
+                    spec.entityFacetElseFail().fetchByBookmarks(Can.ofCollection(bookmarks))));
+
+        return objectLoadRequests.map(objectLoadRequest->{
+            val spec = objectLoadRequest.getObjectSpecification();
+            if(!spec.isEntity()) {
+                return loadObject(objectLoadRequest);
+            }
+            val bookmark = objectLoadRequest.getBookmark();
+            return Optional.ofNullable(entityPojoByBookmark.get(bookmark))
+                    .map(entityPojo->ManagedObject.entity(spec, entityPojo, Optional.of(bookmark)))
+                    .orElseGet(()->ManagedObject.empty(spec));
+        });
+    }
+
     // -- HANDLER
 
     static interface Handler
@@ -30,6 +30,7 @@
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.ProtoObject;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
@@ -123,6 +124,44 @@ default ManagedObject loadObjectElseFail(final @NonNull Bookmark bookmark) {
         return adapter;
     }
 
+    /**
+     * Bulk variant of {@link #loadObject(Bookmark)}, that fetches entities grouped by type,
+     * with (as supported by the persistence stack) a single query per type.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     *
+     * @return the recovered objects, in order of given {@code bookmarks};
+     *      {@link ManagedObject#unspecified() unspecified} for a bookmark that cannot be resolved
+     *      to an {@link ObjectSpecification},
+     *      {@link ManagedObject#empty(ObjectSpecification) empty} for an entity that could not be found
+     * @see ObjectLoader#loadObjects(Can)
+     */
+    default Can<ManagedObject> loadObjects(final @NonNull Can<Bookmark> bookmarks) {
+        val specLoader = getMetaModelContext().getSpecificationLoader();
+        val protoObjects = bookmarks.map(bookmark->ProtoObject.resolve(specLoader, bookmark));
+        val loadedObjects = getObjectLoader()
+                .loadObjects(protoObjects.map(protoObject->protoObject.orElse(null)))
+                .iterator();
+        return protoObjects.map(protoObject->protoObject.isPresent()
+                ? loadedObjects.next()
+                : ManagedObject.unspecified());
+    }
+
+    /**
+     * As per {@link #loadObjects(Can)}, but fails if any of given {@code bookmarks} cannot be resolved
+     * to an object, eg. because the entity could not be found.
+     * @see #loadObjectElseFail(Bookmark)
+     */
+    default Can<ManagedObject> loadObjectsElseFail(final @NonNull Can<Bookmark> bookmarks) {
+        val adapters = loadObjects(bookmarks);
+        adapters.zip(bookmarks, (adapter, bookmark)->{
+            if(ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter)) {
+                throw _Exceptions.unrecoverable("failed to restore object from bookmark %s", bookmark);
+            }
+        });
+        return adapters;
+    }
+
     /**
      * Resolves injection-points for the result. (Handles service injection.)
      */
@@ -89,9 +89,12 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
 
             val elementSpec = getSpecificationLoader().specForLogicalTypeNameElseFail(memento.getLogicalTypeName());
 
-            val objects = objectMementoCollection.unwrapList().stream()
-                    .map(this::demementify)
-                    .collect(Can.toCan());
+            val mementos = Can.ofCollection(objectMementoCollection.unwrapList());
+
+            val objects = isBulkLoadable(mementos)
+                    // eg. a multi-select of entities, fetched with a single query per entity type
+                    ? loadObjectsElseFail(mementos.map(ObjectMemento::getBookmark))
+                    : mementos.map(this::demementify);
 
             return ManagedObject.packed(elementSpec, objects);
         }
@@ -105,6 +108,15 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
     }
 
 
+    // -- HELPER
+
+    private static boolean isBulkLoadable(final Can<ObjectMemento> mementos) {
+        return mementos.size() > 1
+                && mementos.stream()
+                    .allMatch(memento->memento instanceof ObjectMementoForScalar
+                            && ((ObjectMementoForScalar) memento).isRecreatedByLookup());
+    }
+
     // JUnit support
     public static ObjectManager forTesting(final MetaModelContext metaModelContext) {
         val objectManager = new ObjectManagerDefault(metaModelContext);
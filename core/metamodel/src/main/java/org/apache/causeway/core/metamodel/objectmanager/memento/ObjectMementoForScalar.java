@@ -145,6 +145,14 @@ public ManagedObject reconstructObject(final MetaModelContext mmc) {
         return recreateStrategy.recreateObject(this, mmc);
     }
 
+    /**
+     * Whether the object is recreated by looking it up by its {@link #getBookmark() bookmark}
+     * (as opposed to being recreated as a value), which allows for bulk loading.
+     */
+    public boolean isRecreatedByLookup() {
+        return recreateStrategy == _Recreatable.RecreateStrategy.LOOKUP;
+    }
+
     @Override
     public int hashCode() {
         return recreateStrategy.hashCode(this);
@@ -84,7 +84,8 @@ public interface ObjectLifecyclePublisher {
     void onPostPersist(ManagedObject entity);
 
     /**
-     * Called by both JPA and JDO (though JDO does <i>not</i> provide any changeRecords).
+     * Called by both JPA and JDO (though JDO does <i>not</i> provide any changeRecords at this point, as the entity
+     * is about to be modified for the first time; see instead {@link #onUpdateFlushing(ManagedObject, Can)}).
      *
      * <p>
      *     Default implementation fires callbacks and enlists the entity within <code>EntityChangeTracker</code>
@@ -92,10 +93,27 @@ public interface ObjectLifecyclePublisher {
      * </p>
      *
      * @param entity
-     * @param changeRecords - optional parameter to provide the pre-computed {@link PropertyChangeRecord}s from the ORM.  JPA does this, JDO does not.
+     * @param changeRecords - optional parameter to provide the pre-computed {@link PropertyChangeRecord}s from the ORM;
+     *      if <code>null</code> then the pre-values of all properties are captured (by the <code>EntityChangeTracker</code>)
+     *      instead.
      */
     void onPreUpdate(ManagedObject entity, @Nullable Can<PropertyChangeRecord> changeRecords);
 
+    /**
+     * Called by JDO, just before an updated entity is flushed to the database, to provide the
+     * {@link PropertyChangeRecord}s of those properties actually modified (as tracked by the ORM) since
+     * {@link #onPreUpdate(ManagedObject, Can)} was called.
+     *
+     * <p>
+     *     Default implementation enlists the change records within <code>EntityChangeTracker</code>; no callbacks
+     *     are fired.
+     * </p>
+     *
+     * @param entity
+     * @param changeRecords
+     */
+    void onUpdateFlushing(ManagedObject entity, Can<PropertyChangeRecord> changeRecords);
+
     /**
      * Called by both JPA and JDO, after an existing entity has been updated.
      *
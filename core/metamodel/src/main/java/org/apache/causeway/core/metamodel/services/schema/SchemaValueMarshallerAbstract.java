@@ -323,13 +323,11 @@ protected Can<ManagedObject> recoverCollectionOfReferences(
             return Can.empty();
         }
 
-        val elementDtos = collectionDto.getValue();
-        val list = new ArrayList<ManagedObject>(elementDtos.size());
-
-        for(val elementDto : elementDtos) {
-            list.add(recoverReferenceFrom(elementDto.getReference()));
-        }
-        return Can.ofCollection(list);
+        val bookmarks = collectionDto.getValue().stream()
+                .map(elementDto->Bookmark.forOidDto(elementDto.getReference()))
+                .collect(Can.toCan());
+        // fetches entities with a single query per entity type
+        return getObjectManager().loadObjectsElseFail(bookmarks);
     }
 
     private ManagedObject recoverValueOrReference(
@@ -20,13 +20,13 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.collections.Can;
-import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections.snapshot._VersionedList;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
@@ -34,35 +34,44 @@
 import lombok.val;
 
 
+/**
+ * Reads of already cached specifications are lock-free, while any structural changes to the cache
+ * (additions, removals) are coordinated through a single monitor.
+ * <p>
+ * We don't coordinate per class here, as the mapping function (specification creation) might
+ * recursively request specifications of other types, which with per class locks could
+ * result in a dead-lock. Specification creation is cheap anyway, the expensive introspection is
+ * done outside of the cache (via {@link ObjectSpecification#introspectUpTo}).
+ */
 class SpecificationCacheDefault<T extends ObjectSpecification> implements SpecificationCache<T> {
 
-    private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+    private final Map<Class<?>, T> specByClass = new ConcurrentHashMap<>();
 
     // optimization: specialized list to keep track of any additions to the cache fast
     private final _VersionedList<T> vList = new _VersionedList<>();
 
+    private final Object $writeLock = new Object();
+
     @Override
     public Optional<T> lookup(final Class<?> cls) {
-        synchronized(this) {
-            return Optional.ofNullable(specByClass.get(cls));
-        }
+        return Optional.ofNullable(specByClass.get(cls));
     }
 
     @Override
     public T computeIfAbsent(
             final Class<?> cls,
             final Function<Class<?>, T> mappingFunction) {
-        synchronized(this) {
+        // fast path: lock-free
+        final T existing = specByClass.get(cls);
+        if(existing!=null) {
+            return existing;
+        }
+        synchronized($writeLock) {
+            // double check, some other thread might have won the race
             T spec = specByClass.get(cls);
             if(spec==null) {
                 spec = mappingFunction.apply(cls);
                 internalPut(spec);
-
-//debug
-//                if(cls.getSimpleName().equals("MarkupStream")) {
-//                    System.out.println("!!! MarkupStream");
-//                }
-
             }
             return spec;
         }
@@ -70,7 +79,7 @@ public T computeIfAbsent(
 
     @Override
     public void clear() {
-        synchronized(this) {
+        synchronized($writeLock) {
             specByClass.clear();
             vList.clear();
         }
@@ -78,14 +87,12 @@ public void clear() {
 
     @Override
     public Can<T> snapshotSpecs() {
-        synchronized(this) {
-            return Can.ofCollection(specByClass.values());
-        }
+        return Can.ofCollection(specByClass.values());
     }
 
     @Override
     public T remove(@NonNull final Class<?> cls) {
-        synchronized(this) {
+        synchronized($writeLock) {
             final T removed = specByClass.remove(cls);
             if(removed!=null) {
                 vList.clear(); // invalidate
@@ -107,6 +114,7 @@ public void forEach(final Consumer<T> onSpec) {
 
     // -- HELPER
 
+    /** @implNote only call within synchronized($writeLock) block! */
     private void internalPut(@Nullable final T spec) {
         if(spec==null) {
             return;
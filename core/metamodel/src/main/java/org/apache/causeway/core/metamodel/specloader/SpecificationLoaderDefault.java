@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.specloader;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -308,15 +309,35 @@ public void createMetaModel() {
 
         _Util.logAfter(log, cache, knownSpecs);
 
-        if(isFullIntrospect()) {
+        val snapshotConfig = causewayConfiguration.getCore().getMetaModel().getSnapshot();
+        val snapshotFile = new File(snapshotConfig.getFile());
+        val metamodelSnapshot = isFullIntrospect()
+                && snapshotConfig.isEnabled()
+                ? _MetamodelSnapshot.of(
+                        cache.snapshotSpecs(), programmingModel, serviceRegistry, causewayConfiguration.getEnvironment())
+                : null;
+        val isVerifiedBySnapshot = metamodelSnapshot!=null
+                && metamodelSnapshot.isVerifiedBy(snapshotFile);
+
+        if(isFullIntrospect()
+                && !isVerifiedBySnapshot) {
             val snapshot = cache.snapshotSpecs();
             log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
             introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
             introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
         }
 
-        log.info(" - running remaining validators");
-        _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+        if(isVerifiedBySnapshot) {
+            log.info(" - skipping eager introspection and validators, verified by metamodel snapshot {}", snapshotFile);
+            validationResult.set(validationFailures); // those (if any) collected during introspection
+        } else {
+            log.info(" - running remaining validators");
+            _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+            if(metamodelSnapshot!=null
+                    && !getOrAssessValidationResult().hasFailures()) {
+                metamodelSnapshot.write(snapshotFile);
+            }
+        }
 
         stopWatch.stop();
         log.info("Metamodel created in " + stopWatch.getMillis() + " ms.");
@@ -0,0 +1,314 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.hash._Hashes;
+import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Snapshot of a fully introspected and successfully validated metamodel, identified by a fingerprint
+ * over
+ * <ul>
+ * <li>the bytecode of all introspected types, their supertypes and the (library) types their public methods
+ * refer to, as well as of the programming model,</li>
+ * <li>the <code>.layout.xml</code> (grid) resources residing in any of those types' packages,</li>
+ * <li>the composition of registered (Spring) beans and</li>
+ * <li>the <code>causeway.*</code> configuration.</li>
+ * </ul>
+ *
+ * @see org.apache.causeway.core.config.CausewayConfiguration.Core.MetaModel.Snapshot
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+class _MetamodelSnapshot {
+
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String TYPE_KEY_PREFIX = "type.";
+
+    private static final ResourcePatternResolver RESOURCE_RESOLVER = new PathMatchingResourcePatternResolver();
+
+    @NonNull String fingerprint;
+
+    /**
+     * class name and bean sort, by logical type name
+     */
+    @NonNull Map<String, String> types;
+
+    static _MetamodelSnapshot of(
+            final @NonNull Can<ObjectSpecification> specs,
+            final @NonNull ProgrammingModel programmingModel,
+            final @NonNull ServiceRegistry serviceRegistry,
+            final @NonNull ConfigurableEnvironment environment) {
+
+        val digest = _Hashes.Algorithm.SHA256.getMessageDigest()
+                .orElseThrow(()->new IllegalStateException("SHA-256 not supported"));
+
+        update(digest, System.getProperty("java.version"));
+
+        val types = new TreeSet<Class<?>>(Comparator.comparing(Class::getName));
+        specs.forEach(spec->collectWithSupertypesAndSignatureTypes(types, spec.getCorrespondingClass()));
+        serviceRegistry.streamRegisteredBeans()
+            .forEach(bean->collectWithSupertypesAndSignatureTypes(types, bean.getBeanClass()));
+        Stream.of(
+                programmingModel.streamFactories(),
+                programmingModel.streamValidators(),
+                programmingModel.streamPostProcessors())
+        .flatMap(s->s)
+        .forEach(programmingModelElement->types.add(programmingModelElement.getClass()));
+
+        types.forEach(type->{
+            update(digest, type.getName());
+            updateWithBytecode(digest, type);
+        });
+
+        types.stream()
+        .filter(type->type.getClassLoader()!=null)
+        .map(type->type.getPackageName().replace('.', '/'))
+        .distinct()
+        .sorted()
+        .forEach(packagePath->updateWithLayoutResources(digest, packagePath));
+
+        serviceRegistry.streamRegisteredBeans()
+        .map(bean->bean.getId() + ":" + bean.getBeanClass().getName())
+        .sorted()
+        .forEach(bean->update(digest, bean));
+
+        causewayPropertyNames(environment)
+        .forEach(propertyName->
+            update(digest, propertyName + "=" + environment.getProperty(propertyName)));
+
+        val typesByLogicalTypeName = new TreeMap<String, String>();
+        specs.forEach(spec->
+            typesByLogicalTypeName.put(spec.getLogicalTypeName(),
+                    spec.getCorrespondingClass().getName() + ":" + spec.getBeanSort().name()));
+
+        return new _MetamodelSnapshot(hex(digest.digest()), typesByLogicalTypeName);
+    }
+
+    /**
+     * Whether given {@code file} holds a snapshot equal to this one.
+     */
+    boolean isVerifiedBy(final @NonNull File file) {
+        val persisted = read(file).orElse(null);
+        if(persisted == null) {
+            return false;
+        }
+        if(!this.equals(persisted)) {
+            log.info(" - metamodel snapshot {} is stale ({} types, now {})",
+                    file, persisted.getTypes().size(), types.size());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes this snapshot to given {@code file} (atomically, if supported by the file system).
+     */
+    void write(final @NonNull File file) {
+        val properties = new Properties();
+        properties.setProperty(FINGERPRINT_KEY, fingerprint);
+        types.forEach((logicalTypeName, type)->
+            properties.setProperty(TYPE_KEY_PREFIX + logicalTypeName, type));
+        try {
+            val dir = file.getAbsoluteFile().getParentFile();
+            val tempFile = File.createTempFile(file.getName(), ".tmp", dir);
+            try(OutputStream out = Files.newOutputStream(tempFile.toPath())) {
+                properties.store(out, "Causeway metamodel snapshot");
+            }
+            Files.move(tempFile.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info(" - written metamodel snapshot {} ({} types)", file, types.size());
+        } catch (IOException e) {
+            log.warn("failed to write metamodel snapshot {}", file, e);
+        }
+    }
+
+    // -- HELPER
+
+    private static Optional<_MetamodelSnapshot> read(final File file) {
+        if(!file.isFile()) {
+            return Optional.empty();
+        }
+        val properties = new Properties();
+        try(InputStream in = Files.newInputStream(file.toPath())) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.warn("failed to read metamodel snapshot {}", file, e);
+            return Optional.empty();
+        }
+        val fingerprint = properties.getProperty(FINGERPRINT_KEY);
+        if(fingerprint == null) {
+            return Optional.empty();
+        }
+        val types = new TreeMap<String, String>();
+        properties.stringPropertyNames().stream()
+        .filter(key->key.startsWith(TYPE_KEY_PREFIX))
+        .forEach(key->types.put(key.substring(TYPE_KEY_PREFIX.length()), properties.getProperty(key)));
+        return Optional.of(new _MetamodelSnapshot(fingerprint, types));
+    }
+
+    /**
+     * Adds given {@code type} with its supertypes, as well as the (raw) return and parameter types
+     * of its public methods with their supertypes, skipping JDK types.
+     */
+    private static void collectWithSupertypesAndSignatureTypes(final Set<Class<?>> types, final Class<?> type) {
+        collectWithSupertypes(types, type);
+        for(val method : type.getMethods()) {
+            collectWithSupertypes(types, method.getReturnType());
+            for(val paramType : method.getParameterTypes()) {
+                collectWithSupertypes(types, paramType);
+            }
+        }
+    }
+
+    private static void collectWithSupertypes(final Set<Class<?>> types, final @Nullable Class<?> type) {
+        if(!collect(types, type)) {
+            return; // already collected, including its supertypes
+        }
+        collectWithSupertypes(types, type.getSuperclass());
+        for(val interfaceType : type.getInterfaces()) {
+            collectWithSupertypes(types, interfaceType);
+        }
+    }
+
+    /**
+     * @return whether given {@code type} was added
+     */
+    private static boolean collect(final Set<Class<?>> types, final @Nullable Class<?> type) {
+        if(type == null
+                || type.isPrimitive()
+                || type.isArray()
+                || type.getClassLoader() == null) { // JDK types are covered by the Java version instead
+            return false;
+        }
+        return types.add(type);
+    }
+
+    /**
+     * Grid layouts are loaded relative to the domain type (or any of its supertypes), as eg.
+     * <code>Customer.layout.xml</code>, <code>Customer-variant.layout.xml</code> or
+     * <code>Customer.layout.fallback.xml</code>.
+     */
+    @SneakyThrows
+    private static void updateWithLayoutResources(final MessageDigest digest, final String packagePath) {
+        val resources = RESOURCE_RESOLVER.getResources("classpath*:" + packagePath + "/*.layout*");
+        Stream.of(resources)
+        .sorted(Comparator.comparing(Resource::getFilename, Comparator.nullsFirst(Comparator.naturalOrder())))
+        .forEach(resource->{
+            update(digest, packagePath + "/" + resource.getFilename());
+            updateWithContent(digest, resource);
+        });
+    }
+
+    @SneakyThrows
+    private static void updateWithContent(final MessageDigest digest, final Resource resource) {
+        try(InputStream in = resource.getInputStream()) {
+            updateWithContent(digest, in);
+        }
+    }
+
+    private static TreeSet<String> causewayPropertyNames(final ConfigurableEnvironment environment) {
+        val propertyNames = new TreeSet<String>();
+        environment.getPropertySources().forEach(propertySource->{
+            if(propertySource instanceof EnumerablePropertySource) {
+                for (val propertyName : ((EnumerablePropertySource<?>) propertySource).getPropertyNames()) {
+                    if(propertyName.startsWith("causeway.")) {
+                        propertyNames.add(propertyName);
+                    }
+                }
+            }
+        });
+        return propertyNames;
+    }
+
+    /**
+     * Types loaded by the bootstrap class loader (JDK types) are covered by the Java version instead.
+     */
+    @SneakyThrows
+    private static void updateWithBytecode(final MessageDigest digest, final Class<?> type) {
+        val classLoader = type.getClassLoader();
+        if(classLoader == null) {
+            return;
+        }
+        try(InputStream in = classLoader.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            if(in == null) {
+                return; // eg. generated at runtime
+            }
+            updateWithContent(digest, in);
+        }
+    }
+
+    private static void updateWithContent(final MessageDigest digest, final InputStream in) throws IOException {
+        val buffer = new byte[8192];
+        int read;
+        while((read = in.read(buffer)) > 0) {
+            digest.update(buffer, 0, read);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final @Nullable String string) {
+        digest.update(String.valueOf(string).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String hex(final byte[] bytes) {
+        val sb = new StringBuilder(bytes.length * 2);
+        for (val b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.val;
+
+class CanonicalInvokerTest {
+
+    static class Customer {
+        @Getter @Setter private String name;
+        @Getter private int age;
+        @Getter private List<String> tags;
+
+        public void updateAge(final int age) {
+            this.age = age;
+        }
+        public void updateTags(final List<String> tags) {
+            this.tags = tags;
+        }
+        @SuppressWarnings("unused")
+        private String greet(final String greeting) {
+            return greeting + " " + name;
+        }
+        public static String describe() {
+            return "customer";
+        }
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    @Test
+    void getterAndSetter() {
+        val customer = new Customer();
+        CanonicalInvoker.invoke(method("setName", String.class), customer, new Object[] {"Joe"});
+        assertEquals("Joe", CanonicalInvoker.invoke(method("getName"), customer));
+    }
+
+    @Test
+    void voidMethod_shouldReturnNull() {
+        assertNull(CanonicalInvoker.invoke(method("updateAge", int.class), new Customer(), new Object[] {42}));
+    }
+
+    @Test
+    void missingPrimitiveArg_shouldBeDefaulted() {
+        val customer = new Customer();
+        customer.updateAge(42);
+        CanonicalInvoker.invoke(method("updateAge", int.class), customer, new Object[] {null});
+        assertEquals(0, customer.getAge());
+        customer.updateAge(42);
+        CanonicalInvoker.invoke(method("updateAge", int.class), customer);
+        assertEquals(0, customer.getAge());
+    }
+
+    @Test
+    void collectionArg_shouldBeDefensivelyCopied() {
+        val customer = new Customer();
+        val tags = new ArrayList<String>(List.of("a", "b"));
+        CanonicalInvoker.invoke(method("updateTags", List.class), customer, new Object[] {tags});
+        tags.add("c");
+        assertEquals(List.of("a", "b"), customer.getTags());
+    }
+
+    @Test
+    void privateAndStaticMethods() {
+        val customer = new Customer();
+        customer.setName("Joe");
+        assertEquals("Hi Joe", CanonicalInvoker.invoke(method("greet", String.class), customer, new Object[] {"Hi"}));
+        assertEquals("customer", CanonicalInvoker.invoke(method("describe"), customer));
+    }
+
+    @Test
+    void exceptionThrownByMethod_shouldPropagate() {
+        val ex = assertThrows(Exception.class, ()->
+            CanonicalInvoker.invoke(method("fail"), new Customer()));
+        assertEquals("failed", rootCause(ex).getMessage());
+    }
+
+    @Test
+    void argTypeMismatch_shouldBeReportedVerbose() {
+        val ex = assertThrows(IllegalArgumentException.class, ()->
+            CanonicalInvoker.invoke(method("setName", String.class), new Customer(), new Object[] {42}));
+        assertEquals(true, ex.getMessage().contains("expected param type mismatch"));
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static java.lang.reflect.Method method(final String name, final Class<?>... paramTypes) {
+        return Customer.class.getDeclaredMethod(name, paramTypes);
+    }
+
+    private static Throwable rootCause(final Throwable ex) {
+        return ex.getCause()!=null
+                ? rootCause(ex.getCause())
+                : ex;
+    }
+
+}
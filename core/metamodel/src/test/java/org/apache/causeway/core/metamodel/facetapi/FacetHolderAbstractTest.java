@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facetapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+
+import lombok.val;
+
+class FacetHolderAbstractTest {
+
+    public static interface FooFacet extends Facet {
+    }
+
+    public static interface BarFacet extends Facet {
+    }
+
+    public static class ConcreteFacet extends FacetAbstract {
+        public ConcreteFacet(final Class<? extends Facet> facetType, final FacetHolder holder) {
+            super(facetType, holder);
+        }
+    }
+
+    private FacetHolder facetHolder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        facetHolder = FacetHolder.forTesting(MetaModelContext_forTesting.buildDefault());
+    }
+
+    @Test
+    void facetTable_shouldBeRepublished_whenFacetAdded() {
+        val fooFacet = new ConcreteFacet(FooFacet.class, facetHolder);
+        facetHolder.addFacet(fooFacet);
+
+        // publishes the facet table
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+        assertFalse(facetHolder.containsFacet(BarFacet.class));
+        assertEquals(1, facetHolder.getFacetCount());
+
+        val barFacet = new ConcreteFacet(BarFacet.class, facetHolder);
+        facetHolder.addFacet(barFacet);
+
+        // must see the republished facet table
+        assertTrue(facetHolder.containsFacet(BarFacet.class));
+        assertSame(barFacet, facetHolder.getFacet(BarFacet.class));
+        assertEquals(2, facetHolder.getFacetCount());
+        assertEquals(2, facetHolder.streamFacets().count());
+    }
+
+}
@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.specloader;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
@@ -111,4 +115,26 @@ public void getByObjectType_whenSet() {
         assertSame(objectSpec, customerSpec);
     }
 
+    @Test
+    public void computeIfAbsent_whenConcurrent_shouldCreateOnlyOnce() {
+
+        val creationCount = new AtomicInteger();
+
+        IntStream.range(0, 1000)
+        .parallel()
+        .forEach(__->{
+            val spec = specificationCache.computeIfAbsent(Customer.class, ___->{
+                creationCount.incrementAndGet();
+                return customerSpec;
+            });
+            assertSame(customerSpec, spec);
+        });
+
+        assertEquals(1, creationCount.get());
+
+        val vListSize = new AtomicInteger();
+        specificationCache.forEach(__->vListSize.incrementAndGet());
+        assertEquals(1, vListSize.get());
+    }
+
 }
@@ -0,0 +1,147 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.ioc._ManagedBeanAdapter;
+import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class _MetamodelSnapshotTest {
+
+    @TempDir File tempDir;
+
+    ObjectSpecification customerSpec;
+    ObjectSpecification orderSpec;
+    ProgrammingModel programmingModel;
+    ServiceRegistry serviceRegistry;
+    List<_ManagedBeanAdapter> registeredBeans;
+
+    static class Customer {}
+    static class Order {}
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @BeforeEach
+    void setUp() {
+        customerSpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(customerSpec.getCorrespondingClass()).thenReturn((Class)Customer.class);
+        Mockito.when(customerSpec.getLogicalTypeName()).thenReturn("test.Customer");
+        Mockito.when(customerSpec.getBeanSort()).thenReturn(BeanSort.ENTITY);
+
+        orderSpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(orderSpec.getCorrespondingClass()).thenReturn((Class)Order.class);
+        Mockito.when(orderSpec.getLogicalTypeName()).thenReturn("test.Order");
+        Mockito.when(orderSpec.getBeanSort()).thenReturn(BeanSort.VIEW_MODEL);
+
+        programmingModel = Mockito.mock(ProgrammingModel.class);
+        Mockito.when(programmingModel.streamFactories()).thenAnswer(__->Stream.empty());
+        Mockito.when(programmingModel.streamValidators()).thenAnswer(__->Stream.empty());
+        Mockito.when(programmingModel.streamPostProcessors()).thenAnswer(__->Stream.empty());
+
+        registeredBeans = new ArrayList<>();
+        serviceRegistry = Mockito.mock(ServiceRegistry.class);
+        Mockito.when(serviceRegistry.streamRegisteredBeans()).thenAnswer(__->registeredBeans.stream());
+    }
+
+    @Test
+    void when_written_then_verifies() {
+        val file = new File(tempDir, "metamodel.snapshot");
+        val snapshot = snapshot(Can.of(customerSpec, orderSpec), Map.of("causeway.foo", "bar"));
+
+        assertFalse(snapshot.isVerifiedBy(file));
+
+        snapshot.write(file);
+
+        assertTrue(snapshot.isVerifiedBy(file));
+        assertEquals(
+                "org.apache.causeway.core.metamodel.specloader._MetamodelSnapshotTest$Customer:ENTITY",
+                snapshot.getTypes().get("test.Customer"));
+    }
+
+    @Test
+    void is_independent_of_spec_order() {
+        assertEquals(
+                snapshot(Can.of(customerSpec, orderSpec), Map.of()),
+                snapshot(Can.of(orderSpec, customerSpec), Map.of()));
+    }
+
+    @Test
+    void when_types_change_then_stale() {
+        val file = new File(tempDir, "metamodel.snapshot");
+        snapshot(Can.of(customerSpec, orderSpec), Map.of()).write(file);
+
+        val snapshot = snapshot(Can.of(customerSpec), Map.of());
+
+        assertFalse(snapshot.isVerifiedBy(file));
+    }
+
+    @Test
+    void when_causeway_configuration_changes_then_stale() {
+        val specs = Can.of(customerSpec, orderSpec);
+
+        assertNotEquals(
+                snapshot(specs, Map.of("causeway.foo", "bar")).getFingerprint(),
+                snapshot(specs, Map.of("causeway.foo", "baz")).getFingerprint());
+        assertEquals(
+                snapshot(specs, Map.of("other.foo", "bar")).getFingerprint(),
+                snapshot(specs, Map.of("other.foo", "baz")).getFingerprint());
+    }
+
+    @Test
+    void when_bean_composition_changes_then_stale() {
+        val specs = Can.of(customerSpec, orderSpec);
+        registeredBeans.add(_ManagedBeanAdapter.forTesting(new Customer()));
+        val fingerprint = snapshot(specs, Map.of()).getFingerprint();
+
+        registeredBeans.add(_ManagedBeanAdapter.forTesting(new Order()));
+
+        assertNotEquals(fingerprint, snapshot(specs, Map.of()).getFingerprint());
+    }
+
+    // -- HELPER
+
+    private _MetamodelSnapshot snapshot(final Can<ObjectSpecification> specs, final Map<String, Object> properties) {
+        val environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return _MetamodelSnapshot.of(specs, programmingModel, serviceRegistry, environment);
+    }
+
+}
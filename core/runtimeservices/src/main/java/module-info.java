@@ -32,6 +32,7 @@
     exports org.apache.causeway.core.runtimeservices.locale;
     exports org.apache.causeway.core.runtimeservices.menubars.bootstrap;
     exports org.apache.causeway.core.runtimeservices.message;
+    exports org.apache.causeway.core.runtimeservices.metrics;
     exports org.apache.causeway.core.runtimeservices.placeholder;
     exports org.apache.causeway.core.runtimeservices.publish;
     exports org.apache.causeway.core.runtimeservices.recognizer;
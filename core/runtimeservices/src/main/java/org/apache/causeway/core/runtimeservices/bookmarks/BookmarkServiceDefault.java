@@ -18,7 +18,9 @@
  */
 package org.apache.causeway.core.runtimeservices.bookmarks;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -34,15 +36,18 @@
 import org.apache.causeway.applib.services.bookmark.BookmarkHolder;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
 
+import lombok.NonNull;
 import lombok.val;
 
 /**
@@ -82,6 +87,25 @@ public Optional<Object> lookup(final @Nullable Bookmark bookmark) {
         }
     }
 
+    @Override
+    public List<Optional<Object>> lookupAll(final @NonNull List<Bookmark> bookmarks) {
+        try {
+            val loadedObjects = mmc.getObjectManager()
+                    .loadObjects(Can.ofCollection(bookmarks))
+                    .iterator();
+            return bookmarks.stream()
+                    .map(bookmark->bookmark!=null
+                            ? Optional.of(loadedObjects.next())
+                                    .filter(ManagedObjects::isSpecified)
+                                    .map(ManagedObject::getPojo)
+                            : Optional.empty())
+                    .collect(Collectors.toList());
+        } catch(ObjectNotFoundException ex) {
+            // fallback to looking up one by one, such that only those not found are empty
+            return BookmarkService.super.lookupAll(bookmarks);
+        }
+    }
+
     @Override
     public Optional<Bookmark> bookmarkFor(final @Nullable Object domainObject) {
         if(domainObject == null) {
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.core.runtimeservices.eventbus;
 
+import java.util.Optional;
+
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -27,8 +29,13 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.id.LogicalType;
 import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
+
+import lombok.val;
 
 @Service
 @Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".EventBusServiceSpring")
@@ -37,10 +44,39 @@
 public class EventBusServiceSpring implements EventBusService {
 
     @Inject private ApplicationEventPublisher applicationEventPublisher;
+    @Inject private Optional<RuntimeMetricsRecorder> metricsRecorder = Optional.empty();
 
     @Override
-    public void post(Object event) {
-        applicationEventPublisher.publishEvent(event);
+    public void post(final Object event) {
+        val metricsRecorder = this.metricsRecorder
+                .filter(RuntimeMetricsRecorder::isEnabled)
+                .orElse(null);
+        if(metricsRecorder==null) {
+            applicationEventPublisher.publishEvent(event);
+            return;
+        }
+        val startNanos = metricsRecorder.startNanos();
+        boolean success = false;
+        try {
+            applicationEventPublisher.publishEvent(event);
+            success = true;
+        } finally {
+            metricsRecorder.recordDuration(Metric.EVENT_DISPATCH,
+                    logicalTypeNameByEventType.get(event.getClass()), null, success, startNanos);
+        }
     }
 
+    // -- HELPER
+
+    /**
+     * Event types are not introspected by the metamodel, so their logical type names are inferred
+     * from annotations (as with {@link LogicalType#infer(Class)}), once per event type.
+     */
+    private static final ClassValue<String> logicalTypeNameByEventType = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> eventType) {
+            return LogicalType.infer(eventType).getLogicalTypeName();
+        }
+    };
+
 }
@@ -67,6 +67,8 @@
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 
 import lombok.Getter;
@@ -95,6 +97,7 @@
     private final @Getter Provider<ExecutionPublisher> executionPublisherProvider;
     private final @Getter MetamodelEventService metamodelEventService;
     private final @Getter TransactionService transactionService;
+    private final RuntimeMetricsRecorder runtimeMetricsRecorder;
 
     private MetricsService metricsService() {
         return metricsServiceProvider.get();
@@ -155,7 +158,14 @@ public ManagedObject invokeAction(
         val memberExecutor = actionExecutorFactory.createExecutor(owningAction, head, argumentAdapters);
 
         // sets up startedAt and completedAt on the execution, also manages the execution call graph
-        interaction.execute(memberExecutor, actionInvocation, clockService, metricsService(), command);
+        val startNanos = runtimeMetricsRecorder.startNanos();
+        boolean success = false;
+        try {
+            interaction.execute(memberExecutor, actionInvocation, clockService, metricsService(), command);
+            success = true;
+        } finally {
+            runtimeMetricsRecorder.recordDuration(Metric.ACTION_INVOCATION, actionId, success, startNanos);
+        }
 
         // handle any exceptions
         val priorExecution = interaction.getPriorExecutionOrThrowIfAnyException(actionInvocation);
@@ -226,7 +236,15 @@ public ManagedObject setOrClearProperty(
                         interactionInitiatedBy, editingVariant);
 
         // sets up startedAt and completedAt on the execution, also manages the execution call graph
-        val targetPojo = interaction.execute(executor, propertyEdit, clockService, metricsService(), command);
+        val startNanos = runtimeMetricsRecorder.startNanos();
+        boolean success = false;
+        final Object targetPojo;
+        try {
+            targetPojo = interaction.execute(executor, propertyEdit, clockService, metricsService(), command);
+            success = true;
+        } finally {
+            runtimeMetricsRecorder.recordDuration(Metric.PROPERTY_EDIT, propertyId, success, startNanos);
+        }
 
         // handle any exceptions
         final Execution<?, ?> priorExecution = interaction.getPriorExecution();
@@ -23,6 +23,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.causeway.applib.services.i18n.LanguageProvider;
@@ -44,8 +45,11 @@ class PoReader extends PoAbstract {
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    /**
+     * Each locale's translations are read and compiled at most once (atomically), either when
+     * {@link #preload(Iterable) preloaded} or on first use.
+     */
+    private final Map<Locale, PoTranslationTable> translationTableByLocale = new ConcurrentHashMap<>();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -65,7 +69,7 @@ class PoReader extends PoAbstract {
     private final Can<TranslationsResolver> translationsResolver;
     private final LanguageProvider languageProvider;
 
-    private List<String> fallback;
+    private volatile List<String> fallback;
 
     public PoReader(final TranslationServicePo translationServicePo) {
         super(translationServicePo, Mode.READ);
@@ -82,11 +86,22 @@ public PoReader(final TranslationServicePo translationServicePo) {
      * Not API
      */
     void init() {
-        fallback = readUrl(basename + ".po");
-        if(fallback == null) {
+        val fallback = readUrl(basename + ".po");
+        if(fallback.isEmpty()) {
             log.info("No fallback translations found; i18n is in effect disabled for this application");
-            fallback = Collections.emptyList();
         }
+        this.fallback = fallback.isEmpty()
+                ? Collections.emptyList()
+                : fallback;
+    }
+
+    /**
+     * Not API, reads and compiles the translations of given locales in parallel.
+     */
+    void preload(final Iterable<Locale> locales) {
+        _Lists.newArrayList(locales)
+            .parallelStream()
+            .forEach(this::translationTableFor);
     }
 
     @Override
@@ -115,9 +130,10 @@ String translate(final TranslationContext context, final String msgId, final Str
     }
 
     void clearCache() {
-        translationByKeyByLocale.clear();
-        usesFallbackByLocale.clear();
         init();
+        val preloadedLocales = _Lists.newArrayList(translationTableByLocale.keySet());
+        translationTableByLocale.clear();
+        preload(preloadedLocales);
     }
 
     private String translate(final TranslationContext context, final String msgId, final ContextAndMsgId.Type type) {
@@ -136,80 +152,59 @@ private String translate(final TranslationContext context, final String msgId, f
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
+        final PoTranslationTable translationTable = translationTableFor(targetLocale);
 
-        // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context.getName(), msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!_Strings.isNullOrEmpty(translation)) {
+        // search for translation with a context, else without a context
+        final String translation = translationTable.lookup(type, context.getName(), msgId);
+        if (translation != null) {
             return translation;
         }
 
-        // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!_Strings.isNullOrEmpty(translationNoContext)) {
-            return translationNoContext;
-        }
-
         // to avoid chattiness in the log, we only log if there are ANY translations at all for the target locale.
         // the algorithm for searching for translations looks for:
         // 1. language_country
         // 2. language
         // 3. fallback
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
-        final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
-        if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+        if(!translationTable.isUsingFallback()) {
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context.getName(), msgId, type));
         }
 
         return msgId;
     }
 
 
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
+    private PoTranslationTable translationTableFor(final Locale locale) {
+        return translationTableByLocale.computeIfAbsent(locale, this::read);
     }
 
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
-        }
-
-        translationsByKey = _Maps.newHashMap();
-        read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
-    }
-
-
     /**
      * @param locale - the .po file to load
-     * @param translationsByKey - the translations to be populated
      */
-    private void read(final Locale locale, final Map<ContextAndMsgId, String> translationsByKey) {
+    private PoTranslationTable read(final Locale locale) {
         final List<String> contents = readPo(locale);
+        final boolean usingFallback = contents == fallback;
 
+        final Map<ContextAndMsgId, String> translationsByKey = _Maps.newHashMap();
         Block block = new Block();
         for (final String line : contents) {
             block = block.parseLine(line, translationsByKey);
         }
+
+        final PoTranslationTable translationTable = new PoTranslationTable(translationsByKey, usingFallback);
+        log.debug("Read {} translations for locale: {}", translationTable.size(), locale);
+        return translationTable;
     }
 
     protected List<String> readPo(final Locale locale) {
         final List<String> lines = readPoElseNull(locale);
         if(lines != null) {
-            usesFallbackByLocale.put(locale, false);
             return lines;
         }
 
         // this is only ever logged the first time that a user using this particular locale is encountered
         logInfoIfNotPreviously("Could not locate translations for locale: " + locale + ", using fallback");
 
-        usesFallbackByLocale.put(locale, true);
         return fallback;
     }
 
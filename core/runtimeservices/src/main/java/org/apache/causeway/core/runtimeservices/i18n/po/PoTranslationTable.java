@@ -0,0 +1,136 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.i18n.po;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * Immutable (and hence safe to be read concurrently) translations of a single locale,
+ * compiled once from the parsed <tt>.po</tt> file.
+ *
+ * <p>
+ *     Translations are indexed by type (<tt>msgid</tt> or <tt>msgid_plural</tt>), by msgId and then by
+ *     context name, so a lookup requires no composite key to be created; blank translations are dropped
+ *     and the others are trimmed up front.
+ * </p>
+ */
+final class PoTranslationTable {
+
+    private static final String NO_CONTEXT = "";
+
+    private final Map<ContextAndMsgId.Type, Map<String, Map<String, String>>> translationByContextByMsgIdByType;
+
+    /**
+     * Whether the translations were read from the fallback <tt>translations.po</tt> file,
+     * rather than a file specific to the locale.
+     */
+    @Getter private final boolean usingFallback;
+
+    PoTranslationTable(final Map<ContextAndMsgId, String> translationsByKey, final boolean usingFallback) {
+        val translationByContextByMsgIdByType =
+                new EnumMap<ContextAndMsgId.Type, Map<String, Map<String, String>>>(ContextAndMsgId.Type.class);
+        translationsByKey.forEach((key, translation)->{
+            if(_Strings.isNullOrEmpty(translation)) {
+                return;
+            }
+            val trimmed = translation.trim();
+            if(trimmed.isEmpty()) {
+                return;
+            }
+            translationByContextByMsgIdByType
+                .computeIfAbsent(key.getType(), __->new HashMap<>())
+                .computeIfAbsent(key.getMsgId(), __->new HashMap<>())
+                .put(key.getContext(), trimmed);
+        });
+        translationByContextByMsgIdByType.replaceAll((type, translationByContextByMsgId)->
+            Collections.unmodifiableMap(compact(translationByContextByMsgId)));
+        this.translationByContextByMsgIdByType = Collections.unmodifiableMap(translationByContextByMsgIdByType);
+        this.usingFallback = usingFallback;
+    }
+
+    /**
+     * Returns the translation of given {@code msgId} of given {@code type} specific to given {@code contextName},
+     * else the translation without any context, else {@code null}.
+     * <p>
+     * If there is none of given {@code type}, falls back to the translation of the other type, as a <tt>msgid</tt>
+     * might also be translated in the role of a <tt>msgid_plural</tt> and vice versa.
+     */
+    @Nullable
+    String lookup(final ContextAndMsgId.Type type, final String contextName, final String msgId) {
+        if(msgId == null) {
+            return null;
+        }
+        val translation = lookupStrict(type, contextName, msgId);
+        return translation != null
+                ? translation
+                : lookupStrict(otherThan(type), contextName, msgId);
+    }
+
+    int size() {
+        return translationByContextByMsgIdByType.values().stream()
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    // -- HELPER
+
+    @Nullable
+    private String lookupStrict(final ContextAndMsgId.Type type, final String contextName, final String msgId) {
+        val translationByContextByMsgId = translationByContextByMsgIdByType.get(type);
+        if(translationByContextByMsgId == null) {
+            return null;
+        }
+        val translationByContext = translationByContextByMsgId.get(msgId);
+        if(translationByContext == null) {
+            return null;
+        }
+        val translation = translationByContext.get(contextName);
+        return translation != null
+                ? translation
+                : translationByContext.get(NO_CONTEXT);
+    }
+
+    private static ContextAndMsgId.Type otherThan(final ContextAndMsgId.Type type) {
+        return type == ContextAndMsgId.Type.REGULAR
+                ? ContextAndMsgId.Type.PLURAL_ONLY
+                : ContextAndMsgId.Type.REGULAR;
+    }
+
+    private static Map<String, Map<String, String>> compact(
+            final Map<String, Map<String, String>> translationByContextByMsgId) {
+        translationByContextByMsgId.replaceAll((msgId, translationByContext)->
+            translationByContext.size() == 1
+                ? Collections.singletonMap(
+                        translationByContext.keySet().iterator().next(),
+                        translationByContext.values().iterator().next())
+                : Collections.unmodifiableMap(translationByContext));
+        return translationByContextByMsgId;
+    }
+
+}
@@ -21,27 +21,32 @@
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
-import java.util.SortedMap;
-import java.util.SortedSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import org.apache.causeway.applib.services.i18n.Mode;
 import org.apache.causeway.applib.services.i18n.TranslationContext;
-import org.apache.causeway.commons.internal.collections._Maps;
-import org.apache.causeway.commons.internal.collections._Sets;
 
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 class PoWriter extends PoAbstract {
 
+    /**
+     * Safe to be updated concurrently (without locking), as translations are requested
+     * by any number of threads.
+     */
     private static class Block {
-        private final SortedSet<String> contexts = _Sets.newTreeSet();
-        private String msgIdPlural;
+        private final NavigableSet<String> contexts = new ConcurrentSkipListSet<>();
+        private volatile String msgIdPlural;
 
         private Block() { }
     }
 
-    private final SortedMap<String, Block> blocksByMsgId = _Maps.newTreeMap();
+    private final NavigableMap<String, Block> blocksByMsgId = new ConcurrentSkipListMap<>();
 
     public PoWriter(final TranslationServicePo translationServicePo) {
         super(translationServicePo, Mode.WRITE);
@@ -112,9 +117,7 @@ public String translate(final TranslationContext context, final String msgId) {
             return null;
         }
         final Block block = blockFor(msgId);
-        synchronized(block) {
-            block.contexts.add(context.getName());
-        }
+        block.contexts.add(context.getName());
 
         return msgId;
     }
@@ -126,27 +129,24 @@ String translate(final TranslationContext context, final String msgId, final Str
             return null;
         }
         final Block block = blockFor(msgId);
-        synchronized(block) {
-            block.contexts.add(context.getName());
-            block.msgIdPlural = msgIdPlural;
-        }
+        block.contexts.add(context.getName());
+        block.msgIdPlural = msgIdPlural;
 
         return null;
     }
 
-    private synchronized Block blockFor(final String msgId) {
-        Block block = blocksByMsgId.get(msgId);
-        if(block == null) {
-            block = new Block(/*msgId*/);
-            blocksByMsgId.put(msgId, block);
-        }
-        return block;
+    private Block blockFor(final String msgId) {
+        final Block block = blocksByMsgId.get(msgId);
+        return block != null
+                ? block
+                : blocksByMsgId.computeIfAbsent(msgId, __->new Block(/*msgId*/));
     }
 
     void toPot(final StringBuilder buf) {
         header(buf);
-        for (final String msgId : blocksByMsgId.keySet()) {
-            final Block block = blocksByMsgId.get(msgId);
+        for (final Map.Entry<String, Block> entry : blocksByMsgId.entrySet()) {
+            final String msgId = entry.getKey();
+            final Block block = entry.getValue();
             for (final String context : block.contexts) {
                 buf.append("#: ").append(context).append("\n");
             }
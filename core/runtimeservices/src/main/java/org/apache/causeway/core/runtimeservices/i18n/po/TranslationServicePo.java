@@ -18,7 +18,10 @@
  */
 package org.apache.causeway.core.runtimeservices.i18n.po;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -38,6 +41,7 @@
 import org.apache.causeway.applib.services.registry.ServiceRegistry;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
@@ -88,6 +92,7 @@ public void init() {
         // switch to read mode
         final PoReader poReader = new PoReader(this);
         poReader.init();
+        poReader.preload(preloadLocales());
         po = poReader;
 
         if(!systemEnvironment.isUnitTesting()) {
@@ -164,11 +169,20 @@ public void toggleMode() {
             } else {
                 final PoReader poReader = new PoReader(this);
                 poReader.init();
+                poReader.preload(preloadLocales());
                 po = poReader;
             }
         }
     }
 
+    private List<Locale> preloadLocales() {
+        return configuration.getCore().getRuntimeServices().getTranslation().getPo().getPreloadLocales()
+                .stream()
+                .filter(_Strings::isNotEmpty)
+                .map(localeName->Locale.forLanguageTag(localeName.trim().replace('_', '-')))
+                .collect(Collectors.toList());
+    }
+
     // -- DEPENDENCIES
 
     @Inject private CausewaySystemEnvironment systemEnvironment;
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.core.runtimeservices.jaxb;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.annotation.Priority;
@@ -36,10 +40,13 @@
 import org.apache.causeway.applib.domain.DomainObjectList;
 import org.apache.causeway.applib.jaxb.PersistentEntitiesAdapter;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
+import org.apache.causeway.applib.services.iactn.Interaction;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
 import org.apache.causeway.applib.services.jaxb.JaxbService.Simple;
+import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
 import org.apache.causeway.commons.internal.resources._Xml;
+import org.apache.causeway.core.interaction.scope.TransactionBoundaryAware;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
@@ -54,11 +61,42 @@
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
-public class JaxbServiceDefault extends Simple {
+public class JaxbServiceDefault extends Simple implements TransactionBoundaryAware {
+
+    /**
+     * Upper bound of {@link JAXBContext}s cached for {@link DomainObjectList}s, one per element type.
+     */
+    static final int LIST_CONTEXT_CACHE_SIZE = 256;
+
+    /**
+     * Upper bound of {@link Marshaller}s and {@link Unmarshaller}s held per thread, one per {@link JAXBContext}.
+     */
+    static final int POOL_SIZE_PER_THREAD = 16;
 
     private final ServiceInjector serviceInjector;
     private final SpecificationLoader specLoader;
 
+    /**
+     * Creating a {@link JAXBContext} is expensive, hence these are cached, keyed by
+     * (list class, element type) or (list class) only.
+     */
+    private final Map<List<Class<?>>, JAXBContext> jaxbContextByListTypes =
+            newLruMap(LIST_CONTEXT_CACHE_SIZE);
+
+    /**
+     * Neither {@link Marshaller}s nor {@link Unmarshaller}s are thread-safe, but can be reused by the same thread.
+     * Only those not configured with any custom properties are pooled.
+     * <p>
+     * Cleared when the thread's (top-level) interaction closes, so pooled threads don't keep
+     * {@link JAXBContext}s (and their class-loaders) alive.
+     *
+     * @see #afterLeavingTransactionalBoundary(Interaction)
+     */
+    private final ThreadLocal<Map<JAXBContext, Marshaller>> marshallersByContext =
+            ThreadLocal.withInitial(()->newLruMap(POOL_SIZE_PER_THREAD));
+    private final ThreadLocal<Map<JAXBContext, Unmarshaller>> unmarshallersByContext =
+            ThreadLocal.withInitial(()->newLruMap(POOL_SIZE_PER_THREAD));
+
     @Override @SneakyThrows
     protected JAXBContext jaxbContextForObject(final @NonNull Object domainObject) {
         if(domainObject instanceof DomainObjectList) {
@@ -72,9 +110,9 @@ protected JAXBContext jaxbContextForObject(final @NonNull Object domainObject) {
                 if (elementType!=null
                         && elementType.getAnnotation(XmlJavaTypeAdapter.class) == null) {
 
-                    return JAXBContext.newInstance(domainClass, elementType);
+                    return jaxbContextForListTypes(List.of(domainClass, elementType));
                 } else {
-                    return JAXBContext.newInstance(domainClass);
+                    return jaxbContextForListTypes(List.of(domainClass));
                 }
             } catch (Exception e) {
                 throw _Xml.verboseException("obtaining JAXBContext for a DomainObjectList", domainClass, e);
@@ -100,6 +138,57 @@ protected Object internalFromXml(
         return pojo;
     }
 
+    @Override
+    protected String marshal(
+            final @NonNull JAXBContext jaxbContext,
+            final @NonNull Object domainObject,
+            final Map<String, Object> marshallerProperties) throws JAXBException {
+
+        if(!_NullSafe.isEmpty(marshallerProperties)) {
+            return super.marshal(jaxbContext, domainObject, marshallerProperties);
+        }
+
+        // taken out of the pool while in use, in case of re-entrant calls
+        val pool = marshallersByContext.get();
+        val pooled = pool.remove(jaxbContext);
+        val marshaller = pooled!=null
+                ? pooled
+                : newMarshaller(jaxbContext);
+
+        val writer = new StringWriter();
+        marshaller.marshal(domainObject, writer);
+        pool.put(jaxbContext, marshaller);
+        return writer.toString();
+    }
+
+    @Override
+    protected Object unmarshal(
+            final @NonNull JAXBContext jaxbContext,
+            final @NonNull String xml,
+            final Map<String, Object> unmarshallerProperties) throws JAXBException {
+
+        if(!_NullSafe.isEmpty(unmarshallerProperties)) {
+            return super.unmarshal(jaxbContext, xml, unmarshallerProperties);
+        }
+
+        // taken out of the pool while in use, in case of re-entrant calls
+        val pool = unmarshallersByContext.get();
+        val pooled = pool.remove(jaxbContext);
+        val unmarshaller = pooled!=null
+                ? pooled
+                : newUnmarshaller(jaxbContext);
+
+        val pojo = unmarshaller.unmarshal(new StringReader(xml));
+        pool.put(jaxbContext, unmarshaller);
+        return pojo;
+    }
+
+    @Override
+    public void afterLeavingTransactionalBoundary(final Interaction interaction) {
+        marshallersByContext.remove();
+        unmarshallersByContext.remove();
+    }
+
     @Override
     protected void configure(final Unmarshaller unmarshaller) {
         unmarshaller.setAdapter(PersistentEntityAdapter.class,
@@ -125,6 +214,44 @@ protected void configure(final Marshaller marshaller) {
                 serviceInjector.injectServicesInto(new PersistentEntitiesAdapter()));
     }
 
+    // -- HELPER
 
-}
+    private JAXBContext jaxbContextForListTypes(final List<Class<?>> listTypes) throws JAXBException {
+        synchronized (jaxbContextByListTypes) {
+            val jaxbContext = jaxbContextByListTypes.get(listTypes);
+            if(jaxbContext!=null) {
+                return jaxbContext;
+            }
+        }
+        // created outside the lock, as expensive; if racing, last one wins
+        val jaxbContext = JAXBContext.newInstance(listTypes.toArray(new Class<?>[0]));
+        synchronized (jaxbContextByListTypes) {
+            jaxbContextByListTypes.put(listTypes, jaxbContext);
+        }
+        return jaxbContext;
+    }
+
+    private Marshaller newMarshaller(final JAXBContext jaxbContext) throws JAXBException {
+        val marshaller = jaxbContext.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        configure(marshaller);
+        return marshaller;
+    }
+
+    private Unmarshaller newUnmarshaller(final JAXBContext jaxbContext) throws JAXBException {
+        val unmarshaller = jaxbContext.createUnmarshaller();
+        configure(unmarshaller);
+        return unmarshaller;
+    }
 
+    private static <K, V> Map<K, V> newLruMap(final int maxSize) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.metrics;
+
+import java.util.List;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.having.HasEnabling;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Outcome;
+
+import lombok.val;
+
+/**
+ * Dispatches measurements of the framework's runtime hot paths to all enabled {@link RuntimeMetricsSubscriber}s.
+ * <p>
+ * Usage pattern:
+ * <pre>
+ * val startNanos = metricsRecorder.startNanos();
+ * boolean success = false;
+ * try {
+ *     ...
+ *     success = true;
+ * } finally {
+ *     metricsRecorder.recordDuration(metric, logicalTypeName, memberId, success, startNanos);
+ * }
+ * </pre>
+ * With no enabled subscribers, both calls return immediately, without reading the clock.
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".RuntimeMetricsRecorder")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class RuntimeMetricsRecorder {
+
+    private final Can<RuntimeMetricsSubscriber> enabledSubscribers;
+
+    @Inject
+    public RuntimeMetricsRecorder(final List<RuntimeMetricsSubscriber> subscribers) {
+        this.enabledSubscribers = Can.ofCollection(subscribers)
+                .filter(HasEnabling::isEnabled);
+    }
+
+    public boolean isEnabled() {
+        return enabledSubscribers.isNotEmpty();
+    }
+
+    /**
+     * @return start time-stamp to be passed on to {@link #recordDuration}, or {@code 0L} if not enabled
+     */
+    public long startNanos() {
+        return isEnabled()
+                ? System.nanoTime()
+                : 0L;
+    }
+
+    public void recordDuration(
+            final Metric metric,
+            final @Nullable String logicalTypeName,
+            final @Nullable String memberId,
+            final boolean success,
+            final long startNanos) {
+        if(!isEnabled()) {
+            return;
+        }
+        val durationNanos = System.nanoTime() - startNanos;
+        val outcome = Outcome.of(success);
+        for (val subscriber : enabledSubscribers) {
+            subscriber.onDuration(metric, logicalTypeName, memberId, outcome, durationNanos);
+        }
+    }
+
+    /**
+     * Variant of {@link #recordDuration(Metric, String, String, boolean, long)},
+     * that takes the tags from given member {@link Identifier}.
+     */
+    public void recordDuration(
+            final Metric metric,
+            final @Nullable Identifier memberIdentifier,
+            final boolean success,
+            final long startNanos) {
+        if(!isEnabled()) {
+            return;
+        }
+        recordDuration(metric,
+                memberIdentifier!=null
+                        ? memberIdentifier.getLogicalType().getLogicalTypeName()
+                        : null,
+                memberIdentifier!=null
+                        ? memberIdentifier.getMemberLogicalName()
+                        : null,
+                success,
+                startNanos);
+    }
+
+    /**
+     * Variant of {@link #recordDuration(Metric, String, String, boolean, long)},
+     * that takes the tags from given logical member identifier (as found with commands),
+     * eg. {@code simple.SimpleObject#updateName}.
+     * <p>
+     * The duration is recorded regardless; any part missing from given identifier
+     * (or the identifier being {@code null} or empty) results in the corresponding tag being {@code null}.
+     */
+    public void recordDurationForLogicalMember(
+            final Metric metric,
+            final @Nullable String logicalMemberIdentifier,
+            final boolean success,
+            final long startNanos) {
+        if(!isEnabled()) {
+            return;
+        }
+        if(_Strings.isEmpty(logicalMemberIdentifier)) {
+            recordDuration(metric, null, null, success, startNanos);
+            return;
+        }
+        val separatorIndex = logicalMemberIdentifier.indexOf('#');
+        if(separatorIndex<0) {
+            recordDuration(metric, logicalMemberIdentifier, null, success, startNanos);
+            return;
+        }
+        recordDuration(metric,
+                _Strings.emptyToNull(logicalMemberIdentifier.substring(0, separatorIndex)),
+                _Strings.emptyToNull(logicalMemberIdentifier.substring(separatorIndex + 1)),
+                success,
+                startNanos);
+    }
+
+    public void recordCount(
+            final Metric metric,
+            final @Nullable String logicalTypeName,
+            final @Nullable String memberId,
+            final long count) {
+        if(!isEnabled()) {
+            return;
+        }
+        for (val subscriber : enabledSubscribers) {
+            subscriber.onCount(metric, logicalTypeName, memberId, count);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.metrics;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.having.HasEnabling;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SPI to receive timings and counts of the framework's runtime hot paths,
+ * eg. to feed these into a metrics registry.
+ * <p>
+ * Any tags are of low cardinality, that is, the logical type name and member id
+ * (both bounded by the metamodel) and the {@link Outcome}.
+ * <p>
+ * If there is no enabled subscriber, the framework does not take any measurements.
+ *
+ * @see RuntimeMetricsRecorder
+ * @since 2.0 {@index}
+ */
+public interface RuntimeMetricsSubscriber extends HasEnabling {
+
+    @RequiredArgsConstructor
+    enum Metric {
+        /**
+         * (timer) a top-level interaction, from opening its first to closing its last layer
+         */
+        INTERACTION("causeway.interaction"),
+        /**
+         * (timer) an action invocation, including its domain events;
+         * tagged by logical type and member
+         */
+        ACTION_INVOCATION("causeway.execution.action"),
+        /**
+         * (timer) a property edit, including its domain events;
+         * tagged by logical type and member
+         */
+        PROPERTY_EDIT("causeway.execution.property"),
+        /**
+         * (timer) dispatching an event to all its listeners;
+         * tagged by the logical type name of the event's type
+         */
+        EVENT_DISPATCH("causeway.event.dispatch"),
+        /**
+         * (timer) publishing a command to its subscribers (eg. persisting it to the command log);
+         * tagged by logical type and member
+         */
+        COMMAND_PUBLISHING("causeway.publishing.command"),
+        /**
+         * (timer) publishing an execution to its subscribers;
+         * tagged by logical type and member
+         */
+        EXECUTION_PUBLISHING("causeway.publishing.execution"),
+        /**
+         * (timer) publishing the entity changes of a transaction to their subscribers
+         */
+        ENTITY_CHANGES_PUBLISHING("causeway.publishing.entity-changes"),
+        /**
+         * (timer) publishing the entity property changes of a transaction to their subscribers
+         */
+        ENTITY_PROPERTY_CHANGES_PUBLISHING("causeway.publishing.entity-property-changes"),
+        /**
+         * (counter) entity property changes published
+         */
+        ENTITY_PROPERTY_CHANGES("causeway.entity-property-changes");
+
+        /**
+         * Name to use for the corresponding meter (dot notation).
+         */
+        @Getter private final String meterName;
+    }
+
+    enum Outcome {
+        SUCCESS,
+        FAILURE;
+        public static Outcome of(final boolean success) {
+            return success ? SUCCESS : FAILURE;
+        }
+    }
+
+    void onDuration(
+            Metric metric,
+            @Nullable String logicalTypeName,
+            @Nullable String memberId,
+            Outcome outcome,
+            long durationNanos);
+
+    void onCount(
+            Metric metric,
+            @Nullable String logicalTypeName,
+            @Nullable String memberId,
+            long count);
+
+}
@@ -37,6 +37,8 @@
 import org.apache.causeway.commons.having.HasEnabling;
 import org.apache.causeway.core.metamodel.services.publishing.CommandPublisher;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
 
 import lombok.NonNull;
 import lombok.val;
@@ -51,14 +53,17 @@ public class CommandPublisherDefault implements CommandPublisher {
 
     final List<CommandSubscriber> subscribers;
     final Provider<InteractionLayerTracker> interactionServiceProvider;
+    final RuntimeMetricsRecorder runtimeMetricsRecorder;
 
     final Can<CommandSubscriber> enabledSubscribers;
 
     public CommandPublisherDefault(
             final List<CommandSubscriber> subscribers,
-            final Provider<InteractionLayerTracker> interactionServiceProvider) {
+            final Provider<InteractionLayerTracker> interactionServiceProvider,
+            final RuntimeMetricsRecorder runtimeMetricsRecorder) {
         this.subscribers = subscribers;
         this.interactionServiceProvider = interactionServiceProvider;
+        this.runtimeMetricsRecorder = runtimeMetricsRecorder;
 
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
@@ -75,7 +80,15 @@ public void complete(final @NonNull Command command) {
 
         if(canPublish(command)) {
             log.debug("about to PUBLISH command: {} to {}", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onCompleted(command));
+            val startNanos = runtimeMetricsRecorder.startNanos();
+            boolean success = false;
+            try {
+                enabledSubscribers.forEach(subscriber -> subscriber.onCompleted(command));
+                success = true;
+            } finally {
+                runtimeMetricsRecorder.recordDurationForLogicalMember(Metric.COMMAND_PUBLISHING,
+                        command.getLogicalMemberIdentifier(), success, startNanos);
+            }
             command.updater().setPublishingPhase(CommandPublishingPhase.COMPLETED); // one shot
         }
 
@@ -39,6 +39,8 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.causeway.core.transaction.changetracking.HasEnlistedEntityChanges;
 
@@ -57,6 +59,7 @@ public class EntityChangesPublisherDefault implements EntityChangesPublisher {
     private final ClockService clockService;
     private final UserService userService;
     private final InteractionLayerTracker iaTracker;
+    private final RuntimeMetricsRecorder runtimeMetricsRecorder;
 
     private Can<EntityChangesSubscriber> enabledSubscribers = Can.empty();
 
@@ -77,8 +80,15 @@ public void publishChangingEntities(HasEnlistedEntityChanges hasEnlistedEntityCh
                 ()->getCannotPublishReason(payload));
 
         payload.ifPresent(entityChanges->{
-            for (val subscriber : enabledSubscribers) {
-                subscriber.onChanging(entityChanges);
+            val startNanos = runtimeMetricsRecorder.startNanos();
+            boolean success = false;
+            try {
+                for (val subscriber : enabledSubscribers) {
+                    subscriber.onChanging(entityChanges);
+                }
+                success = true;
+            } finally {
+                runtimeMetricsRecorder.recordDuration(Metric.ENTITY_CHANGES_PUBLISHING, null, null, success, startNanos);
             }
         });
 
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.runtimeservices.publish;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -42,6 +43,8 @@
 import org.apache.causeway.commons.having.HasEnabling;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
 import org.apache.causeway.core.security.util.XrayUtil;
 import org.apache.causeway.core.transaction.changetracking.EntityPropertyChangePublisher;
 
@@ -63,6 +66,7 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final TransactionService transactionService;
     private final InteractionLayerTracker iaTracker;
     private final Provider<HasEnlistedEntityPropertyChanges> hasEnlistedEntityPropertyChangesProvider;
+    private final RuntimeMetricsRecorder runtimeMetricsRecorder;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
 
@@ -103,11 +107,26 @@ public void publishChangedProperties() {
                     () -> getCannotPublishReason(propertyChanges)
             );
 
-            propertyChanges.forEach(propertyChange->{
-                for (val subscriber : enabledSubscribers) {
-                    subscriber.onChanging(propertyChange);
+            if(propertyChanges.isNotEmpty()) {
+                val startNanos = runtimeMetricsRecorder.startNanos();
+                boolean success = false;
+                try {
+                    for (val subscriber : enabledSubscribers) {
+                        subscriber.onBulkChanging(propertyChanges);
+                    }
+                    success = true;
+                } finally {
+                    runtimeMetricsRecorder.recordDuration(Metric.ENTITY_PROPERTY_CHANGES_PUBLISHING, null, null, success, startNanos);
                 }
-            });
+                if(runtimeMetricsRecorder.isEnabled()) {
+                    propertyChanges.stream()
+                        .collect(Collectors.groupingBy(
+                                propertyChange->propertyChange.getTarget().getLogicalTypeName(),
+                                Collectors.counting()))
+                        .forEach((logicalTypeName, count)->
+                            runtimeMetricsRecorder.recordCount(Metric.ENTITY_PROPERTY_CHANGES, logicalTypeName, null, count));
+                }
+            }
         } finally {
             _Xray.exitPublishing(xrayHandle);
         }
@@ -40,6 +40,8 @@
 import org.apache.causeway.commons.having.HasEnabling;
 import org.apache.causeway.core.metamodel.services.publishing.ExecutionPublisher;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -55,6 +57,7 @@
 
     private final List<ExecutionSubscriber> subscribers;
     private final InteractionLayerTracker iaTracker;
+    private final RuntimeMetricsRecorder runtimeMetricsRecorder;
 
     private Can<ExecutionSubscriber> enabledSubscribers = Can.empty();
     /**
@@ -104,8 +107,16 @@ private void notifySubscribers(final Execution<?,?> execution) {
                 this::getCannotPublishReason);
 
         if(canPublish()) {
-            for (val subscriber : enabledSubscribers) {
-                subscriber.onExecution(execution);
+            val startNanos = runtimeMetricsRecorder.startNanos();
+            boolean success = false;
+            try {
+                for (val subscriber : enabledSubscribers) {
+                    subscriber.onExecution(execution);
+                }
+                success = true;
+            } finally {
+                runtimeMetricsRecorder.recordDuration(Metric.EXECUTION_PUBLISHING,
+                        execution.getLogicalMemberIdentifier(), success, startNanos);
             }
         }
 
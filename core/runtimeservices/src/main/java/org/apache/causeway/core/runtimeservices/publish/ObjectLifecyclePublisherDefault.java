@@ -99,6 +99,13 @@ public void onPreUpdate(
         lifecycleCallbackNotifier().preUpdate(entity);
     }
 
+    @Override
+    public void onUpdateFlushing(
+            final ManagedObject entity,
+            final Can<PropertyChangeRecord> changeRecords) {
+        entityChangeTracker().enlistUpdating(entity, changeRecords);
+    }
+
 
     @Override
     public void onPostUpdate(final ManagedObject entity) {
@@ -0,0 +1,518 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of {@link SharedQueryResultsCache}, bounded in size and age as configured via
+ * {@link CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared}.
+ *
+ * <p>
+ * Cached results are indexed by the logical type names of the entity types they depend on, such that
+ * {@link #invalidate(Set)} only needs to visit affected entries.
+ * Entities are not held directly (as these are bound to the persistence context that loaded them),
+ * instead these are cached as {@link Bookmark}s and looked up again (in bulk) on each hit.
+ * Entities may also be wrapped in an {@link Optional}, a {@link Collection}, a {@link Can} or an array.
+ * Any other results are only cached if these are immutable values (eg. {@link String}s, numbers or
+ * {@code java.time} types), as these are shared across interactions.
+ * </p>
+ *
+ * <p>
+ * Interactions with changes pending in their current transaction bypass the shared tier, as their view of the
+ * data is not yet visible to others (and results cached by others may not reflect their own changes yet).
+ * </p>
+ *
+ * @since 2.0
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".SharedQueryResultsCacheDefault")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class SharedQueryResultsCacheDefault implements SharedQueryResultsCache {
+
+    private final SpecificationLoader specificationLoader;
+    private final Provider<BookmarkService> bookmarkServiceProvider;
+    private final BooleanSupplier hasPendingChanges;
+    @Getter(onMethod_ = {@Override})
+    private final boolean enabled;
+    private final int maxSize;
+    private final long expiryNanos;
+
+    private final Map<QueryResultsCache.Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<QueryResultsCache.Key>> keysByLogicalTypeName = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> logicalTypeNameByClass = new ConcurrentHashMap<>();
+    /** incremented on every invalidation, to detect results that were computed concurrently */
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    @Inject
+    public SharedQueryResultsCacheDefault(
+            final CausewayConfiguration causewayConfiguration,
+            final SpecificationLoader specificationLoader,
+            final Provider<BookmarkService> bookmarkServiceProvider,
+            final Provider<InteractionService> interactionServiceProvider,
+            final Provider<EntityChangeTracker> entityChangeTrackerProvider) {
+        this(causewayConfiguration.getCore().getRuntimeServices().getQueryResultsCache().getShared(),
+                specificationLoader, bookmarkServiceProvider,
+                ()->interactionServiceProvider.get().isInInteraction()
+                    && entityChangeTrackerProvider.get().hasChangesPending());
+    }
+
+    SharedQueryResultsCacheDefault(
+            final CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config,
+            final SpecificationLoader specificationLoader,
+            final Provider<BookmarkService> bookmarkServiceProvider,
+            final BooleanSupplier hasPendingChanges) {
+        this.specificationLoader = specificationLoader;
+        this.bookmarkServiceProvider = bookmarkServiceProvider;
+        this.hasPendingChanges = hasPendingChanges;
+        this.enabled = config.isEnabled();
+        this.maxSize = Math.max(1, config.getMaxSize());
+        this.expiryNanos = Optional.ofNullable(config.getExpiry()).orElse(Duration.ZERO).toNanos();
+    }
+
+    @Override
+    public <T> T execute(
+            final Callable<T> callable,
+            final Set<Class<?>> dependsOn,
+            final QueryResultsCache.Key key) throws Exception {
+
+        if(hasPendingChanges.getAsBoolean()) {
+            return callable.call(); // bypass, see class javadoc
+        }
+
+        val cachedValue = lookup(key);
+        if(cachedValue.isPresent()) {
+            hitCount.increment();
+            return _Casts.uncheckedCast(cachedValue.get().orElse(null));
+        }
+        missCount.increment();
+
+        val generationBeforeCall = generation.get();
+        final T result = callable.call();
+        if(generation.get() != generationBeforeCall
+                || hasPendingChanges.getAsBoolean()) { // eg. the query flushed pending changes
+            return result; // not caching results, that were possibly computed from stale or uncommitted data
+        }
+
+        toCacheable(result)
+        .ifPresent(cacheable->{
+            val entry = new Entry(cacheable, logicalTypeNamesOf(dependsOn), System.nanoTime());
+            put(key, entry);
+            if(generation.get() != generationBeforeCall) {
+                // an invalidation raced with above put
+                remove(key, entry);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void invalidate(final Set<String> changedLogicalTypeNames) {
+        if(changedLogicalTypeNames.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        changedLogicalTypeNames.stream()
+        .map(keysByLogicalTypeName::remove)
+        .filter(keys->keys!=null)
+        .flatMap(Collection::stream)
+        .forEach(key->{
+            val entry = entries.remove(key);
+            if(entry!=null) {
+                invalidationCount.increment();
+                unindex(key, entry);
+            }
+        });
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        keysByLogicalTypeName.clear();
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        return Statistics.of(
+                entries.size(),
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                invalidationCount.sum());
+    }
+
+    // -- HELPER
+
+    /**
+     * @return empty on cache miss, otherwise the (nullable) cached result
+     */
+    private Optional<Optional<Object>> lookup(final QueryResultsCache.Key key) {
+        val entry = entries.get(key);
+        if(entry==null) {
+            return Optional.empty();
+        }
+        val now = System.nanoTime();
+        if(entry.isExpired(now, expiryNanos)) {
+            if(remove(key, entry)) {
+                evictionCount.increment();
+            }
+            return Optional.empty();
+        }
+        val resolved = entry.getValue().resolve(bookmarkServiceProvider.get());
+        if(resolved.isEmpty()) {
+            // some referenced entity no longer exists
+            remove(key, entry);
+            return Optional.empty();
+        }
+        entry.setLastAccessedNanos(now);
+        return resolved;
+    }
+
+    private void put(final QueryResultsCache.Key key, final Entry entry) {
+        val previous = entries.put(key, entry);
+        if(previous!=null) {
+            unindex(key, previous);
+        }
+        entry.getLogicalTypeNames()
+            .forEach(logicalTypeName->keysByLogicalTypeName
+                    .computeIfAbsent(logicalTypeName, __->ConcurrentHashMap.newKeySet())
+                    .add(key));
+        if(entries.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    private boolean remove(final QueryResultsCache.Key key, final Entry entry) {
+        if(entries.remove(key, entry)) {
+            unindex(key, entry);
+            return true;
+        }
+        return false;
+    }
+
+    private void unindex(final QueryResultsCache.Key key, final Entry entry) {
+        entry.getLogicalTypeNames()
+            .forEach(logicalTypeName->{
+                val keys = keysByLogicalTypeName.get(logicalTypeName);
+                if(keys!=null) {
+                    keys.remove(key);
+                }
+            });
+    }
+
+    /**
+     * Evicts expired entries and (if still required) about a tenth of the least recently used ones,
+     * such that the linear scan is amortized over subsequent puts.
+     * Concurrent callers do not wait for an eviction already in progress.
+     */
+    private void evictLeastRecentlyUsed() {
+        if(!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            val now = System.nanoTime();
+            val candidates = new ArrayList<Map.Entry<QueryResultsCache.Key, Entry>>(entries.entrySet());
+            candidates.removeIf(candidate->{
+                if(candidate.getValue().isExpired(now, expiryNanos)) {
+                    if(remove(candidate.getKey(), candidate.getValue())) {
+                        evictionCount.increment();
+                    }
+                    return true;
+                }
+                return false;
+            });
+            val excess = entries.size() - maxSize;
+            if(excess<=0) {
+                return;
+            }
+            candidates.stream()
+                .sorted(Comparator.comparingLong(candidate->candidate.getValue().getLastAccessedNanos()))
+                .limit(Math.max(excess, maxSize/10))
+                .forEach(candidate->{
+                    if(remove(candidate.getKey(), candidate.getValue())) {
+                        evictionCount.increment();
+                    }
+                });
+            log.debug("evicted least recently used query results, now holding {}", entries.size());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private Set<String> logicalTypeNamesOf(final Set<Class<?>> entityTypes) {
+        return entityTypes.stream()
+                .map(entityType->logicalTypeNameByClass.computeIfAbsent(entityType, this::logicalTypeNameOf))
+                .collect(Collectors.toSet());
+    }
+
+    private String logicalTypeNameOf(final Class<?> entityType) {
+        return specificationLoader.specForType(entityType)
+                .map(ObjectSpecification::getLogicalTypeName)
+                .orElseGet(entityType::getName);
+    }
+
+    private boolean isEntity(final @Nullable Object pojo) {
+        return pojo!=null
+                && specificationLoader.specForType(pojo.getClass())
+                    .map(ObjectSpecification::isEntity)
+                    .orElse(false);
+    }
+
+    /**
+     * Entities are converted to bookmarks; returns empty if the result cannot be cached,
+     * eg. if it references non-persistent entities or mutable (non-entity) objects.
+     */
+    private Optional<CachedValue> toCacheable(final @Nullable Object result) {
+        if(result==null
+                || isImmutableValue(result)) {
+            return Optional.of(new Plain(result));
+        }
+        if(isEntity(result)) {
+            return toEntityRef(result).map(CachedValue.class::cast);
+        }
+        if(result instanceof Optional) {
+            val optional = (Optional<?>) result;
+            return optional.isEmpty()
+                    ? Optional.of(new Plain(result))
+                    : toElements(Shape.OPTIONAL, null, List.of(optional.get()));
+        }
+        if(result instanceof Can) {
+            return toElements(Shape.CAN, null, ((Can<?>) result).toList());
+        }
+        if(result instanceof Collection) {
+            return toElements(result instanceof Set ? Shape.SET : Shape.LIST, null, (Collection<?>) result);
+        }
+        if(result.getClass().isArray()) {
+            val length = Array.getLength(result);
+            val elements = new ArrayList<Object>(length);
+            for(int i=0; i<length; ++i) {
+                elements.add(Array.get(result, i));
+            }
+            return toElements(Shape.ARRAY, result.getClass().getComponentType(), elements);
+        }
+        return Optional.empty(); // eg. maps or other mutable objects, not shared
+    }
+
+    private Optional<CachedValue> toElements(
+            final Shape shape,
+            final @Nullable Class<?> componentType,
+            final Collection<?> elements) {
+        val cacheableElements = new ArrayList<Object>(elements.size());
+        for(val element : elements) {
+            if(element==null
+                    || isImmutableValue(element)) {
+                cacheableElements.add(element);
+                continue;
+            }
+            val entityRef = isEntity(element)
+                    ? toEntityRef(element).orElse(null)
+                    : null;
+            if(entityRef==null) {
+                return Optional.empty(); // non-persistent entities or mutable elements, not cached
+            }
+            cacheableElements.add(entityRef);
+        }
+        return Optional.of(new Elements(shape, componentType, cacheableElements));
+    }
+
+    private Optional<EntityRef> toEntityRef(final Object entity) {
+        return bookmarkServiceProvider.get().bookmarkFor(entity)
+                .map(EntityRef::new);
+    }
+
+    private static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class,
+            UUID.class, Bookmark.class);
+
+    private static boolean isImmutableValue(final Object pojo) {
+        return IMMUTABLE_VALUE_TYPES.contains(pojo.getClass())
+                || pojo instanceof Enum
+                || pojo.getClass().getPackageName().equals("java.time"); // its types are immutable throughout
+    }
+
+    // -- ENTRIES
+
+    private static class Entry {
+        @Getter private final CachedValue value;
+        @Getter private final Set<String> logicalTypeNames;
+        private final long createdNanos;
+        @Getter private volatile long lastAccessedNanos;
+
+        Entry(final CachedValue value, final Set<String> logicalTypeNames, final long createdNanos) {
+            this.value = value;
+            this.logicalTypeNames = logicalTypeNames;
+            this.createdNanos = createdNanos;
+            this.lastAccessedNanos = createdNanos;
+        }
+
+        void setLastAccessedNanos(final long lastAccessedNanos) {
+            this.lastAccessedNanos = lastAccessedNanos;
+        }
+
+        boolean isExpired(final long now, final long expiryNanos) {
+            return now - createdNanos > expiryNanos;
+        }
+    }
+
+    private static interface CachedValue {
+        /**
+         * @return empty, if the value can no longer be resolved, otherwise the (nullable) result
+         */
+        Optional<Optional<Object>> resolve(BookmarkService bookmarkService);
+    }
+
+    @RequiredArgsConstructor
+    private static class Plain implements CachedValue {
+        private final @Nullable Object result;
+        @Override
+        public Optional<Optional<Object>> resolve(final BookmarkService bookmarkService) {
+            return Optional.of(Optional.ofNullable(result));
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class EntityRef implements CachedValue {
+        @Getter private final Bookmark bookmark;
+        @Override
+        public Optional<Optional<Object>> resolve(final BookmarkService bookmarkService) {
+            return bookmarkService.lookup(bookmark).map(Optional::of);
+        }
+    }
+
+    private static enum Shape {
+        OPTIONAL,
+        LIST,
+        SET,
+        CAN,
+        ARRAY;
+    }
+
+    /**
+     * Elements are either immutable values or {@link EntityRef}s, the latter are looked up in bulk.
+     */
+    @RequiredArgsConstructor
+    private static class Elements implements CachedValue {
+        private final Shape shape;
+        private final @Nullable Class<?> componentType; // arrays only
+        private final List<Object> elements;
+        @Override
+        public Optional<Optional<Object>> resolve(final BookmarkService bookmarkService) {
+            val bookmarks = elements.stream()
+                    .filter(EntityRef.class::isInstance)
+                    .map(EntityRef.class::cast)
+                    .map(EntityRef::getBookmark)
+                    .collect(Collectors.toList());
+            val entities = (bookmarks.isEmpty()
+                    ? List.<Optional<Object>>of()
+                    : bookmarkService.lookupAll(bookmarks))
+                    .iterator();
+            val resolved = new ArrayList<Object>(elements.size());
+            for(val element : elements) {
+                if(!(element instanceof EntityRef)) {
+                    resolved.add(element);
+                    continue;
+                }
+                val entity = entities.next();
+                if(entity.isEmpty()) {
+                    return Optional.empty(); // some referenced entity no longer exists
+                }
+                resolved.add(entity.get());
+            }
+            return Optional.of(Optional.of(toShape(resolved)));
+        }
+        private Object toShape(final List<Object> resolved) {
+            switch(shape) {
+            case OPTIONAL:
+                return Optional.of(resolved.get(0));
+            case SET:
+                return new LinkedHashSet<>(resolved);
+            case CAN:
+                return Can.ofCollection(resolved);
+            case ARRAY:
+                val array = Array.newInstance(componentType, resolved.size());
+                for(int i=0; i<resolved.size(); ++i) {
+                    Array.set(array, i, resolved.get(i));
+                }
+                return array;
+            case LIST:
+            default:
+                return resolved;
+            }
+        }
+    }
+
+}
@@ -23,7 +23,6 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -69,6 +68,8 @@
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.runtime.events.MetamodelEventService;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
 import org.apache.causeway.core.security.authentication.InteractionContextFactory;
 
 import lombok.NonNull;
@@ -91,7 +92,12 @@
     InteractionService,
     InteractionLayerTracker {
 
-    final ThreadLocal<Stack<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(Stack::new);
+    /**
+     * Holds the {@link InteractionLayer}s of the current thread; the interaction-id is derived from its bottom layer.
+     * Child tasks do not inherit it, instead use {@link #propagatingCallable(Callable)} or
+     * {@link #propagatingRunnable(ThrowingRunnable)}.
+     */
+    final ThreadLocal<_InteractionLayerStack> interactionLayerStack = ThreadLocal.withInitial(_InteractionLayerStack::new);
 
     final MetamodelEventService runtimeEventService;
     final SpecificationLoader specificationLoader;
@@ -105,6 +111,7 @@
 
     final InteractionScopeLifecycleHandler interactionScopeLifecycleHandler;
     final InteractionIdGenerator interactionIdGenerator;
+    final RuntimeMetricsRecorder runtimeMetricsRecorder;
 
     // to allow implementations to have dependencies back on this service.
     @Inject @Lazy List<TransactionBoundaryAware> transactionBoundaryAwareBeans;
@@ -119,7 +126,8 @@ public InteractionServiceDefault(
             final Provider<CommandPublisher> commandPublisherProvider,
             final Provider<TransactionService> transactionServiceProvider,
             final ConfigurableBeanFactory beanFactory,
-            final InteractionIdGenerator interactionIdGenerator) {
+            final InteractionIdGenerator interactionIdGenerator,
+            final RuntimeMetricsRecorder runtimeMetricsRecorder) {
         this.runtimeEventService = runtimeEventService;
         this.specificationLoader = specificationLoader;
         this.serviceInjector = serviceInjector;
@@ -129,6 +137,7 @@ public InteractionServiceDefault(
         this.transactionServiceProvider = transactionServiceProvider;
         this.beanFactory = beanFactory;
         this.interactionIdGenerator = interactionIdGenerator;
+        this.runtimeMetricsRecorder = runtimeMetricsRecorder;
 
         this.interactionScopeLifecycleHandler = InteractionScopeBeanFactoryPostProcessor.lookupScope(beanFactory);
     }
@@ -210,7 +219,7 @@ public InteractionLayer openInteraction(
 
         if(log.isDebugEnabled()) {
             log.debug("new interaction layer created (conversation-id={}, total-layers-on-stack={}, {})",
-                    interactionId.get(),
+                    getInteractionId().orElse(null),
                     interactionLayerStack.get().size(),
                     _Probe.currentThreadId());
         }
@@ -224,10 +233,10 @@ public InteractionLayer openInteraction(
 
     private CausewayInteraction getOrCreateCausewayInteraction() {
 
-        final Stack<InteractionLayer> interactionLayers = interactionLayerStack.get();
+        val interactionLayers = interactionLayerStack.get();
         return interactionLayers.isEmpty()
     			? new CausewayInteraction(interactionIdGenerator.interactionId())
-				: _Casts.uncheckedCast(interactionLayers.firstElement().getInteraction());
+				: _Casts.uncheckedCast(interactionLayers.bottom().getInteraction());
     }
 
 
@@ -235,7 +244,7 @@ private CausewayInteraction getOrCreateCausewayInteraction() {
     @Override
     public void closeInteractionLayers() {
         log.debug("about to close the interaction stack (conversation-id={}, total-layers-on-stack={}, {})",
-                interactionId.get(),
+                getInteractionId().orElse(null),
                 interactionLayerStack.get().size(),
                 _Probe.currentThreadId());
 
@@ -244,10 +253,7 @@ public void closeInteractionLayers() {
 
 	@Override
     public Optional<InteractionLayer> currentInteractionLayer() {
-    	val stack = interactionLayerStack.get();
-    	return stack.isEmpty()
-    	        ? Optional.empty()
-                : Optional.of(stack.lastElement());
+    	return Optional.ofNullable(interactionLayerStack.get().peek());
     }
 
     @Override
@@ -314,11 +320,9 @@ public void runAnonymous(final @NonNull ThrowingRunnable runnable) {
 
     // -- CONVERSATION ID
 
-    private final ThreadLocal<UUID> interactionId = ThreadLocal.withInitial(()->null);
-
     @Override
     public Optional<UUID> getInteractionId() {
-        return Optional.ofNullable(interactionId.get());
+        return interactionLayerStack.get().interactionId();
     }
 
     // -- HELPER
@@ -356,7 +360,8 @@ private void requestRollback(final Throwable cause) {
                     cause.getMessage());
             return;
         }
-        val interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.get(0).getInteraction());
+        val interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.bottom().getInteraction());
+        stack.setRollbackRequested(true);
         txBoundaryHandler.requestRollback(interaction);
     }
 
@@ -365,7 +370,7 @@ private boolean isAtTopLevel() {
     }
 
     private void postInteractionOpened(final CausewayInteraction interaction) {
-        interactionId.set(interaction.getInteractionId());
+        interactionLayerStack.get().setOpenedAtNanos(runtimeMetricsRecorder.startNanos());
         transactionBoundaryAwareBeans.forEach(bean->bean.beforeEnteringTransactionalBoundary(interaction));
         txBoundaryHandler.onOpen(interaction);
         val isSynchronizationActive = TransactionSynchronizationManager.isSynchronizationActive();
@@ -401,7 +406,7 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
 
         log.debug("about to close authenication stack down to size {} (conversation-id={}, total-sessions-on-stack={}, {})",
                 downToStackSize,
-                interactionId.get(),
+                getInteractionId().orElse(null),
                 interactionLayerStack.get().size(),
                 _Probe.currentThreadId());
 
@@ -409,7 +414,13 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
         while(stack.size()>downToStackSize) {
         	if(isAtTopLevel()) {
         		// keep the stack unmodified yet, to allow for callbacks to properly operate
-        		preInteractionClosed(_Casts.uncheckedCast(stack.peek().getInteraction()));
+        		boolean success = false;
+        		try {
+        		    preInteractionClosed(_Casts.uncheckedCast(stack.peek().getInteraction()));
+        		    success = !stack.isRollbackRequested();
+        		} finally {
+        		    runtimeMetricsRecorder.recordDuration(Metric.INTERACTION, null, null, success, stack.getOpenedAtNanos());
+        		}
         	}
         	_Xray.closeInteractionLayer(stack);
             stack.pop();
@@ -417,7 +428,6 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
         if(downToStackSize == 0) {
             // cleanup thread-local
             interactionLayerStack.remove();
-            interactionId.remove();
         }
     }
 
@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The {@link InteractionLayer}s of a single thread, bottom (top-level interaction) first.
+ * <p>
+ * Only ever accessed by its owning thread, hence (unlike {@link java.util.Stack}) not synchronized;
+ * also means, a virtual thread is never pinned to its carrier thread by this.
+ */
+final class _InteractionLayerStack {
+
+    private final ArrayList<InteractionLayer> layers = new ArrayList<>(4);
+
+    /**
+     * (metrics) when the top-level interaction was opened, as given by {@link RuntimeMetricsRecorder#startNanos()}
+     */
+    @Getter @Setter private long openedAtNanos;
+
+    /**
+     * (metrics) whether a rollback was requested during the top-level interaction
+     */
+    @Getter @Setter private boolean rollbackRequested;
+
+    int size() {
+        return layers.size();
+    }
+
+    boolean isEmpty() {
+        return layers.isEmpty();
+    }
+
+    void push(final InteractionLayer interactionLayer) {
+        layers.add(interactionLayer);
+    }
+
+    /**
+     * @return the top-most layer, or {@code null} if empty
+     */
+    InteractionLayer peek() {
+        return layers.isEmpty()
+                ? null
+                : layers.get(layers.size() - 1);
+    }
+
+    InteractionLayer pop() {
+        return layers.remove(layers.size() - 1);
+    }
+
+    /**
+     * @return the bottom layer (representing the top-level interaction), or {@code null} if empty
+     */
+    InteractionLayer bottom() {
+        return layers.isEmpty()
+                ? null
+                : layers.get(0);
+    }
+
+    Optional<UUID> interactionId() {
+        return Optional.ofNullable(bottom())
+                .map(bottom->bottom.getInteraction().getInteractionId());
+    }
+
+}
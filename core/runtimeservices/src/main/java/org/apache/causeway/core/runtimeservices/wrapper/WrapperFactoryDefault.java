@@ -29,6 +29,7 @@
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 
 import javax.annotation.PostConstruct;
@@ -82,6 +83,7 @@
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Arrays;
+import org.apache.causeway.commons.internal.concurrent._VirtualThreads;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryService;
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MixinConstructor;
@@ -395,19 +397,29 @@ private <R> Object submitAsync(
         asyncControl.setMethod(method);
         asyncControl.setBookmark(Bookmark.forOidDto(oidDto));
 
-        val executorService = asyncControl.getExecutorService();
+        val executorService = executorServiceFor(asyncControl);
         val asyncTask = getServiceInjector().injectServicesInto(new AsyncTask<R>(
             asyncInteractionContext,
             Propagation.REQUIRES_NEW,
             commandDto,
             asyncControl.getReturnType(),
             command.getInteractionId())); // this command becomes the parent of child command
+        // snapshot of the caller's interaction context, the task then runs within (a nested layer of) it
+        asyncTask.propagatingCall = getInteractionService().propagatingCallable(asyncTask::execute);
 
         val future = executorService.submit(asyncTask);
         asyncControl.setFuture(future);
         return null;
     }
 
+    private ExecutorService executorServiceFor(final AsyncControl<?> asyncControl) {
+        val executorService = asyncControl.getExecutorService();
+        return executorService == ForkJoinPool.commonPool() // the default, unless specified otherwise
+                && getConfiguration().getCore().getRuntimeServices().getWrapperFactory().getAsync().isUseVirtualThreads()
+                ? _VirtualThreads.executorServiceElseCommonPool()
+                : executorService;
+    }
+
     private MemberAndTarget memberAndTargetForRegular(
             final Method method,
             final ManagedObject targetAdapter) {
@@ -595,6 +607,14 @@ private InteractionLayer currentInteractionLayer() {
          */
         @Inject transient WrapperFactory wrapperFactory;
 
+        /**
+         * Runs {@link #execute()} within a snapshot of the submitting thread's interaction context.
+         * <p>
+         * Also <code>transient</code>, if lost (as with a custom {@link ExecutorService} that serializes this task),
+         * the task is executed directly.
+         */
+        transient Callable<R> propagatingCall;
+
         /**
          * If the {@link java.util.concurrent.ExecutorService} used to execute this task (as defined by
          * {@link AsyncControl#with(ExecutorService)} is not custom, then it can simply invoke this method, but it is
@@ -608,7 +628,13 @@ private InteractionLayer currentInteractionLayer() {
          * </p>
          */
         @Override
-        public R call() {
+        public R call() throws Exception {
+            return propagatingCall != null
+                    ? propagatingCall.call()
+                    : execute();
+        }
+
+        private R execute() {
             if (wrapperFactory == null) {
                 throw new IllegalStateException(
                         "The transient wrapperFactory is null; suggests that this async task been serialized and " +
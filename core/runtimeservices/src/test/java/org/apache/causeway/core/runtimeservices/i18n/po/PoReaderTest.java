@@ -21,6 +21,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -214,6 +215,52 @@ protected List<String> readPo(final Locale locale) {
 
 
 
+    @Test
+    public void withPluralCollidingWithRegularMsgId() throws Exception {
+
+        // given
+        final TranslationContext context = TranslationContext.named(
+                "org.apache.causeway.applib.services.bookmark.BookmarkHolderAssociationContributions#object()");
+        final String msgid = "Work of art";
+        final String msgid_plural = "Works of art";
+        final String msgstr$0 = "Œuvre d'art";
+        final String msgstr$1 = "Les œuvres d'art";
+        final String msgstr = "Collection d'œuvres d'art";
+
+        poReader = new PoReader(mockTranslationServicePo) {
+            @Override
+            protected List<String> readPo(final Locale locale) {
+                final List<String> lines = _Lists.newArrayList();
+                lines.add(String.format("#: %s", context.getName()));
+                lines.add(String.format("msgid \"%s\"", msgid));
+                lines.add(String.format("msgid_plural \"%s\"", msgid_plural));
+                lines.add(String.format("msgstr[0] \"%s\"", msgstr$0));
+                lines.add(String.format("msgstr[1] \"%s\"", msgstr$1));
+
+                lines.add(String.format(""));
+
+                lines.add(String.format("#: %s", context.getName()));
+                lines.add(String.format("msgid \"%s\"", msgid_plural));
+                lines.add(String.format("msgstr \"%s\"", msgstr));
+
+                lines.add(String.format(""));
+                return lines;
+            }
+        };
+
+        // when
+        final String translated1 = poReader.translate(context, msgid, msgid_plural, 2);
+
+        // then
+        assertThat(translated1, is(equalTo(msgstr$1)));
+
+        // when
+        final String translated2 = poReader.translate(context, msgid_plural);
+
+        // then
+        assertThat(translated2, is(equalTo(msgstr)));
+    }
+
     @Test
     public void noTranslation() throws Exception {
 
@@ -235,4 +282,31 @@ protected List<String> readPo(final Locale locale) {
         assertThat(translated, is(equalTo("Something to translate")));
     }
 
+    @Test
+    public void noContextAndPreloadedOnce() throws Exception {
+
+        // given
+        final AtomicInteger readCount = new AtomicInteger();
+
+        poReader = new PoReader(mockTranslationServicePo) {
+            @Override
+            protected List<String> readPo(final Locale locale) {
+                readCount.incrementAndGet();
+                final List<String> lines = _Lists.newArrayList();
+                lines.add("#: ");
+                lines.add("msgid \"Parameters\"");
+                lines.add("msgstr \" Paramètres \"");
+                return lines;
+            }
+        };
+
+        // when
+        poReader.preload(_Lists.of(Locale.UK, Locale.FRANCE));
+        final String translated = poReader.translate(TranslationContext.named("someContext"), "Parameters");
+
+        // then
+        assertThat(translated, is(equalTo("Paramètres")));
+        assertThat(readCount.get(), is(2));
+    }
+
 }
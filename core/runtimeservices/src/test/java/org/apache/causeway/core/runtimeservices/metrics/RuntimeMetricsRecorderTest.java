@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Outcome;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+class RuntimeMetricsRecorderTest {
+
+    @RequiredArgsConstructor
+    static class RecordingSubscriber implements RuntimeMetricsSubscriber {
+        final boolean enabled;
+        final List<List<Object>> recorded = new ArrayList<>();
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+        @Override
+        public void onDuration(final Metric metric, final String logicalTypeName, final String memberId,
+                final Outcome outcome, final long durationNanos) {
+            assertTrue(durationNanos>=0);
+            recorded.add(Arrays.asList(metric, logicalTypeName, memberId, outcome));
+        }
+        @Override
+        public void onCount(final Metric metric, final String logicalTypeName, final String memberId,
+                final long count) {
+            recorded.add(Arrays.asList(metric, logicalTypeName, memberId, count));
+        }
+    }
+
+    private final RecordingSubscriber enabledSubscriber = new RecordingSubscriber(true);
+    private final RecordingSubscriber disabledSubscriber = new RecordingSubscriber(false);
+
+    @Test
+    void withoutEnabledSubscribers_shouldNotMeasure() {
+        val recorder = new RuntimeMetricsRecorder(List.of(disabledSubscriber));
+
+        assertFalse(recorder.isEnabled());
+        assertEquals(0L, recorder.startNanos());
+
+        recorder.recordDuration(Metric.INTERACTION, null, null, true, 0L);
+        recorder.recordDurationForLogicalMember(Metric.COMMAND_PUBLISHING, "simple.SimpleObject#updateName", true, 0L);
+        recorder.recordCount(Metric.ENTITY_PROPERTY_CHANGES, "simple.SimpleObject", null, 1L);
+
+        assertTrue(disabledSubscriber.recorded.isEmpty());
+    }
+
+    @Test
+    void shouldDispatchToEnabledSubscribersOnly() {
+        val recorder = new RuntimeMetricsRecorder(List.of(enabledSubscriber, disabledSubscriber));
+
+        assertTrue(recorder.isEnabled());
+
+        val startNanos = recorder.startNanos();
+        recorder.recordDuration(Metric.ACTION_INVOCATION, "simple.SimpleObject", "updateName", false, startNanos);
+        recorder.recordCount(Metric.ENTITY_PROPERTY_CHANGES, "simple.SimpleObject", null, 3L);
+
+        assertEquals(List.of(
+                Arrays.asList(Metric.ACTION_INVOCATION, "simple.SimpleObject", "updateName", Outcome.FAILURE),
+                Arrays.asList(Metric.ENTITY_PROPERTY_CHANGES, "simple.SimpleObject", null, 3L)),
+                enabledSubscriber.recorded);
+        assertTrue(disabledSubscriber.recorded.isEmpty());
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "simple.SimpleObject#updateName, simple.SimpleObject, updateName",
+            "simple.SimpleObject, simple.SimpleObject, NULL",
+            "simple.SimpleObject#, simple.SimpleObject, NULL",
+            "#updateName, NULL, updateName",
+            "#, NULL, NULL",
+            "'', NULL, NULL",
+            "NULL, NULL, NULL",
+    }, nullValues = "NULL")
+    void logicalMemberIdentifier_shouldAlwaysBeRecorded(
+            final String logicalMemberIdentifier,
+            final String expectedLogicalTypeName,
+            final String expectedMemberId) {
+        val recorder = new RuntimeMetricsRecorder(List.of(enabledSubscriber));
+
+        recorder.recordDurationForLogicalMember(Metric.COMMAND_PUBLISHING, logicalMemberIdentifier, true,
+                recorder.startNanos());
+
+        assertEquals(List.of(
+                Arrays.asList(Metric.COMMAND_PUBLISHING, expectedLogicalTypeName, expectedMemberId, Outcome.SUCCESS)),
+                enabledSubscriber.recorded);
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.val;
+
+@ExtendWith(MockitoExtension.class)
+class SharedQueryResultsCacheDefaultTest {
+
+    static class Country {}
+    static class Currency {}
+
+    @Mock SpecificationLoader mockSpecificationLoader;
+    @Mock BookmarkService mockBookmarkService;
+    @Mock ObjectSpecification mockEntitySpecification;
+
+    CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config;
+    AtomicInteger callCount;
+    boolean changesPending;
+
+    @BeforeEach
+    void setUp() {
+        config = new CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared();
+        config.setEnabled(true);
+        callCount = new AtomicInteger();
+        changesPending = false;
+    }
+
+    @Test
+    void whenCached_shouldNotCallAgain() throws Exception {
+        val cache = newCache();
+
+        assertEquals("x", cache.execute(query("x"), Set.of(Country.class), key("x")));
+        assertEquals("x", cache.execute(query("x"), Set.of(Country.class), key("x")));
+        assertEquals("y", cache.execute(query("y"), Set.of(Country.class), key("y")));
+
+        assertEquals(2, callCount.get());
+        val statistics = cache.getStatistics();
+        assertEquals(2, statistics.getSize());
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+    }
+
+    @Test
+    void whenDependentTypeChanged_shouldInvalidateOnlyDependents() throws Exception {
+        val cache = newCache();
+
+        cache.execute(query("x"), Set.of(Country.class), key("x"));
+        cache.execute(query("y"), Set.of(Currency.class), key("y"));
+
+        cache.invalidate(Set.of(Country.class.getName()));
+
+        cache.execute(query("x"), Set.of(Country.class), key("x"));
+        cache.execute(query("y"), Set.of(Currency.class), key("y"));
+
+        assertEquals(3, callCount.get());
+        assertEquals(1, cache.getStatistics().getInvalidationCount());
+    }
+
+    @Test
+    void whenInvalidatedWhileExecuting_shouldNotCache() throws Exception {
+        val cache = newCache();
+
+        cache.execute(()->{
+            cache.invalidate(Set.of(Country.class.getName()));
+            return query("x").call();
+        }, Set.of(Country.class), key("x"));
+        cache.execute(query("x"), Set.of(Country.class), key("x"));
+
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    void whenOversized_shouldEvictLeastRecentlyUsed() throws Exception {
+        config.setMaxSize(2);
+        val cache = newCache();
+
+        cache.execute(query("a"), Set.of(Country.class), key("a"));
+        cache.execute(query("b"), Set.of(Country.class), key("b"));
+        cache.execute(query("a"), Set.of(Country.class), key("a")); // hit, so "b" is least recently used
+        cache.execute(query("c"), Set.of(Country.class), key("c"));
+
+        assertEquals(2, cache.getStatistics().getSize());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+
+        cache.execute(query("a"), Set.of(Country.class), key("a"));
+        assertEquals(3, callCount.get());
+        cache.execute(query("b"), Set.of(Country.class), key("b"));
+        assertEquals(4, callCount.get());
+    }
+
+    @Test
+    void whenExpired_shouldCallAgain() throws Exception {
+        config.setExpiry(Duration.ZERO);
+        val cache = newCache();
+
+        cache.execute(query("x"), Set.of(Country.class), key("x"));
+        Thread.sleep(1);
+        cache.execute(query("x"), Set.of(Country.class), key("x"));
+
+        assertEquals(2, callCount.get());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    void whenChangesPending_shouldBypass() throws Exception {
+        val cache = newCache();
+
+        changesPending = true;
+        cache.execute(query("x"), Set.of(Country.class), key("x"));
+        assertEquals(0, cache.getStatistics().getSize());
+
+        changesPending = false;
+        cache.execute(query("x"), Set.of(Country.class), key("x"));
+        changesPending = true;
+        cache.execute(query("x"), Set.of(Country.class), key("x"));
+
+        assertEquals(3, callCount.get());
+        assertEquals(0, cache.getStatistics().getHitCount());
+    }
+
+    @Test
+    void whenMutableResult_shouldNotCache() throws Exception {
+        val cache = newCache();
+
+        cache.execute(query(new HashMap<>(Map.of("a", "b"))), Set.of(Country.class), key("map"));
+        cache.execute(query(new StringBuilder("x")), Set.of(Country.class), key("sb"));
+        cache.execute(query(List.of(new StringBuilder("x"))), Set.of(Country.class), key("list-of-sb"));
+
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void whenListOfValues_shouldNotShareTheListInstance() throws Exception {
+        val cache = newCache();
+
+        final List<String> first = cache.execute(query(new ArrayList<>(List.of("a", "b"))), Set.of(Country.class), key("x"));
+        first.add("c"); // mutating a result must not affect the cached one
+        final List<String> second = cache.execute(query(List.<String>of()), Set.of(Country.class), key("x"));
+
+        assertEquals(List.of("a", "b"), second);
+        assertNotSame(first, second);
+        assertEquals(1, callCount.get());
+    }
+
+    @Test
+    void whenEntitiesWrapped_shouldCacheBookmarksAndLookupInBulk() throws Exception {
+        when(mockSpecificationLoader.specForType(any())).thenAnswer(invocation->
+            invocation.getArgument(0) == Country.class
+                ? Optional.of(mockEntitySpecification)
+                : Optional.empty());
+        when(mockEntitySpecification.isEntity()).thenReturn(true);
+        val uk = new Country();
+        val fr = new Country();
+        val ukBookmark = Bookmark.forLogicalTypeNameAndIdentifier("Country", "uk");
+        val frBookmark = Bookmark.forLogicalTypeNameAndIdentifier("Country", "fr");
+        when(mockBookmarkService.bookmarkFor(uk)).thenReturn(Optional.of(ukBookmark));
+        when(mockBookmarkService.bookmarkFor(fr)).thenReturn(Optional.of(frBookmark));
+        val cache = newCache();
+
+        // entities in an Optional, a Can and an array
+        cache.execute(query(Optional.of(uk)), Set.of(Country.class), key("optional"));
+        cache.execute(query(Can.of(uk, fr)), Set.of(Country.class), key("can"));
+        cache.execute(query(new Country[] {uk, fr}), Set.of(Country.class), key("array"));
+        assertEquals(3, cache.getStatistics().getSize());
+
+        // lookup yields other instances, as if from another persistence context
+        val ukReloaded = new Country();
+        val frReloaded = new Country();
+        when(mockBookmarkService.lookupAll(List.of(ukBookmark)))
+            .thenReturn(List.of(Optional.of(ukReloaded)));
+        when(mockBookmarkService.lookupAll(List.of(ukBookmark, frBookmark)))
+            .thenReturn(List.of(Optional.of(ukReloaded), Optional.of(frReloaded)));
+
+        assertEquals(Optional.of(ukReloaded),
+                cache.execute(query(Optional.empty()), Set.of(Country.class), key("optional")));
+        assertEquals(Can.of(ukReloaded, frReloaded),
+                cache.execute(query(Can.empty()), Set.of(Country.class), key("can")));
+        assertArrayEquals(new Country[] {ukReloaded, frReloaded},
+                cache.execute(query(new Country[0]), Set.of(Country.class), key("array")));
+
+        assertEquals(3, callCount.get());
+        verify(mockBookmarkService, never()).lookup(any(Bookmark.class));
+    }
+
+    // -- HELPER
+
+    private SharedQueryResultsCacheDefault newCache() {
+        return new SharedQueryResultsCacheDefault(config, mockSpecificationLoader, ()->mockBookmarkService,
+                ()->changesPending);
+    }
+
+    private <T> Callable<T> query(final T result) {
+        return ()->{
+            callCount.incrementAndGet();
+            return result;
+        };
+    }
+
+    private static QueryResultsCache.Key key(final String name) {
+        return new QueryResultsCache.Key(SharedQueryResultsCacheDefaultTest.class, "query", name);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
+import org.apache.causeway.applib.services.user.UserMemento;
+
+import lombok.val;
+
+class InteractionLayerStackTest {
+
+    @Test
+    void whenEmpty() {
+        val stack = new _InteractionLayerStack();
+
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertNull(stack.peek());
+        assertNull(stack.bottom());
+        assertTrue(stack.interactionId().isEmpty());
+    }
+
+    @Test
+    void pushAndPop_shouldBeLastInFirstOut() {
+        val interactionId = UUID.randomUUID();
+        val interaction = mock(Interaction.class);
+        when(interaction.getInteractionId()).thenReturn(interactionId);
+
+        val bottom = layer(interaction, "sven");
+        val middle = layer(interaction, "dick");
+        val top = layer(interaction, "bob");
+
+        val stack = new _InteractionLayerStack();
+        stack.push(bottom);
+        stack.push(middle);
+        stack.push(top);
+
+        assertEquals(3, stack.size());
+        assertSame(top, stack.peek());
+        assertSame(bottom, stack.bottom());
+        assertEquals(interactionId, stack.interactionId().orElseThrow());
+
+        assertSame(top, stack.pop());
+        assertSame(middle, stack.peek());
+        assertSame(middle, stack.pop());
+
+        // interaction-id is derived from the bottom layer, as long as it is on the stack
+        assertSame(bottom, stack.peek());
+        assertEquals(interactionId, stack.interactionId().orElseThrow());
+
+        assertSame(bottom, stack.pop());
+        assertTrue(stack.isEmpty());
+        assertTrue(stack.interactionId().isEmpty());
+    }
+
+    // -- HELPER
+
+    private static InteractionLayer layer(final Interaction interaction, final String userName) {
+        return new InteractionLayer(interaction,
+                InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(userName)));
+    }
+
+}
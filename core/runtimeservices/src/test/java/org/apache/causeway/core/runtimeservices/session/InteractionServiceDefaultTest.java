@@ -0,0 +1,185 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.interaction.integration.InteractionAwareTransactionalBoundaryHandler;
+import org.apache.causeway.core.interaction.scope.InteractionScopeBeanFactoryPostProcessor;
+import org.apache.causeway.core.interaction.scope.InteractionScopeLifecycleHandler;
+import org.apache.causeway.core.interaction.scope.TransactionBoundaryAware;
+import org.apache.causeway.core.metamodel.services.publishing.CommandPublisher;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtime.events.MetamodelEventService;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsRecorder;
+
+import lombok.val;
+
+class InteractionServiceDefaultTest {
+
+    private final InteractionContext sven = interactionContext("sven");
+    private final InteractionContext dick = interactionContext("dick");
+
+    private InteractionServiceDefault interactionService;
+    private List<Optional<UUID>> interactionIdsWhileClosing;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        val beanFactory = mock(ConfigurableBeanFactory.class);
+        when(beanFactory.getRegisteredScope(InteractionScopeBeanFactoryPostProcessor.SCOPE_NAME))
+            .thenReturn(mock(Scope.class, withSettings().extraInterfaces(InteractionScopeLifecycleHandler.class)));
+        val commandPublisher = mock(CommandPublisher.class);
+        val transactionService = mock(TransactionService.class);
+
+        interactionService = new InteractionServiceDefault(
+                mock(MetamodelEventService.class),
+                mock(SpecificationLoader.class),
+                mock(ServiceInjector.class),
+                mock(InteractionAwareTransactionalBoundaryHandler.class),
+                mock(ClockService.class),
+                ()->commandPublisher,
+                ()->transactionService,
+                beanFactory,
+                new InteractionIdGenerator(),
+                new RuntimeMetricsRecorder(List.of()));
+
+        interactionIdsWhileClosing = new ArrayList<>();
+        interactionService.transactionBoundaryAwareBeans = List.of(new TransactionBoundaryAware() {
+            @Override
+            public void beforeLeavingTransactionalBoundary(
+                    final Interaction interaction, final boolean isSynchronizationActive) {
+                interactionIdsWhileClosing.add(interactionService.getInteractionId());
+            }
+        });
+
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        interactionService.closeInteractionLayers();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void nestedLayers_shouldBeClosedInReverseOrder() {
+        interactionService.openInteraction(sven);
+        val interactionId = interactionService.getInteractionId().orElseThrow();
+
+        interactionService.run(dick, ()->{
+            assertEquals(2, interactionService.getInteractionLayerCount());
+            assertEquals(dick, interactionService.currentInteractionContext().orElseThrow());
+            // a nested layer participates in the same interaction
+            assertEquals(interactionId, interactionService.getInteractionId().orElseThrow());
+        });
+
+        assertEquals(1, interactionService.getInteractionLayerCount());
+        assertEquals(sven, interactionService.currentInteractionContext().orElseThrow());
+        assertTrue(interactionIdsWhileClosing.isEmpty());
+
+        interactionService.closeInteractionLayers();
+
+        assertFalse(interactionService.isInInteraction());
+        assertEquals(0, interactionService.getInteractionLayerCount());
+    }
+
+    @Test
+    void reopeningSameContext_shouldReuseLayer() {
+        val layer = interactionService.openInteraction(sven);
+
+        assertEquals(layer, interactionService.openInteraction(sven));
+        assertEquals(1, interactionService.getInteractionLayerCount());
+    }
+
+    @Test
+    void interactionId_shouldBeAvailable_whileClosing() {
+        interactionService.openInteraction(sven);
+        interactionService.openInteraction(dick);
+        val interactionId = interactionService.getInteractionId().orElseThrow();
+
+        interactionService.closeInteractionLayers();
+
+        assertEquals(List.of(Optional.of(interactionId)), interactionIdsWhileClosing);
+        assertTrue(interactionService.getInteractionId().isEmpty());
+    }
+
+    @Test
+    void propagatingCallable_shouldRunWithinSnapshotOfContext_onOtherThread() throws Exception {
+        interactionService.openInteraction(sven);
+        val interactionId = interactionService.getInteractionId().orElseThrow();
+
+        val callable = interactionService.propagatingCallable(()->
+            interactionService.currentInteractionContext().orElseThrow());
+
+        // switching the context after taking the snapshot does not affect the child task
+        interactionService.openInteraction(dick);
+
+        assertEquals(sven, executor.submit(callable).get());
+
+        // the child task runs its own interaction, which is closed once done
+        assertEquals(1, interactionIdsWhileClosing.size());
+        assertTrue(interactionIdsWhileClosing.get(0).isPresent());
+        assertNotEquals(interactionId, interactionIdsWhileClosing.get(0).get());
+        assertFalse(executor.submit(interactionService::isInInteraction).get());
+    }
+
+    @Test
+    void propagatingRunnable_withoutInteraction_shouldRunAnonymously() throws Exception {
+        val userNames = new ArrayList<String>();
+
+        executor.submit(interactionService.propagatingRunnable(()->
+            userNames.add(interactionService.currentInteractionContext().orElseThrow().getUser().getName()))).get();
+
+        assertEquals(List.of(UserMemento.system().getName()), userNames);
+        assertFalse(executor.submit(interactionService::isInInteraction).get());
+    }
+
+    // -- HELPER
+
+    private static InteractionContext interactionContext(final String userName) {
+        return InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(userName));
+    }
+
+}
@@ -91,6 +91,14 @@ public interface EntityChangeTracker extends DisposableBean {
      */
     void incrementLoaded(ManagedObject entity);
 
+    /**
+     * Whether any entity was enlisted as created, updated or deleted within the current transaction,
+     * irrespective of whether enabled for change publishing.
+     */
+    default boolean hasChangesPending() {
+        return false;
+    }
+
 
 
 
@@ -19,6 +19,7 @@
 package org.apache.causeway.extensions.commandlog.applib;
 
 import org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService;
+import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandExecutor;
 import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -56,6 +57,7 @@
 
         BackgroundService.class,
         BackgroundService.PersistCommandExecutorService.class,
+        BackgroundCommandExecutor.class,
 })
 public class CausewayModuleExtCommandLogApplib {
 
@@ -136,7 +136,13 @@ public static class Nq {
         public static final String FIND_MOST_RECENT_COMPLETED           = LOGICAL_TYPE_NAME + ".findMostRecentCompleted";
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
+        /**
+         * As per {@link #FIND_BACKGROUND_AND_NOT_YET_STARTED}, but excluding commands against targets that have
+         * background commands started but not yet completed (eg. executing on some other node).
+         */
+        public static final String FIND_BACKGROUND_CLAIMABLE            = LOGICAL_TYPE_NAME + ".findBackgroundClaimable";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
+        public static final String CLAIM_BACKGROUND_NOT_YET_STARTED     = LOGICAL_TYPE_NAME + ".claimBackgroundNotYetStarted";
     }
 
 
@@ -23,6 +23,7 @@
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -281,6 +282,65 @@ public List<C> findBackgroundAndNotYetStarted() {
                 Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED));
     }
 
+    /**
+     * As per {@link #findBackgroundAndNotYetStarted()}, but returning at most the given number of (the oldest)
+     * commands.
+     */
+    public List<C> findBackgroundAndNotYetStarted(final int limit) {
+        return repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)
+                        .withLimit(limit));
+    }
+
+    /**
+     * As per {@link #findBackgroundAndNotYetStarted(int)}, but excluding commands against targets that have
+     * background commands started but not yet completed (eg. executing on some other node), such that commands
+     * against the same target are not executed concurrently.
+     */
+    public List<C> findBackgroundClaimable(final int limit) {
+        return repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_CLAIMABLE)
+                        .withLimit(limit));
+    }
+
+    /**
+     * Claims the not yet started background command with given interaction id for execution, by marking it as
+     * started as of given timestamp.
+     *
+     * @return whether claimed, or rather not, because already started (eg. claimed by some other node)
+     * @see #claimBackgroundNotYetStarted(Collection, Timestamp)
+     */
+    public boolean claimBackgroundNotYetStarted(final UUID interactionId, final Timestamp startedAt) {
+        return claimBackgroundNotYetStarted(List.of(interactionId), startedAt) == 1;
+    }
+
+    /**
+     * Claims the not yet started background commands with given interaction ids for execution, by marking them as
+     * started as of given timestamp.
+     *
+     * <p>
+     * This allows background jobs running on several nodes to share the work of executing background commands:
+     * a command can only be claimed once.  Persistence specific implementations override this to perform the claim
+     * as a single conditional update; the fallback implementation provided here is <i>not</i> atomic.
+     * </p>
+     *
+     * @return the number of commands claimed, less than requested if some were already started
+     *      (eg. claimed by some other node)
+     */
+    public int claimBackgroundNotYetStarted(final Collection<UUID> interactionIds, final Timestamp startedAt) {
+        int claimedCount = 0;
+        for (val interactionId : interactionIds) {
+            final C commandLogEntry = findByInteractionIdElseNull(interactionId);
+            if(commandLogEntry == null
+                    || commandLogEntry.getStartedAt() != null) {
+                continue;
+            }
+            commandLogEntry.setStartedAt(startedAt);
+            claimedCount++;
+        }
+        return claimedCount;
+    }
+
     public List<C> findRecentBackgroundByTarget(Bookmark target) {
         return repositoryService().allMatches(
                 Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_RECENT_BACKGROUND_BY_TARGET)
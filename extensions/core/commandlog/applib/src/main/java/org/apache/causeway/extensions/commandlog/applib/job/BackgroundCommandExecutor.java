@@ -0,0 +1,335 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.command.CommandExecutorService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.JaxbUtil;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.commandlog.applib.CausewayModuleExtCommandLogApplib;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executes background {@link CommandLogEntry command}s that have been persisted by the
+ * {@link org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService} but not yet started.
+ *
+ * <p>
+ * Commands are claimed in batches (see {@link CommandLogEntryRepository#claimBackgroundNotYetStarted}), so that
+ * background jobs running on several nodes can share the load.  Commands against targets that have commands in flight
+ * (started but not yet completed, eg. on some other node) are not claimed.  The claimed commands are then partitioned by their
+ * target, each partition being executed one command after another (in the order submitted), while partitions are
+ * executed concurrently using a pool of worker threads.
+ * </p>
+ *
+ * @see CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands
+ * @see RunBackgroundCommandsJob
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(BackgroundCommandExecutor.LOGICAL_TYPE_NAME)
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class BackgroundCommandExecutor {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogApplib.NAMESPACE + ".BackgroundCommandExecutor";
+
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject InteractionService interactionService;
+    @Inject TransactionService transactionService;
+    @Inject ClockService clockService;
+    @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
+    @Inject CommandExecutorService commandExecutorService;
+
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder claimConflictCount = new LongAdder();
+    private final AtomicInteger lastRunClaimedCount = new AtomicInteger();
+    private final AtomicReference<Duration> lastRunDuration = new AtomicReference<>(Duration.ZERO);
+
+    private ExecutorService workerPool;
+
+    /**
+     * Claims and executes all not yet started background commands, returning once all claimed commands have
+     * been executed.
+     *
+     * <p>
+     * Must be called within an interaction; the worker threads (if any) execute the commands using that
+     * interaction's context.
+     * </p>
+     */
+    public void executeNotYetStarted() {
+        val config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        val batchSize = config.getBatchSize();
+        val workerThreads = config.getWorkerThreads();
+
+        val startedAt = System.nanoTime();
+        int claimedCount = 0;
+        while(true) {
+            val batch = claimNextBatch(batchSize);
+            if(batch.getClaimed().isEmpty()) {
+                break;
+            }
+            claimedCount += batch.getClaimed().size();
+            if(workerThreads > 1) {
+                executeConcurrently(batch.getClaimed(), workerThreads);
+            } else {
+                batch.getClaimed().forEach(this::execute);
+            }
+            if(batch.getFoundCount() < batchSize) {
+                break; // no more commands left
+            }
+        }
+        lastRunClaimedCount.set(claimedCount);
+        lastRunDuration.set(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    public Statistics getStatistics() {
+        return Statistics.of(
+                executedCount.sum(),
+                failedCount.sum(),
+                claimConflictCount.sum(),
+                lastRunClaimedCount.get(),
+                lastRunDuration.get());
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if(workerPool != null) {
+            workerPool.shutdownNow();
+            workerPool = null;
+        }
+    }
+
+    // -- CLAIM
+
+    @Value(staticConstructor = "of")
+    private static class ClaimedCommand {
+        Bookmark target;
+        CommandDto commandDto;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Batch {
+        int foundCount;
+        List<ClaimedCommand> claimed;
+    }
+
+    /**
+     * Signals (and rolls back) a claim that could not be completed, because some of the commands have been claimed
+     * by some other node in the meantime.
+     */
+    private static class ClaimConflict extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int conflictCount;
+        ClaimConflict(final int conflictCount) {
+            super(null, null, false, false);
+            this.conflictCount = conflictCount;
+        }
+    }
+
+    /**
+     * Claims the next batch of (oldest) claimable commands, using a single conditional update.
+     *
+     * <p>
+     * If not all of the batch's commands can be claimed (because claimed by some other node in the meantime), then
+     * the claim is rolled back and this run ends, rather than executing commands against the same target
+     * concurrently with the other node, or out of order.  The next run will no longer find the other node's
+     * targets claimable until their commands have completed.
+     * </p>
+     */
+    private Batch claimNextBatch(final int batchSize) {
+        // we use the CommandDto of each entry, as it is serializable across transactions
+        val result = transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+                    val entries = commandLogEntryRepository.findBackgroundClaimable(batchSize);
+                    val interactionIds = entries.stream()
+                            .map(CommandLogEntry::getInteractionId)
+                            .collect(Collectors.toList());
+                    val startedAt = clockService.getClock().nowAsJavaSqlTimestamp();
+                    val claimedCount = commandLogEntryRepository.claimBackgroundNotYetStarted(interactionIds, startedAt);
+                    if(claimedCount < interactionIds.size()) {
+                        throw new ClaimConflict(interactionIds.size() - claimedCount);
+                    }
+                    val claimed = entries.stream()
+                            .map(entry -> ClaimedCommand.of(entry.getTarget(), entry.getCommandDto()))
+                            .collect(Collectors.toList());
+                    return Batch.of(entries.size(), claimed);
+                });
+
+        val claimConflict = result.getFailure()
+                .filter(ClaimConflict.class::isInstance)
+                .map(ClaimConflict.class::cast);
+        if(claimConflict.isPresent()) {
+            claimConflictCount.add(claimConflict.get().conflictCount);
+            return Batch.of(0, List.of());
+        }
+
+        return result
+                .ifFailureFail()    // we give up if unable to claim
+                .getValue()
+                .orElseGet(()->Batch.of(0, List.of()));
+    }
+
+    // -- EXECUTE
+
+    private void executeConcurrently(final List<ClaimedCommand> claimed, final int workerThreads) {
+        val interactionContext = interactionService.currentInteractionContext().orElseThrow();
+
+        // partition by target, preserving the order in which commands were submitted
+        val partitions = new LinkedHashMap<Object, List<ClaimedCommand>>();
+        for (val claimedCommand : claimed) {
+            val partitionKey = claimedCommand.getTarget() != null
+                    ? claimedCommand.getTarget()
+                    : claimedCommand.getCommandDto().getInteractionId();
+            partitions.computeIfAbsent(partitionKey, __ -> new ArrayList<>()).add(claimedCommand);
+        }
+
+        val pool = workerPool(workerThreads);
+        val futures = new ArrayList<Future<?>>(partitions.size());
+        for (val partition : partitions.values()) {
+            futures.add(pool.submit(() ->
+                    interactionService.run(interactionContext, () -> partition.forEach(this::execute))));
+        }
+        awaitAll(futures);
+    }
+
+    /**
+     * Executes given command within its own transaction; failure of one should not impact the next.
+     */
+    private void execute(final ClaimedCommand claimedCommand) {
+        val commandDto = claimedCommand.getCommandDto();
+        val result = transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+            // it's necessary to look up the CommandLogEntry again because we are within a new transaction.
+            return commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()))
+                    .map(commandLogEntry ->
+                            commandExecutorService.executeCommand(
+                                    CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto, commandLogEntry.outcomeHandler())
+                            .isSuccess())
+                    .orElse(false);
+        });
+        result.ifFailure(throwable -> {
+            log.error("Failed to execute command: " + JaxbUtil.toXml(commandDto), throwable);
+            recordFailure(commandDto, throwable);
+        });
+
+        if(result.getValue().orElse(false)) {
+            executedCount.increment();
+        } else {
+            failedCount.increment();
+        }
+    }
+
+    /**
+     * Records the failure of a command whose transaction was rolled back, within a transaction of its own.
+     *
+     * <p>
+     * Otherwise the command would remain claimed (that is, started but never completed) forever, as the claim
+     * was committed separately.
+     * </p>
+     */
+    private void recordFailure(final CommandDto commandDto, final Throwable throwable) {
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()))
+                        .filter(commandLogEntry -> commandLogEntry.getCompletedAt() == null)
+                        .ifPresent(commandLogEntry -> {
+                            commandLogEntry.setException(throwable);
+                            commandLogEntry.setCompletedAt(clockService.getClock().nowAsJavaSqlTimestamp());
+                        }))
+                .ifFailure(failure -> log.error("Failed to record failure of command: " + commandDto.getInteractionId(), failure));
+    }
+
+    private synchronized ExecutorService workerPool(final int workerThreads) {
+        if(workerPool == null) {
+            val threadCount = new AtomicInteger();
+            workerPool = Executors.newFixedThreadPool(workerThreads, runnable -> {
+                val thread = new Thread(runnable, "commandlog-background-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workerPool;
+    }
+
+    private static void awaitAll(final Collection<Future<?>> futures) {
+        for (val future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("Failed to execute background commands", e.getCause());
+            }
+        }
+    }
+
+    // -- STATISTICS
+
+    /**
+     * Throughput of the {@link BackgroundCommandExecutor}, since application start.
+     */
+    @Value(staticConstructor = "of")
+    public static class Statistics {
+        /** number of commands executed successfully */
+        long executedCount;
+        /** number of commands that failed to execute */
+        long failedCount;
+        /** number of commands that could not be claimed, because claimed by some other node */
+        long claimConflictCount;
+        /** number of commands claimed (the backlog) during the most recent run */
+        int lastRunClaimedCount;
+        /** elapsed time of the most recent run */
+        Duration lastRunDuration;
+    }
+
+}
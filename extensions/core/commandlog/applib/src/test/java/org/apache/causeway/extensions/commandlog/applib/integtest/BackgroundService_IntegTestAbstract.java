@@ -19,6 +19,7 @@
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -39,6 +40,7 @@
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
@@ -48,6 +50,7 @@
 import org.apache.causeway.extensions.commandlog.applib.integtest.model.Counter;
 import org.apache.causeway.extensions.commandlog.applib.integtest.model.CounterRepository;
 import org.apache.causeway.extensions.commandlog.applib.integtest.model.Counter_bumpUsingMixin;
+import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandExecutor;
 import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
 import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
 
@@ -209,6 +212,140 @@ void using_background_service() {
 
     }
 
+    @SneakyThrows
+    @Test
+    void using_background_service_with_worker_threads_and_batches() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        val runBackgroundCommands = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        val workerThreadsOrig = runBackgroundCommands.getWorkerThreads();
+        val batchSizeOrig = runBackgroundCommands.getBatchSize();
+        runBackgroundCommands.setWorkerThreads(4);
+        runBackgroundCommands.setBatchSize(2);
+        val executedCountBefore = backgroundCommandExecutor.getStatistics().getExecutedCount();
+
+        try {
+            // when
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                for (int i = 0; i < 5; i++) {
+                    backgroundService.execute(counter).bumpUsingDeclaredAction();
+                }
+            }).ifFailureFail();
+
+            // then background commands are persisted, but not yet started
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).hasSize(5);
+            }).ifFailureFail();
+
+            // when (simulate quartz running in the background)
+            runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+
+            // then bumped (commands against the same target are executed one after another)
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                assertThat(counter.getNum()).isEqualTo(5L);
+            }).ifFailureFail();
+
+            // and all marked as started and completed
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).isEmpty();
+                assertThat(commandLogEntryRepository.findAll())
+                        .filteredOn(x -> x.getExecuteIn() == ExecuteIn.BACKGROUND)
+                        .hasSize(5)
+                        .allSatisfy(x -> assertThat(x.getCompletedAt()).isNotNull());
+            }).ifFailureFail();
+
+            val statistics = backgroundCommandExecutor.getStatistics();
+            assertThat(statistics.getExecutedCount() - executedCountBefore).isEqualTo(5L);
+            assertThat(statistics.getLastRunClaimedCount()).isEqualTo(5);
+
+        } finally {
+            runBackgroundCommands.setWorkerThreads(workerThreadsOrig);
+            runBackgroundCommands.setBatchSize(batchSizeOrig);
+        }
+    }
+
+    @Test
+    void claim_only_once() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        // when
+        val claims = transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+            val interactionId = commandLogEntryRepository.findBackgroundAndNotYetStarted(1).get(0).getInteractionId();
+            val startedAt = new java.sql.Timestamp(System.currentTimeMillis());
+            return List.of(
+                    commandLogEntryRepository.claimBackgroundNotYetStarted(interactionId, startedAt),
+                    commandLogEntryRepository.claimBackgroundNotYetStarted(interactionId, startedAt));
+        }).ifFailureFail().getValue().orElseThrow();
+
+        // then
+        assertThat(claims).containsExactly(true, false);
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).isEmpty();
+        }).ifFailureFail();
+    }
+
+    @Test
+    void claim_batch_only_once() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        // when
+        val claimedCounts = transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+            val interactionIds = commandLogEntryRepository.findBackgroundAndNotYetStarted().stream()
+                    .map(CommandLogEntry::getInteractionId)
+                    .collect(Collectors.toList());
+            val startedAt = new java.sql.Timestamp(System.currentTimeMillis());
+            return List.of(
+                    commandLogEntryRepository.claimBackgroundNotYetStarted(interactionIds, startedAt),
+                    commandLogEntryRepository.claimBackgroundNotYetStarted(interactionIds, startedAt));
+        }).ifFailureFail().getValue().orElseThrow();
+
+        // then
+        assertThat(claimedCounts).containsExactly(2, 0);
+    }
+
+    @Test
+    void not_claimable_while_target_has_commands_in_flight() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundClaimable(10)).hasSize(2);
+        }).ifFailureFail();
+
+        // when (simulate some other node having claimed the first command)
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val interactionId = commandLogEntryRepository.findBackgroundAndNotYetStarted(1).get(0).getInteractionId();
+            commandLogEntryRepository.claimBackgroundNotYetStarted(interactionId, new java.sql.Timestamp(System.currentTimeMillis()));
+        }).ifFailureFail();
+
+        // then the second command is not yet started, but not claimable either
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).hasSize(1);
+            assertThat(commandLogEntryRepository.findBackgroundClaimable(10)).isEmpty();
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
@@ -222,6 +359,8 @@ private void removeAllCommandLogEntriesAndCounters() {
     @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
     @Inject TransactionService transactionService;
     @Inject RunBackgroundCommandsJob runBackgroundCommandsJob;
+    @Inject BackgroundCommandExecutor backgroundCommandExecutor;
+    @Inject CausewayConfiguration causewayConfiguration;
     @Inject BookmarkService bookmarkService;
     @Inject CounterRepository counterRepository;
 
@@ -180,6 +180,18 @@
                   + " WHERE executeIn == 'BACKGROUND' "
                   + "    && startedAt == null "
                   + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_CLAIMABLE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt == null "
+                  + "    && (SELECT count(inFlight) FROM " + CommandLogEntry.FQCN + " inFlight "
+                  + "         WHERE inFlight.executeIn   == 'BACKGROUND' "
+                  + "            && inFlight.target      == this.target "
+                  + "            && inFlight.startedAt   != null "
+                  + "            && inFlight.completedAt == null) == 0 "
+                  + " ORDER BY timestamp ASC "),
     @Query(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             value = "SELECT "
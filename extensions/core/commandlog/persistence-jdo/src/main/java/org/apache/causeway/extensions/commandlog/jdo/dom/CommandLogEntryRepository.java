@@ -18,6 +18,12 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -25,6 +31,9 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -42,4 +51,42 @@
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
+
+    private static final String PROPERTY_QUERY_JDOQL_ALLOWALL = "datanucleus.query.jdoql.allowall";
+
+    @Inject JdoSupportService jdoSupportService;
+
+    /**
+     * Claims the commands using a single conditional (bulk) update, so is safe to call concurrently from multiple
+     * nodes.
+     */
+    @Override
+    public int claimBackgroundNotYetStarted(final Collection<UUID> interactionIds, final Timestamp startedAt) {
+        if(interactionIds.isEmpty()) {
+            return 0;
+        }
+        val pm = jdoSupportService.getPersistenceManager();
+        // JDOQL (single-string) bulk updates must be enabled explicitly, before the query is parsed;
+        // as the persistence manager is shared with the rest of the transaction, we restore the setting afterwards
+        val previousAllowAll = pm.getProperties().get(PROPERTY_QUERY_JDOQL_ALLOWALL);
+        pm.setProperty(PROPERTY_QUERY_JDOQL_ALLOWALL, true);
+        try {
+            val query = pm.newQuery(
+                    "UPDATE " + CommandLogEntry.FQCN
+                    + " SET startedAt = :startedAt"
+                    + " WHERE :interactionIds.contains(interactionId)"
+                    + "    && executeIn == 'BACKGROUND'"
+                    + "    && startedAt == null");
+            val updated = (Number) query.executeWithMap(Map.of(
+                    "interactionIds", interactionIds,
+                    "startedAt", startedAt));
+            return updated.intValue();
+        } finally {
+            pm.setProperty(PROPERTY_QUERY_JDOQL_ALLOWALL,
+                    previousAllowAll != null
+                        ? previousAllowAll
+                        : false); // the default
+        }
+    }
+
 }
@@ -187,6 +187,20 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.startedAt is null "
                   + " ORDER BY cl.timestamp ASC"),
+        @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_CLAIMABLE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null "
+                  + "   AND NOT EXISTS ("
+                  + "       SELECT inFlight "
+                  + "         FROM CommandLogEntry inFlight "
+                  + "        WHERE inFlight.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "          AND inFlight.target = cl.target "
+                  + "          AND inFlight.startedAt is not null "
+                  + "          AND inFlight.completedAt is null) "
+                  + " ORDER BY cl.timestamp ASC"),
         @NamedQuery(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             query = "SELECT cl "
@@ -194,6 +208,13 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.target    = :target "
                   + " ORDER BY cl.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.CLAIM_BACKGROUND_NOT_YET_STARTED,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.startedAt = :startedAt "
+                  + " WHERE cl.pk.interactionId IN :interactionIds "
+                  + "   AND cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null"),
     @NamedQuery(
             name  = Nq.FIND_MOST_RECENT_REPLAYED,
             query = "SELECT cl "
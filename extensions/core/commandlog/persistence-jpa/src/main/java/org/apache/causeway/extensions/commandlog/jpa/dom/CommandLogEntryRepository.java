@@ -18,13 +18,20 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -43,4 +50,22 @@ public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Inject JpaSupportService jpaSupportService;
+
+    /**
+     * Claims the commands using a single conditional (bulk) update, so is safe to call concurrently from multiple
+     * nodes.
+     */
+    @Override
+    public int claimBackgroundNotYetStarted(final Collection<UUID> interactionIds, final Timestamp startedAt) {
+        if(interactionIds.isEmpty()) {
+            return 0;
+        }
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.CLAIM_BACKGROUND_NOT_YET_STARTED)
+                .setParameter("interactionIds", interactionIds)
+                .setParameter("startedAt", startedAt)
+                .executeUpdate();
+    }
+
 }
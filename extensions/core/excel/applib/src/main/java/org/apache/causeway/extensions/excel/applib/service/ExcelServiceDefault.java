@@ -29,6 +29,7 @@
 import javax.inject.Named;
 
 import org.apache.causeway.extensions.excel.applib.*;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -190,19 +191,11 @@ public List<List<?>> fromExcel(
             final WorksheetSpec.Sequencer sequencer) throws ExcelServiceDefault.Exception {
 
         List<WorksheetSpec> worksheetSpecs = _Lists.newArrayList();
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(excelBlob.getBytes())) {
-            try (final Workbook wb = org.apache.poi.ss.usermodel.WorkbookFactory.create(bais)) {
-                final int numberOfSheets = wb.getNumberOfSheets();
-                for (int i = 0; i < numberOfSheets; i++) {
-                    final Sheet sheet = wb.getSheetAt(i);
-                    WorksheetSpec worksheetSpec = matcher.fromSheet(sheet.getSheetName());
-                    if(worksheetSpec != null) {
-                        worksheetSpecs.add(worksheetSpec);
-                    }
-                }
+        for (final String sheetName : sheetNamesOf(excelBlob.getBytes())) {
+            WorksheetSpec worksheetSpec = matcher.fromSheet(sheetName);
+            if(worksheetSpec != null) {
+                worksheetSpecs.add(worksheetSpec);
             }
-        } catch (IOException e) {
-            throw new ExcelServiceDefault.Exception(e);
         }
 
         if(sequencer != null) {
@@ -213,4 +206,31 @@ public List<List<?>> fromExcel(
     }
 
 
+    // -- HELPER
+
+    /**
+     * Names of the sheets within the spreadsheet, avoiding inflating the entire workbook if an <code>.xlsx</code>.
+     */
+    private static List<String> sheetNamesOf(final byte[] bs) {
+        try {
+            if(_XlsxStreamingReader.isXlsx(bs)) {
+                try (final _XlsxStreamingReader reader = _XlsxStreamingReader.open(bs)) {
+                    return reader.getSheetNames();
+                }
+            }
+            final List<String> sheetNames = _Lists.newArrayList();
+            try (ByteArrayInputStream bais = new ByteArrayInputStream(bs);
+                 final Workbook wb = org.apache.poi.ss.usermodel.WorkbookFactory.create(bais)) {
+                final int numberOfSheets = wb.getNumberOfSheets();
+                for (int i = 0; i < numberOfSheets; i++) {
+                    final Sheet sheet = wb.getSheetAt(i);
+                    sheetNames.add(sheet.getSheetName());
+                }
+            }
+            return sheetNames;
+        } catch (IOException | InvalidFormatException e) {
+            throw new ExcelServiceDefault.Exception(e);
+        }
+    }
+
 }
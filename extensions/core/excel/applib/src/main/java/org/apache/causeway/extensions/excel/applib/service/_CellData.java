@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.springframework.lang.Nullable;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The content of a single spreadsheet cell, as read either from a (DOM) {@link Cell}, or while streaming through
+ * a sheet (using {@link _XlsxStreamingReader}).
+ */
+interface _CellData {
+
+    int getColumnIndex();
+    CellType getCellType();
+    boolean getBooleanCellValue();
+    double getNumericCellValue();
+    String getStringCellValue();
+    Date getDateCellValue();
+    @Nullable String getCommentText();
+
+    static _CellData of(final @NonNull Cell cell) {
+        return new _CellData() {
+            @Override public int getColumnIndex() { return cell.getColumnIndex(); }
+            @Override public CellType getCellType() { return cell.getCellType(); }
+            @Override public boolean getBooleanCellValue() { return cell.getBooleanCellValue(); }
+            @Override public double getNumericCellValue() { return cell.getNumericCellValue(); }
+            @Override public String getStringCellValue() { return cell.getStringCellValue(); }
+            @Override public Date getDateCellValue() { return cell.getDateCellValue(); }
+            @Override public String getCommentText() {
+                final Comment comment = cell.getCellComment();
+                return comment != null
+                        && comment.getString() != null
+                        ? comment.getString().getString()
+                        : null;
+            }
+        };
+    }
+
+    /**
+     * A cell as parsed from the sheet's XML, holding the cell's raw (unformatted) value.
+     */
+    @RequiredArgsConstructor(staticName = "of")
+    static final class Streamed implements _CellData {
+
+        @Getter private final int columnIndex;
+        @Getter private final @NonNull CellType cellType;
+        private final @Nullable String rawValue;
+        private final boolean date1904;
+        @Getter private final @Nullable String commentText;
+
+        @Override
+        public boolean getBooleanCellValue() {
+            switch (cellType) {
+            case BLANK:
+                return false;
+            case BOOLEAN:
+                return "1".equals(rawValue) || "true".equalsIgnoreCase(rawValue);
+            default:
+                throw typeMismatch(CellType.BOOLEAN);
+            }
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            switch (cellType) {
+            case BLANK:
+                return 0.0;
+            case NUMERIC:
+                return Double.parseDouble(rawValue);
+            default:
+                throw typeMismatch(CellType.NUMERIC);
+            }
+        }
+
+        @Override
+        public String getStringCellValue() {
+            switch (cellType) {
+            case BLANK:
+                return "";
+            case STRING:
+                return rawValue;
+            default:
+                throw typeMismatch(CellType.STRING);
+            }
+        }
+
+        @Override
+        public Date getDateCellValue() {
+            switch (cellType) {
+            case BLANK:
+                return null;
+            case NUMERIC:
+                return DateUtil.getJavaDate(getNumericCellValue(), date1904);
+            default:
+                throw typeMismatch(CellType.NUMERIC);
+            }
+        }
+
+        private IllegalStateException typeMismatch(final CellType expectedType) {
+            return new IllegalStateException(
+                    String.format("Cannot get a %s value from a %s cell", expectedType, cellType));
+        }
+    }
+
+}
@@ -297,11 +297,11 @@ private static void setCellValueForDate(final Cell cell, final Date date, final
         cell.setCellStyle(dateCellStyle);
     }
 
-    String getStringCellValue(final Cell cell) {
+    String getStringCellValue(final _CellData cell) {
         return getCellValue(cell, String.class);
     }
 
-    Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
+    Object getCellValue(final _CellData cell, final OneToOneAssociation otoa) {
 
         final CellType cellType = cell.getCellType();
 
@@ -326,7 +326,7 @@ Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
+    private <T> T getCellValue(final _CellData cell, final Class<T> requiredType) {
         final CellType cellType = cell.getCellType();
 
         if(requiredType == boolean.class || requiredType == Boolean.class) {
@@ -483,16 +483,11 @@ private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
     }
 
 
-    private Object getCellComment(final Cell cell, final Class<?> requiredType) {
-        final Comment comment = cell.getCellComment();
-        if(comment == null) {
+    private Object getCellComment(final _CellData cell, final Class<?> requiredType) {
+        final String bookmarkStr = cell.getCommentText();
+        if(bookmarkStr == null) {
             return null;
         }
-        final RichTextString commentRts = comment.getString();
-        if(commentRts == null) {
-            return null;
-        }
-        final String bookmarkStr = commentRts.getString();
         final Bookmark bookmark = Bookmark.parse(bookmarkStr).orElse(null);
         return bookmarkService.lookup(bookmark, requiredType).orElse(null);
     }
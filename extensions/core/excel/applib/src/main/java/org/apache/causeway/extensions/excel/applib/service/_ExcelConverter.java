@@ -83,6 +83,12 @@
 
     private static final String XLSX_SUFFIX = ".xlsx";
 
+    /**
+     * Number of rows kept in memory when exporting using a (streaming) {@link org.apache.poi.xssf.streaming.SXSSFWorkbook};
+     * rows beyond this window are flushed to disk.
+     */
+    static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
     private static final Predicate<ObjectAssociation> VISIBLE_PROPERTIES =
             ObjectAssociation.Predicates.PROPERTIES.and(
             ObjectAssociation.Predicates.staticallyVisible(Where.STANDALONE_TABLES));
@@ -120,7 +126,7 @@ public Row newRow() {
 
     // //////////////////////////////////////
 
-    File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkbook workbook) throws IOException {
+    File appendSheet(final List<WorksheetContent> worksheetContents, final Workbook workbook) throws IOException {
         final Set<String> worksheetNames = worksheetContents.stream()
                 .map(x -> x.getSpec().getSheetName())
                 .collect(Collectors.toSet());
@@ -149,7 +155,7 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
     }
 
     private Sheet appendSheet(
-            final XSSFWorkbook workbook,
+            final Workbook workbook,
             final List<?> domainObjects,
             final WorksheetSpec.RowFactory<?> factory,
             final String sheetName) throws IOException {
@@ -172,7 +178,7 @@ private Sheet appendSheet(
                     .forEach(annotatedAsHyperlink::add);
         }
 
-        final Sheet sheet = ((Workbook) workbook).createSheet(sheetName);
+        final Sheet sheet = workbook.createSheet(sheetName);
 
         final RowFactory rowFactory = new RowFactory(sheet);
         final Row headerRow = rowFactory.newRow();
@@ -368,11 +374,28 @@ private class AnnotationOrderAndType {
 
     }
 
+    /**
+     * Imports the domain objects of each of the given {@link WorksheetSpec}s.
+     *
+     * <p>
+     *     An <code>.xlsx</code> spreadsheet is streamed through (one row at a time, using POI's event API),
+     *     so that large spreadsheets need not be inflated into memory; any other format (eg. <code>.xls</code>)
+     *     is read using POI's {@link org.apache.poi.ss.usermodel.WorkbookFactory}.
+     * </p>
+     */
     List<List<?>> fromBytes(
             final List<WorksheetSpec> worksheetSpecs,
             final byte[] bs) throws IOException, InvalidFormatException {
 
         final List<List<?>> listOfLists = _Lists.newArrayList();
+        if(_XlsxStreamingReader.isXlsx(bs)) {
+            try(val reader = _XlsxStreamingReader.open(bs)) {
+                for (WorksheetSpec worksheetSpec : worksheetSpecs) {
+                    listOfLists.add(fromReader(reader, worksheetSpec));
+                }
+            }
+            return listOfLists;
+        }
         for (WorksheetSpec worksheetSpec : worksheetSpecs) {
             listOfLists.add(fromBytes(bs, worksheetSpec));
         }
@@ -383,140 +406,183 @@ <T> List<T> fromBytes(
             final byte[] bs,
             final WorksheetSpec worksheetSpec) throws IOException, InvalidFormatException {
 
+        if(_XlsxStreamingReader.isXlsx(bs)) {
+            try(val reader = _XlsxStreamingReader.open(bs)) {
+                return fromReader(reader, worksheetSpec);
+            }
+        }
         try (ByteArrayInputStream bais = new ByteArrayInputStream(bs)) {
             final Workbook wb = org.apache.poi.ss.usermodel.WorkbookFactory.create(bais);
             return fromWorkbook(wb, worksheetSpec);
         }
     }
 
+    private <T> List<T> fromReader(
+            final _XlsxStreamingReader reader,
+            final WorksheetSpec worksheetSpec) throws IOException {
+
+        // reading only, so no cell styles required
+        final _CellMarshaller cellMarshaller = new _CellMarshaller(bookmarkService, null, null);
+        final SheetImporter<T> importer = new SheetImporter<>(worksheetSpec, cellMarshaller);
+
+        reader.readSheet(
+                determineCandidateSheetNames(importer.sheetName, importer.cls),
+                importer::importRow);
+        return importer.importedItems;
+    }
+
     private <T> List<T> fromWorkbook(
             final Workbook workbook,
             final WorksheetSpec worksheetSpec) {
 
-        final WorksheetSpec.RowFactory<Object> factory = worksheetSpec.getFactory();
-        this.serviceInjector.injectServicesInto(factory);
+        final SheetImporter<T> importer = new SheetImporter<>(worksheetSpec, this.newCellMarshaller(workbook));
 
-        final Class<T> cls = _Casts.uncheckedCast(factory.getCls());
-        final String sheetName = worksheetSpec.getSheetName();
-        final Mode mode = worksheetSpec.getMode();
+        final Sheet sheet = lookupSheet(importer.cls, importer.sheetName, workbook);
+        for (final Row row : sheet) {
+            final List<_CellData> cells = _Lists.newArrayList();
+            for (final Cell cell : row) {
+                cells.add(_CellData.of(cell));
+            }
+            importer.importRow(row.getRowNum(), cells);
+        }
+        return importer.importedItems;
+    }
 
-        final List<T> importedItems = _Lists.newArrayList();
+    /**
+     * Converts the rows of a single sheet into domain objects, the first row being the header row.
+     */
+    private class SheetImporter<T> {
 
-        final _CellMarshaller cellMarshaller = this.newCellMarshaller(workbook);
+        private final WorksheetSpec.RowFactory<Object> factory;
+        private final Class<T> cls;
+        private final String sheetName;
+        private final Mode mode;
+        private final _CellMarshaller cellMarshaller;
+        private final ObjectSpecification objectSpec;
 
-        final Sheet sheet = lookupSheet(cls, sheetName, workbook);
+        private final List<T> importedItems = _Lists.newArrayList();
+        private final Map<Integer, Property> propertyByColumn = _Maps.newHashMap();
+        private boolean header = true;
+        private T previousRow = null;
 
-        boolean header = true;
-        final Map<Integer, Property> propertyByColumn = _Maps.newHashMap();
+        SheetImporter(final WorksheetSpec worksheetSpec, final _CellMarshaller cellMarshaller) {
+            this.factory = worksheetSpec.getFactory();
+            serviceInjector.injectServicesInto(factory);
 
-        final ObjectSpecification objectSpec = specificationLoader.specForType(cls).orElse(null);
+            this.cls = _Casts.uncheckedCast(factory.getCls());
+            this.sheetName = worksheetSpec.getSheetName();
+            this.mode = worksheetSpec.getMode();
+            this.cellMarshaller = cellMarshaller;
+            this.objectSpec = specificationLoader.specForType(cls).orElse(null);
+        }
 
-        T previousRow = null;
-        for (final Row row : sheet) {
+        void importRow(final int rowNum, final Iterable<_CellData> cells) {
             if (header) {
-                for (final Cell cell : row) {
-
-                    try{
-                        if (cell.getCellType() != CellType.BLANK) {
-                            final int columnIndex = cell.getColumnIndex();
-                            final String propertyName = cellMarshaller.getStringCellValue(cell);
-                            final OneToOneAssociation property = getAssociation(objectSpec, propertyName);
-                            if (property != null) {
-                                final Class<?> propertyType = property.getElementType().getCorrespondingClass();
-                                propertyByColumn.put(columnIndex, new Property(propertyName, property, propertyType));
-                            }
-                        }
+                importHeaderRow(rowNum, cells);
+                header = false;
+            } else {
+                importDetailRow(rowNum, cells);
+            }
+        }
+
+        private void importHeaderRow(final int rowNum, final Iterable<_CellData> cells) {
+            for (final _CellData cell : cells) {
 
-                    } catch (final Exception e) {
-                        switch (mode) {
-                        case RELAXED:
-                            // ignore
-                        default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+                try{
+                    if (cell.getCellType() != CellType.BLANK) {
+                        final int columnIndex = cell.getColumnIndex();
+                        final String propertyName = cellMarshaller.getStringCellValue(cell);
+                        final OneToOneAssociation property = getAssociation(objectSpec, propertyName);
+                        if (property != null) {
+                            final Class<?> propertyType = property.getElementType().getCorrespondingClass();
+                            propertyByColumn.put(columnIndex, new Property(propertyName, property, propertyType));
                         }
                     }
 
+                } catch (final Exception e) {
+                    switch (mode) {
+                    case RELAXED:
+                        // ignore
+                    default:
+                        throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
+                    }
                 }
-                header = false;
-            } else {
-                // detail
-
-                // Let's require at least one column to be not null for detecting a blank row.
-                // Excel can have physical rows with cells empty that it seem do not existent for the user.
-                ManagedObject templateAdapter = null;
-                T imported = null;
-                for (final Cell cell : row) {
 
-                    try {
+            }
+        }
 
-                        final int columnIndex = cell.getColumnIndex();
-                        final Property property = propertyByColumn.get(columnIndex);
-                        if (property != null) {
-                            final OneToOneAssociation otoa = property.getOneToOneAssociation();
-                            final Object value = cellMarshaller.getCellValue(cell, otoa);
-                            if (value != null) {
-                                if (imported == null) {
-                                    // copy the row into a new object
-                                    imported = _Casts.uncheckedCast(factory.create());
-                                    // set excel metadata if applicable
-                                    if (ExcelMetaDataEnabled.class.isAssignableFrom(cls)){
-                                        ExcelMetaDataEnabled importedEnhanced = (ExcelMetaDataEnabled) imported;
-                                        importedEnhanced.setExcelRowNumber(row.getRowNum());
-                                        importedEnhanced.setExcelSheetName(sheetName);
-                                        imported = _Casts.uncheckedCast(importedEnhanced);
-                                    }
-                                    templateAdapter = this.objectManager.adapt(imported);
+        private void importDetailRow(final int rowNum, final Iterable<_CellData> cells) {
+
+            // Let's require at least one column to be not null for detecting a blank row.
+            // Excel can have physical rows with cells empty that it seem do not existent for the user.
+            ManagedObject templateAdapter = null;
+            T imported = null;
+            for (final _CellData cell : cells) {
+
+                try {
+
+                    final int columnIndex = cell.getColumnIndex();
+                    final Property property = propertyByColumn.get(columnIndex);
+                    if (property != null) {
+                        final OneToOneAssociation otoa = property.getOneToOneAssociation();
+                        final Object value = cellMarshaller.getCellValue(cell, otoa);
+                        if (value != null) {
+                            if (imported == null) {
+                                // copy the row into a new object
+                                imported = _Casts.uncheckedCast(factory.create());
+                                // set excel metadata if applicable
+                                if (ExcelMetaDataEnabled.class.isAssignableFrom(cls)){
+                                    ExcelMetaDataEnabled importedEnhanced = (ExcelMetaDataEnabled) imported;
+                                    importedEnhanced.setExcelRowNumber(rowNum);
+                                    importedEnhanced.setExcelSheetName(sheetName);
+                                    imported = _Casts.uncheckedCast(importedEnhanced);
                                 }
-                                final ManagedObject valueAdapter = this.objectManager.adapt(value);
-                                otoa.set(templateAdapter, valueAdapter, InteractionInitiatedBy.USER);
+                                templateAdapter = objectManager.adapt(imported);
                             }
-                        } else {
-                            // not expected; just ignore.
+                            final ManagedObject valueAdapter = objectManager.adapt(value);
+                            otoa.set(templateAdapter, valueAdapter, InteractionInitiatedBy.USER);
                         }
+                    } else {
+                        // not expected; just ignore.
+                    }
 
-                    } catch (final Exception e) {
-                        switch (mode) {
-                        case RELAXED:
-                            // ignore
-                            break;
-                        default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+                } catch (final Exception e) {
+                    switch (mode) {
+                    case RELAXED:
+                        // ignore
+                        break;
+                    default:
+                        throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
 
-                        }
                     }
                 }
+            }
 
-                //
-                // TODO: v2: to review... there is no longer an API to remove adapters.
-                //  However, my hope is that it isn't needed, because we no longer maintain an oid <-> adapter map.
-                //
-//                // we need to remove the templateAdapter because earlier on we will have created an adapter (and corresponding OID)
-//                // for a view model where the OID is initially computed on the incomplete (in fact, empty) view model.
-//                // removing the adapter therefore removes the OID as well, so next time an adapter is needed for the view model
-//                // the OID will be recomputed based on the fully populated view model pojo.
-//                if(templateAdapter != null) {
-//                    this.objectManager.removeAdapter(templateAdapter);
-//                }
-
-                if (imported != null) {
-                    importedItems.add(imported);
-
-                    if(imported instanceof RowHandler) {
-                        val rowHandler = (RowHandler<?>) imported;
-                        val rowHandlerPrev = (RowHandler<?>) previousRow;
-
-                        rowHandler.handleRow(_Casts.uncheckedCast(rowHandlerPrev));
-                    }
-
-                    previousRow = imported;
+            //
+            // TODO: v2: to review... there is no longer an API to remove adapters.
+            //  However, my hope is that it isn't needed, because we no longer maintain an oid <-> adapter map.
+            //
+//            // we need to remove the templateAdapter because earlier on we will have created an adapter (and corresponding OID)
+//            // for a view model where the OID is initially computed on the incomplete (in fact, empty) view model.
+//            // removing the adapter therefore removes the OID as well, so next time an adapter is needed for the view model
+//            // the OID will be recomputed based on the fully populated view model pojo.
+//            if(templateAdapter != null) {
+//                this.objectManager.removeAdapter(templateAdapter);
+//            }
+
+            if (imported != null) {
+                importedItems.add(imported);
+
+                if(imported instanceof RowHandler) {
+                    val rowHandler = (RowHandler<?>) imported;
+                    val rowHandlerPrev = (RowHandler<?>) previousRow;
+
+                    rowHandler.handleRow(_Casts.uncheckedCast(rowHandlerPrev));
                 }
 
+                previousRow = imported;
             }
-
-
-
         }
-        return importedItems;
     }
 
     protected <T> Sheet lookupSheet(final Class<T> cls, final String sheetName, final Workbook workbook) {
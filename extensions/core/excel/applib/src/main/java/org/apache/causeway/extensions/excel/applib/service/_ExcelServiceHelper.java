@@ -25,6 +25,7 @@
 import java.util.List;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
@@ -105,8 +106,13 @@ <T> Blob toExcel(final WorksheetContent worksheetContent, final String fileName,
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName) {
         try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook());
-            return excelFileBlobConverter.toBlob(fileName, file);
+            final SXSSFWorkbook workbook = new SXSSFWorkbook(_ExcelConverter.ROW_ACCESS_WINDOW_SIZE);
+            try {
+                final File file = newExcelConverter().appendSheet(worksheetContents, workbook);
+                return excelFileBlobConverter.toBlob(fileName, file);
+            } finally {
+                disposeOf(workbook);
+            }
         } catch (final IOException ex) {
             throw new ExcelServiceDefault.Exception(ex);
         }
@@ -117,8 +123,14 @@ Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileNa
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName, final InputStream in) {
         try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook(in));
-            return excelFileBlobConverter.toBlob(fileName, file);
+            // rows of the existing sheets are held in memory, whereas the appended rows are streamed
+            final SXSSFWorkbook workbook = new SXSSFWorkbook(new XSSFWorkbook(in), _ExcelConverter.ROW_ACCESS_WINDOW_SIZE);
+            try {
+                final File file = newExcelConverter().appendSheet(worksheetContents, workbook);
+                return excelFileBlobConverter.toBlob(fileName, file);
+            } finally {
+                disposeOf(workbook);
+            }
         } catch (final IOException ex) {
             throw new ExcelServiceDefault.Exception(ex);
         }
@@ -227,6 +239,17 @@ private _ExcelConverter newExcelConverter() {
         return new _ExcelConverter(specificationLoader, objectManager, bookmarkService, serviceInjector);
     }
 
+    /**
+     * Removes the temporary files backing the (streamed) sheets of given workbook.
+     */
+    private static void disposeOf(final SXSSFWorkbook workbook) throws IOException {
+        try {
+            workbook.dispose();
+        } finally {
+            workbook.close();
+        }
+    }
+
     // -- DEPENDENCIES
 
     @javax.inject.Inject
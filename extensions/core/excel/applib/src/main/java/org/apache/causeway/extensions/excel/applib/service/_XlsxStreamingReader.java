@@ -0,0 +1,347 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.Comments;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.springframework.lang.Nullable;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Reads the sheets of an <code>.xlsx</code> spreadsheet row by row, using POI's event (SAX) API, rather than
+ * inflating the entire workbook into memory (as {@link WorkbookFactory} does).
+ *
+ * <p>
+ *     Only the shared strings table is held in memory; cells are passed on to a {@link RowConsumer} as each row
+ *     is parsed, holding their raw (unformatted) values.  Formula cells are read as their cached result.
+ * </p>
+ */
+final class _XlsxStreamingReader implements AutoCloseable {
+
+    @FunctionalInterface
+    interface RowConsumer {
+        void accept(int rowNum, List<_CellData> cells);
+    }
+
+    /**
+     * Whether given bytes are of an OOXML (<code>.xlsx</code>) package, as opposed to eg. a legacy
+     * (<code>.xls</code>) spreadsheet, which can only be read using {@link WorkbookFactory}.
+     */
+    static boolean isXlsx(final byte[] bs) {
+        return FileMagic.valueOf(bs) == FileMagic.OOXML;
+    }
+
+    static _XlsxStreamingReader open(final byte[] bs) throws IOException, InvalidFormatException {
+        // opening from a file (rather than a stream) allows for random access, without inflating all zip entries
+        val tempFile = File.createTempFile(_XlsxStreamingReader.class.getName(), UUID.randomUUID().toString() + ".xlsx");
+        try {
+            Files.write(tempFile.toPath(), bs);
+            return new _XlsxStreamingReader(tempFile, OPCPackage.open(tempFile, PackageAccess.READ));
+        } catch (IOException | InvalidFormatException | RuntimeException e) {
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+    }
+
+    private final File tempFile;
+    private final OPCPackage pkg;
+    private final XSSFReader xssfReader;
+    private SharedStrings sharedStrings; // lazily
+    private Boolean date1904; // lazily
+
+    private _XlsxStreamingReader(final File tempFile, final OPCPackage pkg) throws IOException {
+        this.tempFile = tempFile;
+        this.pkg = pkg;
+        try {
+            this.xssfReader = new XSSFReader(pkg);
+        } catch (org.apache.poi.openxml4j.exceptions.OpenXML4JException e) {
+            close();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Names of all sheets, in the order they appear in the workbook.
+     */
+    List<String> getSheetNames() throws IOException {
+        val sheetNames = new ArrayList<String>();
+        val sheets = sheets();
+        while(sheets.hasNext()) {
+            try(val ignore = sheets.next()) {
+                sheetNames.add(sheets.getSheetName());
+            }
+        }
+        return sheetNames;
+    }
+
+    /**
+     * Parses the first sheet found that has (ignoring case) any of the given names, passing on each of its rows
+     * to given consumer.
+     */
+    void readSheet(final List<String> candidateSheetNames, final RowConsumer rowConsumer) throws IOException {
+        val sheetNames = getSheetNames();
+        val sheetName = candidateSheetNames.stream()
+                .filter(candidate->sheetNames.stream().anyMatch(candidate::equalsIgnoreCase))
+                .findFirst()
+                .orElseThrow(()->new IllegalArgumentException(
+                        String.format("Could not locate sheet named any of: '%s'", candidateSheetNames)));
+
+        val sheets = sheets();
+        while(sheets.hasNext()) {
+            try(val sheetData = sheets.next()) {
+                if(sheetName.equalsIgnoreCase(sheets.getSheetName())) {
+                    parse(sheetData, new SheetHandler(
+                            sharedStrings(), sheets.getSheetComments(), date1904(), rowConsumer));
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            pkg.revert(); // read-only, so nothing to save
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    // -- HELPER
+
+    private XSSFReader.SheetIterator sheets() throws IOException {
+        try {
+            return (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        } catch (InvalidFormatException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private SharedStrings sharedStrings() throws IOException {
+        if(sharedStrings == null) {
+            try {
+                sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            } catch (SAXException e) {
+                throw new IOException(e);
+            }
+        }
+        return sharedStrings;
+    }
+
+    /**
+     * Whether the workbook uses the 1904 (rather than the 1900) date system.
+     */
+    private boolean date1904() throws IOException {
+        if(date1904 == null) {
+            val workbookHandler = new WorkbookPropertiesHandler();
+            try(val workbookData = xssfReader.getWorkbookData()) {
+                parse(workbookData, workbookHandler);
+            } catch (InvalidFormatException e) {
+                throw new IOException(e);
+            }
+            date1904 = workbookHandler.date1904;
+        }
+        return date1904;
+    }
+
+    private static void parse(final InputStream xml, final ContentHandler handler) throws IOException {
+        try {
+            val xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(handler);
+            xmlReader.parse(new InputSource(xml));
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static String nameOf(final String localName, final String qName) {
+        return localName != null && !localName.isEmpty()
+                ? localName
+                : qName.substring(qName.indexOf(':') + 1);
+    }
+
+    private static class WorkbookPropertiesHandler extends DefaultHandler {
+        boolean date1904;
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+            if("workbookPr".equals(nameOf(localName, qName))) {
+                val value = attributes.getValue("date1904");
+                date1904 = "1".equals(value) || "true".equalsIgnoreCase(value);
+            }
+        }
+    }
+
+    /**
+     * Handles the <code>sheetData</code> of a worksheet, ie. <code>&lt;row&gt;</code> elements holding
+     * <code>&lt;c&gt;</code> (cell) elements, which in turn hold either a <code>&lt;v&gt;</code> (value)
+     * or an <code>&lt;is&gt;&lt;t&gt;</code> (inline string).
+     */
+    @RequiredArgsConstructor
+    private static class SheetHandler extends DefaultHandler {
+
+        private final SharedStrings sharedStrings;
+        private final @Nullable Comments comments;
+        private final boolean date1904;
+        private final RowConsumer rowConsumer;
+
+        private int rowNum = -1;
+        private List<_CellData> cells;
+
+        private int columnIndex;
+        private String cellReference;
+        private String cellTypeAttribute;
+        private boolean hasValue;
+        private boolean collectingValue;
+        private final StringBuilder value = new StringBuilder();
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+            switch (nameOf(localName, qName)) {
+            case "row":
+                val rowAttribute = attributes.getValue("r");
+                rowNum = rowAttribute != null
+                        ? Integer.parseInt(rowAttribute) - 1
+                        : rowNum + 1;
+                cells = new ArrayList<>();
+                columnIndex = -1;
+                break;
+            case "c":
+                cellReference = attributes.getValue("r");
+                columnIndex = cellReference != null
+                        ? new CellReference(cellReference).getCol()
+                        : columnIndex + 1;
+                cellTypeAttribute = attributes.getValue("t");
+                hasValue = false;
+                value.setLength(0);
+                break;
+            case "v":
+            case "t":
+                if(cells != null) {
+                    hasValue = true;
+                    collectingValue = true;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if(collectingValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) {
+            switch (nameOf(localName, qName)) {
+            case "v":
+            case "t":
+                collectingValue = false;
+                break;
+            case "c":
+                if(cells != null) {
+                    cells.add(cellData());
+                }
+                break;
+            case "row":
+                rowConsumer.accept(rowNum, cells);
+                cells = null;
+                break;
+            default:
+                break;
+            }
+        }
+
+        private _CellData cellData() {
+            final String rawValue = hasValue ? value.toString() : null;
+            final CellType cellType;
+            final String cellValue;
+            switch (cellTypeAttribute != null ? cellTypeAttribute : "n") {
+            case "s":
+                cellType = rawValue != null ? CellType.STRING : CellType.BLANK;
+                cellValue = rawValue != null
+                        ? sharedStrings.getItemAt(Integer.parseInt(rawValue.trim())).getString()
+                        : null;
+                break;
+            case "inlineStr":
+            case "str":
+                cellType = CellType.STRING;
+                cellValue = rawValue != null ? rawValue : "";
+                break;
+            case "b":
+                cellType = rawValue != null ? CellType.BOOLEAN : CellType.BLANK;
+                cellValue = rawValue;
+                break;
+            case "e":
+                cellType = CellType.ERROR;
+                cellValue = rawValue;
+                break;
+            default:
+                cellType = rawValue != null && !rawValue.isBlank() ? CellType.NUMERIC : CellType.BLANK;
+                cellValue = rawValue;
+                break;
+            }
+            return _CellData.Streamed.of(columnIndex, cellType, cellValue, date1904, commentText());
+        }
+
+        private String commentText() {
+            if(comments == null
+                    || cellReference == null) {
+                return null;
+            }
+            val comment = comments.findCellComment(new CellAddress(cellReference));
+            return comment != null
+                    && comment.getString() != null
+                    ? comment.getString().getString()
+                    : null;
+        }
+    }
+
+}
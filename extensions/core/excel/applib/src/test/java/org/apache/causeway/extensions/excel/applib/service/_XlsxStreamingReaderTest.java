@@ -0,0 +1,147 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class _XlsxStreamingReaderTest {
+
+    @Test
+    void readsSheetNames() throws Exception {
+
+        // given
+        final byte[] bs = toBytes(new XSSFWorkbook(), "First", "Second");
+
+        // when
+        try(final _XlsxStreamingReader reader = _XlsxStreamingReader.open(bs)) {
+
+            // then
+            Assertions.assertThat(reader.getSheetNames()).containsExactly("First", "Second");
+        }
+    }
+
+    @Test
+    void readsCellsOfMatchingSheet() throws Exception {
+
+        // given
+        final Calendar calendar = new GregorianCalendar(2023, Calendar.MARCH, 14);
+        final byte[] bs = toBytes(new SXSSFWorkbook(2), sheet->{
+            final Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(2).setCellValue("Count");
+            final Row detail = sheet.createRow(3);
+            detail.createCell(0).setCellValue("foo");
+            detail.createCell(1).setCellValue(true);
+            detail.createCell(2).setCellValue(42.5);
+            detail.createCell(3).setCellValue(calendar);
+            detail.createCell(4);
+        });
+        final List<Integer> rowNums = new ArrayList<>();
+        final List<List<_CellData>> rows = new ArrayList<>();
+
+        // when
+        try(final _XlsxStreamingReader reader = _XlsxStreamingReader.open(bs)) {
+            reader.readSheet(List.of("missing", "SHEET"), (rowNum, cells)->{
+                rowNums.add(rowNum);
+                rows.add(cells);
+            });
+        }
+
+        // then
+        Assertions.assertThat(rowNums).containsExactly(0, 3);
+
+        final List<_CellData> header = rows.get(0);
+        Assertions.assertThat(header).extracting(_CellData::getColumnIndex).containsExactly(0, 2);
+        Assertions.assertThat(header.get(1).getStringCellValue()).isEqualTo("Count");
+
+        final List<_CellData> detail = rows.get(1);
+        Assertions.assertThat(detail).extracting(_CellData::getCellType)
+            .containsExactly(CellType.STRING, CellType.BOOLEAN, CellType.NUMERIC, CellType.NUMERIC, CellType.BLANK);
+        Assertions.assertThat(detail.get(0).getStringCellValue()).isEqualTo("foo");
+        Assertions.assertThat(detail.get(1).getBooleanCellValue()).isTrue();
+        Assertions.assertThat(detail.get(2).getNumericCellValue()).isEqualTo(42.5);
+        Assertions.assertThat(detail.get(3).getDateCellValue()).isEqualTo(calendar.getTime());
+        Assertions.assertThatThrownBy(()->detail.get(0).getNumericCellValue())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void whenNoMatchingSheet() throws Exception {
+
+        // given
+        final byte[] bs = toBytes(new XSSFWorkbook(), "Sheet");
+
+        // when
+        try(final _XlsxStreamingReader reader = _XlsxStreamingReader.open(bs)) {
+
+            // then
+            Assertions.assertThatThrownBy(()->reader.readSheet(List.of("Other"), (rowNum, cells)->{}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Other");
+        }
+    }
+
+    @Test
+    void recognizesXlsx() throws Exception {
+        Assertions.assertThat(_XlsxStreamingReader.isXlsx(toBytes(new XSSFWorkbook(), "Sheet"))).isTrue();
+        Assertions.assertThat(_XlsxStreamingReader.isXlsx(toBytes(new HSSFWorkbook(), "Sheet"))).isFalse();
+    }
+
+    // -- HELPER
+
+    private interface SheetPopulator {
+        void populate(Sheet sheet);
+    }
+
+    private static byte[] toBytes(final Workbook workbook, final SheetPopulator populator) throws IOException {
+        populator.populate(workbook.createSheet("Sheet"));
+        return write(workbook);
+    }
+
+    private static byte[] toBytes(final Workbook workbook, final String... sheetNames) throws IOException {
+        for (final String sheetName : sheetNames) {
+            workbook.createSheet(sheetName);
+        }
+        return write(workbook);
+    }
+
+    private static byte[] write(final Workbook workbook) throws IOException {
+        try(workbook) {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            workbook.write(baos);
+            return baos.toByteArray();
+        }
+    }
+
+}
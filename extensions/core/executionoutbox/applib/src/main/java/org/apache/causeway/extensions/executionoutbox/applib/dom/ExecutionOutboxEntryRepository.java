@@ -19,6 +19,7 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,6 +41,7 @@
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -102,9 +104,36 @@ public Optional<E> findByInteractionIdAndSequence(final UUID interactionId, fina
     }
 
     public List<E> findOldest() {
+        return findOldest(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending());
+    }
+
+    /**
+     * Returns at most the given number of the oldest entries.
+     */
+    public List<E> findOldest(final int limit) {
         return repositoryService().allMatches(
                 Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
-                        .withLimit(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending()));
+                        .withLimit(limit));
+    }
+
+    /**
+     * Returns at most the given number of the oldest entries that follow the entry with the given interaction id
+     * and sequence (the cursor), in the same order as {@link #findOldest(int)}.
+     *
+     * <p>
+     * If the entry acting as the cursor no longer exists (typically because it has since been processed and deleted),
+     * then simply returns the oldest entries.
+     * </p>
+     */
+    public List<E> findOldestAfter(final UUID interactionId, final int sequence, final int limit) {
+        return findByInteractionIdAndSequence(interactionId, sequence)
+                .map(cursor -> repositoryService().allMatches(
+                        Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST_AFTER)
+                                .withParameter("timestamp", cursor.getTimestamp())
+                                .withParameter("interactionId", interactionId)
+                                .withParameter("sequence", sequence)
+                                .withLimit(limit)))
+                .orElseGet(() -> findOldest(limit));
     }
 
     public ExecutionOutboxEntry upsert(
@@ -164,6 +193,27 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    /**
+     * Deletes the entries with any of the given interaction ids and the given sequence.
+     *
+     * <p>
+     * Persistence specific implementations override this to perform the deletion as a single (set-based) statement;
+     * the fallback implementation provided here deletes the entries one by one.
+     * </p>
+     *
+     * @return the number of entries deleted
+     */
+    @Programmatic
+    public int deleteByInteractionIdsAndSequence(final Collection<UUID> interactionIds, final int sequence) {
+        int deleted = 0;
+        for (val interactionId : interactionIds) {
+            if(deleteByInteractionIdAndSequence(interactionId, sequence)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -18,7 +18,10 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.restapi;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import javax.inject.Inject;
@@ -27,22 +30,27 @@
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
 import org.apache.causeway.applib.annotation.NatureOfService;
+import org.apache.causeway.applib.annotation.Optionality;
+import org.apache.causeway.applib.annotation.Parameter;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
 
 /**
  * Provides a server-side REST API for the <i>outbox rest client</i> to call, to first obtain {@link #pending() pending}
- * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
- * {@link #deleteMany(String) deleted}.
+ * {@link ExecutionOutboxEntry outbox entries} to be processed (or, batch by batch, using
+ * {@link #pendingBatch(int, String)}), and then later to request them to be {@link #deleteMany(String) deleted}.
  *
  * @since 2.0 {@index}
  */
@@ -75,6 +83,38 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As per {@link #pending()}, but returning at most the given number of entries (bounded by configuration), and,
+     * if a cursor is provided, only those that follow the entry identified by that cursor.
+     *
+     * <p>
+     *     The cursor takes the form <code>interactionId:sequence</code>, typically of the last entry of the
+     *     previous batch.  This allows a client to fetch further batches before having {@link #deleteMany(String)
+     *     deleted} the entries of the previous ones.
+     * </p>
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingBatch(
+            final int limit,
+            @Parameter(optionality = Optionality.OPTIONAL)
+            final String after) {
+        val maxBatchSize = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxBatchSize();
+        val batchSize = Math.max(1, Math.min(limit, maxBatchSize));
+        val outboxEvents = factoryService.viewModel(new OutboxEvents());
+        List<? extends ExecutionOutboxEntry> entries = _Strings.isNullOrEmpty(after)
+                ? entryRepository.findOldest(batchSize)
+                : parseCursor(after)
+                    .map(cursor -> entryRepository.findOldestAfter(cursor.getInteractionId(), cursor.getSequence(), batchSize))
+                    .orElseThrow(() -> new IllegalArgumentException(String.format(
+                            "Cursor '%s' is not of the form 'interactionId:sequence'", after)));
+        outboxEvents.getExecutions().addAll(entries);
+        return outboxEvents;
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -91,14 +131,55 @@ public void delete(final String interactionId, final int sequence) {
     )
     public void deleteMany(final String interactionsDtoXml) {
         val interactionsDto = InteractionsDtoUtils.fromXml(interactionsDtoXml);
+
+        // almost always all executions share the same sequence (the first one of their interaction), so grouping by
+        // sequence allows the entries to be deleted with very few (set-based) statements
+        val interactionIdsBySequence = new TreeMap<Integer, List<UUID>>();
         interactionsDto.getInteractionDto().
                 forEach(interactionType -> {
                     val interactionId = interactionType.getInteractionId();
                     val sequence = interactionType.getExecution().getSequence();
-                    entryRepository.deleteByInteractionIdAndSequence(UUID.fromString(interactionId), sequence);
+                    interactionIdsBySequence
+                            .computeIfAbsent(sequence, __ -> new ArrayList<>())
+                            .add(UUID.fromString(interactionId));
                 });
+
+        interactionIdsBySequence.forEach((sequence, interactionIds) -> {
+            for (int from = 0; from < interactionIds.size(); from += DELETE_MANY_CHUNK_SIZE) {
+                val chunk = interactionIds.subList(from, Math.min(from + DELETE_MANY_CHUNK_SIZE, interactionIds.size()));
+                entryRepository.deleteByInteractionIdsAndSequence(chunk, sequence);
+            }
+        });
+    }
+
+    // -- HELPER
+
+    /**
+     * Keeps the number of (SQL) parameters per delete statement within the bounds supported by most databases.
+     */
+    private static final int DELETE_MANY_CHUNK_SIZE = 500;
+
+    @Value(staticConstructor = "of")
+    private static class Cursor {
+        UUID interactionId;
+        int sequence;
+    }
+
+    private static Optional<Cursor> parseCursor(final String cursor) {
+        val separatorIndex = cursor.lastIndexOf(':');
+        if(separatorIndex < 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Cursor.of(
+                    UUID.fromString(cursor.substring(0, separatorIndex).trim()),
+                    Integer.parseInt(cursor.substring(separatorIndex + 1).trim())));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     @Inject FactoryService factoryService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
@@ -283,6 +283,40 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void find_oldest_after_and_delete_in_bulk() {
+
+        // given (each in its own interaction)
+        for (int i = 0; i < 5; i++) {
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counterRepository.findByName("counter-1")).act();
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+        }
+
+        List<ExecutionOutboxEntry> all = List.copyOf(executionOutboxEntryRepository.findOldest(10));
+        assertThat(all).hasSize(5);
+
+        // when
+        val cursor = all.get(1);
+        List<ExecutionOutboxEntry> after = List.copyOf(executionOutboxEntryRepository.findOldestAfter(cursor.getInteractionId(), cursor.getSequence(), 2));
+
+        // then
+        assertThat(after).containsExactlyElementsOf(all.subList(2, 4));
+
+        // when
+        val deleted = executionOutboxEntryRepository.deleteByInteractionIdsAndSequence(
+                List.of(all.get(0).getInteractionId(), all.get(1).getInteractionId(), UUID.randomUUID()), 0);
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(executionOutboxEntryRepository.findOldest(10)).hasSize(3);
+
+        // and when the cursor no longer exists, then starts from the oldest
+        assertThat(executionOutboxEntryRepository.findOldestAfter(cursor.getInteractionId(), cursor.getSequence(), 10)).hasSize(3);
+    }
+
     @Inject ExecutionOutboxEntryRepository<? extends ExecutionOutboxEntry> executionOutboxEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
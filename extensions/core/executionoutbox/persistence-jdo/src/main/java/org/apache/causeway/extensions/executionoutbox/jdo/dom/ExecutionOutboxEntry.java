@@ -67,6 +67,14 @@
                   + "  FROM " + ExecutionOutboxEntry.FQCN + " "
                   + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"
                     + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_OLDEST_AFTER,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp > :timestamp "
+                  + "    || (timestamp == :timestamp && interactionId > :interactionId) "
+                  + "    || (timestamp == :timestamp && interactionId == :interactionId && sequence < :sequence) "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"), // programmatic range
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.Collection;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -27,8 +31,10 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository.LOGICAL_TYPE_NAME)
@@ -57,4 +63,20 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    @Inject JdoSupportService jdoSupportService;
+
+    /**
+     * Deletes the entries using a single (bulk) delete statement.
+     */
+    @Override
+    public int deleteByInteractionIdsAndSequence(final Collection<UUID> interactionIds, final int sequence) {
+        if(interactionIds.isEmpty()) {
+            return 0;
+        }
+        val query = jdoSupportService.getPersistenceManager().newQuery(
+                ExecutionOutboxEntry.class,
+                ":interactionIds.contains(interactionId) && sequence == :sequence");
+        return (int) query.deletePersistentAll(interactionIds, sequence);
+    }
+
 }
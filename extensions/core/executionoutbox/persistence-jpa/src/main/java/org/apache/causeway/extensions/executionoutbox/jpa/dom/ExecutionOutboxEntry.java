@@ -75,6 +75,20 @@
             query = "SELECT ele "
                   + "  FROM ExecutionOutboxEntry ele "
                   + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range 0,100
+    @NamedQuery(
+            name = Nq.FIND_OLDEST_AFTER,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.timestamp > :timestamp "
+                  + "    OR (ele.timestamp = :timestamp AND ele.pk.interactionId > :interactionId) "
+                  + "    OR (ele.timestamp = :timestamp AND ele.pk.interactionId = :interactionId AND ele.pk.sequence < :sequence) "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.DELETE_BY_INTERACTION_IDS_AND_SEQUENCE,
+            query = "DELETE "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.pk.interactionId IN :interactionIds "
+                  + "   AND ele.pk.sequence      = :sequence "),
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import java.util.Collection;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -27,6 +31,8 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry.Nq;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
 
@@ -57,4 +63,21 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    @Inject JpaSupportService jpaSupportService;
+
+    /**
+     * Deletes the entries using a single (bulk) delete statement.
+     */
+    @Override
+    public int deleteByInteractionIdsAndSequence(final Collection<UUID> interactionIds, final int sequence) {
+        if(interactionIds.isEmpty()) {
+            return 0;
+        }
+        return jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class)
+                .createNamedQuery(Nq.DELETE_BY_INTERACTION_IDS_AND_SEQUENCE)
+                .setParameter("interactionIds", interactionIds)
+                .setParameter("sequence", sequence)
+                .executeUpdate();
+    }
+
 }
@@ -137,6 +137,51 @@ public List<InteractionDto> pending() {
 
     }
 
+    /**
+     * Returns at most the given number of pending interactions (bounded by the server's configuration), and, if a
+     * cursor is provided, only those that follow the interaction identified by that cursor.
+     *
+     * @param after - optional, typically the {@link #cursorFor(InteractionDto) cursor} of the last interaction of the
+     *              previous batch.
+     */
+    public List<InteractionDto> pending(final int limit, final String after) {
+
+        ensureInitialized();
+
+        try(val client = RestfulClient.ofConfig(restfulClientConfig)) {
+
+            var target = client.getJaxRsClient()
+                    .target(client.uri(PENDING_BATCH_URI))
+                    .queryParam("limit", limit);
+            if(after != null) {
+                target = target.queryParam("after", after);
+            }
+            var response = target.request()
+                    .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class))
+                    .get();
+
+            final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+            if(digest.isSuccess()) {
+                return digest.getValue()
+                        .map(InteractionsDto::getInteractionDto)
+                        .orElseGet(Collections::emptyList);
+            } else {
+                log.error("Failed to GET from {}: {}", client.uri(PENDING_BATCH_URI), digest.getFailure().get());
+                return Collections.emptyList();
+            }
+        }
+
+    }
+
+    /**
+     * The cursor identifying the given interaction, to pass to {@link #pending(int, String)} to obtain the
+     * interactions that follow it.
+     */
+    public static String cursorFor(final InteractionDto interactionDto) {
+        return interactionDto.getInteractionId() + ":" + interactionDto.getExecution().getSequence();
+    }
+
     public void delete(final String interactionId, final int sequence) {
         invoke(DELETE_URI,
                 new DeleteMessage(interactionId, sequence));
@@ -154,6 +199,7 @@ public void deleteMany(final List<InteractionDto> interactionDtos) {
     // -- HELPER
 
     private static String PENDING_URI = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pending/invoke";
+    private static String PENDING_BATCH_URI = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pendingBatch/invoke";
     private static String DELETE_URI = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/delete/invoke";
     private static String DELETE_MANY_URI = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/deleteMany/invoke";
 
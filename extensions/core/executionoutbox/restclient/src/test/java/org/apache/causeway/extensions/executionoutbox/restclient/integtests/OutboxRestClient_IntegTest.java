@@ -18,7 +18,9 @@
  */
 package org.apache.causeway.extensions.executionoutbox.restclient.integtests;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import javax.inject.Inject;
@@ -237,6 +239,47 @@ void scenario() {
 
     }
 
+    @Test
+    void pending_in_batches() {
+
+        // given
+        interactionService.runAnonymous(() -> {
+            counter1 = counterRepository.findByName("counter-1");
+            counter2 = counterRepository.findByName("counter-2");
+
+            bump(counter1, 15);
+            bump(counter2, 10);
+        });
+
+        // when
+        List<InteractionDto> batch1 = outboxClient.pending(10, null);
+        List<InteractionDto> batch2 = outboxClient.pending(10, OutboxClient.cursorFor(batch1.get(batch1.size() - 1)));
+        List<InteractionDto> batch3 = outboxClient.pending(10, OutboxClient.cursorFor(batch2.get(batch2.size() - 1)));
+
+        // then
+        assertThat(batch1).hasSize(10);
+        assertThat(batch2).hasSize(10);
+        assertThat(batch3).hasSize(5);
+
+        List<InteractionDto> all = new ArrayList<>();
+        all.addAll(batch1);
+        all.addAll(batch2);
+        all.addAll(batch3);
+        List<String> cursors = all.stream().map(OutboxClient::cursorFor).collect(Collectors.toList());
+        assertThat(cursors).doesNotHaveDuplicates();
+        assertThat(cursors).containsExactlyElementsOf(
+                outboxClient.pending(100, null).stream().map(OutboxClient::cursorFor).collect(Collectors.toList()));
+
+        // when
+        outboxClient.deleteMany(all);
+
+        // then
+        interactionService.runAnonymous(() -> {
+            List<? extends ExecutionOutboxEntry> remaining = repositoryService.allInstances(org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntry.class);
+            assertThat(remaining).isEmpty();
+        });
+    }
+
     private void bump(final org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter counter, final int numberOfTimes) {
         IntStream.range(0, numberOfTimes).forEach(x -> {
             wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter).act();
@@ -22,6 +22,7 @@
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +34,9 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 
 import lombok.AccessLevel;
@@ -53,6 +57,8 @@
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject TransactionService transactionService;
 
     public Class<E> getEntityClass() {
         return auditTrailEntryClass;
@@ -64,6 +70,29 @@ public AuditTrailEntry createFor(final EntityPropertyChange change) {
         return repositoryService.persistAndFlush(entry);
     }
 
+    /**
+     * Creates an entry for each of the given changes, flushing only once every
+     * {@link CausewayConfiguration.Extensions.AuditTrail#getPersistBatchSize() persist-batch-size} entries
+     * (rather than once per entry), as each flush has the ORM check all entities of its persistence context
+     * for changes.
+     */
+    public List<AuditTrailEntry> createForAll(final Can<EntityPropertyChange> changes) {
+        val persistBatchSize = causewayConfiguration.getExtensions().getAuditTrail().getPersistBatchSize();
+        val entries = new ArrayList<AuditTrailEntry>(changes.size());
+        for (val change : changes) {
+            E entry = factoryService.detachedEntity(auditTrailEntryClass);
+            entry.init(change);
+            entries.add(repositoryService.persist(entry));
+            if(entries.size() % persistBatchSize == 0) {
+                transactionService.flushTransaction();
+            }
+        }
+        if(entries.size() % persistBatchSize != 0) {
+            transactionService.flushTransaction();
+        }
+        return entries;
+    }
+
     public Optional<E> findFirstByTarget(final Bookmark target) {
         return repositoryService.firstMatch(
                 Query.named(auditTrailEntryClass, AuditTrailEntry.Nq.FIND_FIRST_BY_TARGET)
@@ -31,6 +31,7 @@
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.extensions.audittrail.applib.CausewayModuleExtAuditTrailApplib;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
@@ -59,9 +60,13 @@ public class EntityPropertyChangeSubscriberForAuditTrail implements EntityProper
     final AuditTrailEntryRepository<? extends AuditTrailEntry> auditTrailEntryRepository;
 
     @Override
-    public void onChanging(EntityPropertyChange entityPropertyChange) {
+    public void onChanging(final EntityPropertyChange entityPropertyChange) {
         auditTrailEntryRepository.createFor(entityPropertyChange);
+    }
 
+    @Override
+    public void onBulkChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
+        auditTrailEntryRepository.createForAll(entityPropertyChanges);
     }
 
     @Override
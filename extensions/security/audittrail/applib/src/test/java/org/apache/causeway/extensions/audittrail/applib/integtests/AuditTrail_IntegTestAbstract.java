@@ -32,6 +32,8 @@
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
@@ -154,6 +156,40 @@ void updated_using_mixin() {
 
     }
 
+    @Test
+    void updated_several_times_within_same_transaction() {
+
+        // given
+        val counter1 = counterRepository.persist(newCounter("counter-1"));
+        counter1.setNum(1L);
+        val target1 = bookmarkService.bookmarkFor(counter1).orElseThrow();
+        interactionService.nextInteraction();
+
+        auditTrailEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        // when
+        val counter1Reloaded = bookmarkService.lookup(target1, Counter.class).orElseThrow();
+        counter1Reloaded.setNum(2L);
+        transactionService.flushTransaction();
+        counter1Reloaded.setNum(3L);
+        counter1Reloaded.setNum2(4L);
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        val propertyIds = entries.stream().map(AuditTrailEntry::getPropertyId).collect(Collectors.toList());
+        assertThat(propertyIds).containsExactlyInAnyOrder("num", "num2");
+
+        val entriesById = entries.stream().collect(Collectors.toMap(AuditTrailEntry::getPropertyId, x -> x));
+        assertThat(entriesById.get("num"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("1"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("3"));
+        assertThat(entriesById.get("num2"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isNull())
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("4"));
+    }
+
     @Test
     void deleted() {
 
@@ -199,9 +235,41 @@ void deleted() {
 
     }
 
+    @Test
+    void created_in_bulk() {
+
+        // given
+        val auditTrailConfig = causewayConfiguration.getExtensions().getAuditTrail();
+        val persistBatchSize = auditTrailConfig.getPersistBatchSize();
+        auditTrailConfig.setPersistBatchSize(4); // so that flushed in several chunks
+
+        try {
+            // when
+            for (int i = 0; i < 10; i++) {
+                counterRepository.persist(newCounter("counter-" + i));
+            }
+            interactionService.nextInteraction();
+
+            // then
+            val entries = auditTrailEntryRepository.findAll();
+            assertThat(entries.stream().map(AuditTrailEntry::getInteractionId).distinct()).hasSize(1);
+            val propertyIdsByTarget = entries.stream().collect(Collectors.groupingBy(
+                    AuditTrailEntry::getTarget,
+                    Collectors.mapping(AuditTrailEntry::getPropertyId, Collectors.toList())));
+            assertThat(propertyIdsByTarget).hasSize(10);
+            propertyIdsByTarget.values().forEach(propertyIds ->
+                    assertThat(propertyIds).contains("name", "num", "num2"));
+
+        } finally {
+            auditTrailConfig.setPersistBatchSize(persistBatchSize);
+        }
+    }
+
+    @Inject CausewayConfiguration causewayConfiguration;
     @Inject InteractionService interactionService;
     @Inject CounterRepository<? extends Counter> counterRepository;
     @Inject WrapperFactory wrapperFactory;
+    @Inject TransactionService transactionService;
     @Inject BookmarkService bookmarkService;
     @Inject AuditTrailEntryRepository<? extends AuditTrailEntry> auditTrailEntryRepository;
 
@@ -42,6 +42,7 @@
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.applib.annotation.PropertyLayout;
+import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.mixins.security.HasUsername;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
@@ -553,7 +554,8 @@ class DomainEvent extends PropertyDomainEvent<ApplicationUserStatus> {}
     // -- ENCRYPTED PASSWORD
 
     @Property(
-            hidden = Where.EVERYWHERE
+            hidden = Where.EVERYWHERE,
+            entityChangePublishing = Publishing.DISABLED
     )
     @Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
     @Retention(RetentionPolicy.RUNTIME)
@@ -18,34 +18,53 @@
  */
 package org.apache.causeway.extensions.secman.integration.authorizor;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Named;
-import javax.inject.Provider;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.Identifier;
-import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
-import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.applib.services.publishing.spi.EntityChanges;
+import org.apache.causeway.applib.services.publishing.spi.EntityChangesSubscriber;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.security.authorization.AuthorizationEvent;
 import org.apache.causeway.core.security.authorization.Authorizor;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
+import org.apache.causeway.schema.chg.v2.ChangesDto;
+import org.apache.causeway.schema.common.v2.OidDto;
+import org.apache.causeway.schema.common.v2.OidsDto;
 
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * @since 2.0 {@index}
@@ -57,7 +76,7 @@
 public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
-    @Inject Provider<PermissionCache> cache;
+    @Inject PermissionCache cache;
 
     @Override
     public boolean isVisible(final InteractionContext authentication, final Identifier identifier) {
@@ -77,36 +96,187 @@ private boolean grants(
             final ApplicationPermissionMode permissionMode) {
 
         val userName = authentication.getUser().getName();
-        val permissionSetIfAny = cache.get()
+        return cache
                 .computeIfAbsent(userName, ()->
-                applicationUserRepository
-                .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
-
-        return permissionSetIfAny
-        .map(permissionSet->permissionSet.grants(
-                ApplicationFeatureId.fromIdentifier(identifier),
-                permissionMode))
-        .orElse(false);
+                    applicationUserRepository
+                    .findByUsername(userName)
+                    .map(ApplicationUser::getPermissionSet))
+                .grants(identifier, permissionMode);
     }
 
+    /**
+     * Application scoped cache of permissions per user, bounded in size (and age) as configured via
+     * {@link CausewayConfiguration.Extensions.Secman.PermissionCache}.
+     * <p>
+     * Any published change to secman's user, role or permission entities discards all cached permissions,
+     * as changing a single role or permission may affect any number of users.
+     * (For this purpose secman's entities have entity change publishing enabled, hence are also seen by any other
+     * {@link EntityChangesSubscriber} or {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber},
+     * eg. audit trail.)  Once the change is committed, the cached permissions are discarded once more (as these
+     * might have been re-populated from the database while the transaction was committing), and this is then
+     * announced as {@link AuthorizationEvent#PERMISSIONS_CHANGED}.
+     */
     @Component
     @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.PermissionCache")
-    @InteractionScope
-    static class PermissionCache implements DisposableBean {
+    @Log4j2
+    static class PermissionCache implements EntityChangesSubscriber, DisposableBean {
 
-        private final Map<String, Optional<ApplicationPermissionValueSet>> permissionsByUsername = _Maps.newHashMap();
+        private static final Set<String> SECMAN_LOGICAL_TYPE_NAMES = Set.of(
+                ApplicationUser.LOGICAL_TYPE_NAME,
+                ApplicationRole.LOGICAL_TYPE_NAME,
+                ApplicationPermission.LOGICAL_TYPE_NAME);
+
+        /**
+         * Cached permissions of the current generation; invalidation swaps in an empty map, hence a lookup
+         * that was in flight during invalidation only ever populates the map of the discarded generation.
+         */
+        private final AtomicReference<Map<String, UserPermissions>> permissionsByUsername =
+                new AtomicReference<>(new ConcurrentHashMap<>());
+        private final int maxSize;
+        private final long expiryNanos;
+
+        @Inject EventBusService eventBusService;
+
+        @Inject
+        PermissionCache(final CausewayConfiguration causewayConfiguration) {
+            this(causewayConfiguration.getExtensions().getSecman().getPermissionCache());
+        }
+
+        PermissionCache(final CausewayConfiguration.Extensions.Secman.PermissionCache config) {
+            this(config.getMaxSize(), config.getExpiry());
+        }
+
+        PermissionCache(final int maxSize, final Duration expiry) {
+            this.maxSize = Math.max(1, maxSize);
+            this.expiryNanos = expiry.toNanos();
+        }
 
         @Override
         public void destroy() {
-            permissionsByUsername.clear();
+            clear();
         }
 
-        Optional<ApplicationPermissionValueSet> computeIfAbsent(
+        UserPermissions computeIfAbsent(
                 final @NonNull String userName,
                 final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
 
-            return permissionsByUsername.computeIfAbsent(userName, __->lookup.get());
+            val permissionsOfGeneration = permissionsByUsername.get();
+            val cached = permissionsOfGeneration.get(userName);
+            if(cached!=null
+                    && !cached.isExpired(expiryNanos)) {
+                return cached;
+            }
+
+            // the lookup hits the database, hence is not done while holding a lock;
+            // concurrent misses for the same user might both do the lookup, which is harmless
+            val loaded = new UserPermissions(lookup.get(), System.nanoTime());
+
+            // if invalidated while being loaded, this populates the discarded generation only
+            permissionsOfGeneration.put(userName, loaded);
+            evictIfOversized(permissionsOfGeneration);
+            return loaded;
+        }
+
+        void clear() {
+            permissionsByUsername.set(new ConcurrentHashMap<>());
+        }
+
+        int size() {
+            return permissionsByUsername.get().size();
+        }
+
+        // -- ENTITY CHANGES
+
+        @Override
+        public void onChanging(final EntityChanges entityChanges) {
+            if(affectsPermissions(entityChanges.getDto())) {
+                log.debug("secman entities changed, discarding {} cached permission sets", size());
+                clear();
+                // entity changes are published before commit, but listeners must only see committed permissions
+                runAfterCommit(()->{
+                    clear();
+                    eventBusService.post(AuthorizationEvent.PERMISSIONS_CHANGED);
+                });
+            }
+        }
+
+        static boolean affectsPermissions(final ChangesDto changesDto) {
+            val objects = changesDto!=null
+                    ? changesDto.getObjects()
+                    : null;
+            if(objects==null) {
+                return false;
+            }
+            return Stream.of(objects.getCreated(), objects.getUpdated(), objects.getDeleted())
+                    .filter(oidsDto->oidsDto!=null)
+                    .map(OidsDto::getOid)
+                    .flatMap(Collection::stream)
+                    .map(OidDto::getType)
+                    .anyMatch(SECMAN_LOGICAL_TYPE_NAMES::contains);
+        }
+
+        // -- HELPER
+
+        private static void runAfterCommit(final Runnable runnable) {
+            if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+                runnable.run();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        }
+
+        /**
+         * Evicts the least recently loaded entries, once exceeding the maximum size.
+         * Only ever called on a cache miss, so the linear scan is not on the hot path.
+         */
+        private void evictIfOversized(final Map<String, UserPermissions> permissionsByUsername) {
+            val excess = permissionsByUsername.size() - maxSize;
+            if(excess<=0) {
+                return;
+            }
+            permissionsByUsername.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry->entry.getValue().getLoadedAtNanos()))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .forEach(permissionsByUsername::remove);
+        }
+
+    }
+
+    /**
+     * The permission set of a single user, along with memoized grant decisions per
+     * {@link Identifier} and {@link ApplicationPermissionMode}.
+     */
+    @RequiredArgsConstructor
+    static class UserPermissions {
+
+        private final Optional<ApplicationPermissionValueSet> permissionSetIfAny;
+        @Getter
+        private final long loadedAtNanos;
+
+        private final Map<Identifier, Boolean> viewingGrants = new ConcurrentHashMap<>();
+        private final Map<Identifier, Boolean> changingGrants = new ConcurrentHashMap<>();
+
+        boolean grants(final Identifier identifier, final ApplicationPermissionMode permissionMode) {
+            if(permissionSetIfAny.isEmpty()) {
+                return false;
+            }
+            val grants = permissionMode == ApplicationPermissionMode.CHANGING
+                    ? changingGrants
+                    : viewingGrants;
+            return grants.computeIfAbsent(identifier, __->
+                permissionSetIfAny.get().grants(
+                        ApplicationFeatureId.fromIdentifier(identifier),
+                        permissionMode));
+        }
+
+        boolean isExpired(final long expiryNanos) {
+            return System.nanoTime() - loadedAtNanos > expiryNanos;
         }
 
     }
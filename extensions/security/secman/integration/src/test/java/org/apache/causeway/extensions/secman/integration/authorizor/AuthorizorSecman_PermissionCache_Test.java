@@ -0,0 +1,171 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.eventbus.EventBusService;
+import org.apache.causeway.applib.services.publishing.spi.EntityChanges;
+import org.apache.causeway.core.security.authorization.AuthorizationEvent;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.integration.authorizor.AuthorizorSecman.PermissionCache;
+import org.apache.causeway.schema.chg.v2.ChangesDto;
+import org.apache.causeway.schema.chg.v2.ObjectsDto;
+import org.apache.causeway.schema.common.v2.OidDto;
+import org.apache.causeway.schema.common.v2.OidsDto;
+
+import lombok.val;
+
+class AuthorizorSecman_PermissionCache_Test {
+
+    private AtomicInteger lookupCount;
+
+    @BeforeEach
+    void setUp() {
+        lookupCount = new AtomicInteger();
+    }
+
+    @Test
+    void cache_hit() {
+        val cache = new PermissionCache(10, Duration.ofMinutes(5));
+
+        val first = cache.computeIfAbsent("sven", this::lookup);
+        val second = cache.computeIfAbsent("sven", this::lookup);
+
+        assertSame(first, second);
+        assertEquals(1, lookupCount.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void expiry() throws InterruptedException {
+        val cache = new PermissionCache(10, Duration.ofMillis(1));
+
+        val first = cache.computeIfAbsent("sven", this::lookup);
+        Thread.sleep(10);
+        val second = cache.computeIfAbsent("sven", this::lookup);
+
+        assertNotSame(first, second);
+        assertEquals(2, lookupCount.get());
+    }
+
+    @Test
+    void eviction_when_oversized() {
+        val cache = new PermissionCache(2, Duration.ofMinutes(5));
+
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.computeIfAbsent("dick", this::lookup);
+        cache.computeIfAbsent("bob", this::lookup);
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void invalidation_on_permission_changes() {
+        val cache = new PermissionCache(10, Duration.ofMinutes(5));
+        cache.eventBusService = mock(EventBusService.class);
+
+        val first = cache.computeIfAbsent("sven", this::lookup);
+
+        // changes to entities other than secman's are ignored
+        cache.onChanging(entityChanges("myapp.Customer"));
+        assertSame(first, cache.computeIfAbsent("sven", this::lookup));
+
+        cache.onChanging(entityChanges(ApplicationRole.LOGICAL_TYPE_NAME));
+        assertEquals(0, cache.size());
+        assertNotSame(first, cache.computeIfAbsent("sven", this::lookup));
+        assertEquals(2, lookupCount.get());
+    }
+
+    @Test
+    void permissions_changed_announced_after_commit() {
+        val cache = new PermissionCache(10, Duration.ofMinutes(5));
+        val eventBusService = mock(EventBusService.class);
+        cache.eventBusService = eventBusService;
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.onChanging(entityChanges(ApplicationRole.LOGICAL_TYPE_NAME));
+            verifyNoInteractions(eventBusService);
+
+            // re-populated while committing
+            cache.computeIfAbsent("sven", this::lookup);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(eventBusService).post(AuthorizationEvent.PERMISSIONS_CHANGED);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidation_while_loading_does_not_populate() {
+        val cache = new PermissionCache(10, Duration.ofMinutes(5));
+
+        cache.computeIfAbsent("sven", ()->{
+            cache.clear(); // concurrent invalidation
+            return lookup();
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    // -- HELPER
+
+    private Optional<ApplicationPermissionValueSet> lookup() {
+        lookupCount.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private static EntityChanges entityChanges(final String logicalTypeName) {
+        val oidDto = new OidDto();
+        oidDto.setType(logicalTypeName);
+        oidDto.setId("1");
+        val oidsDto = new OidsDto();
+        oidsDto.getOid().add(oidDto);
+        val objectsDto = new ObjectsDto();
+        objectsDto.setUpdated(oidsDto);
+        val changesDto = new ChangesDto();
+        changesDto.setObjects(objectsDto);
+
+        val entityChanges = mock(EntityChanges.class);
+        when(entityChanges.getDto()).thenReturn(changesDto);
+        return entityChanges;
+    }
+
+}
@@ -37,6 +37,7 @@
 import org.apache.causeway.applib.annotation.BookmarkPolicy;
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.DomainObjectLayout;
+import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureSort;
 import org.apache.causeway.commons.internal.base._Casts;
@@ -99,7 +100,9 @@
 @Version(strategy = VersionStrategy.VERSION_NUMBER, column = "version")
 @XmlJavaTypeAdapter(PersistentEntityAdapter.class)
 @Named(ApplicationPermission.LOGICAL_TYPE_NAME)
-@DomainObject()
+@DomainObject(
+        entityChangePublishing = Publishing.ENABLED
+)
 @DomainObjectLayout(
         bookmarking = BookmarkPolicy.AS_CHILD
 )
@@ -42,6 +42,7 @@
 import org.apache.causeway.applib.annotation.Bounding;
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.DomainObjectLayout;
+import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole.Nq;
@@ -76,6 +77,7 @@
 @XmlJavaTypeAdapter(PersistentEntityAdapter.class)
 @Named(ApplicationRole.LOGICAL_TYPE_NAME)
 @DomainObject(
+        entityChangePublishing = Publishing.ENABLED,
         bounding = Bounding.BOUNDED,
         autoCompleteRepository = ApplicationRoleRepository.class,
         autoCompleteMethod = "findMatching"
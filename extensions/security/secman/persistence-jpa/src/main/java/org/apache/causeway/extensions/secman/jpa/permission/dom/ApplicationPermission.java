@@ -38,6 +38,7 @@
 import org.apache.causeway.applib.annotation.BookmarkPolicy;
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.DomainObjectLayout;
+import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureSort;
 import org.apache.causeway.commons.internal.base._Casts;
@@ -101,7 +102,9 @@
 @XmlJavaTypeAdapter(PersistentEntityAdapter.class)
 @EntityListeners(CausewayEntityListener.class)
 @Named(ApplicationPermission.LOGICAL_TYPE_NAME)
-@DomainObject
+@DomainObject(
+        entityChangePublishing = Publishing.ENABLED
+)
 @DomainObjectLayout(
         bookmarking = BookmarkPolicy.AS_CHILD
 )
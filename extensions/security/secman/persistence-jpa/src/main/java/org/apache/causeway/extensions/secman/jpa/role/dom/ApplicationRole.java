@@ -40,6 +40,7 @@
 import org.apache.causeway.applib.annotation.Bounding;
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.DomainObjectLayout;
+import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole.Nq;
@@ -72,6 +73,7 @@
 @EntityListeners(CausewayEntityListener.class)
 @Named(ApplicationRole.LOGICAL_TYPE_NAME)
 @DomainObject(
+        entityChangePublishing = Publishing.ENABLED,
         bounding = Bounding.BOUNDED,
         autoCompleteRepository = ApplicationRoleRepository.class,
         autoCompleteMethod = "findMatching"
@@ -43,6 +43,7 @@
 import org.apache.causeway.applib.annotation.BookmarkPolicy;
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.DomainObjectLayout;
+import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser.Nq;
@@ -90,6 +91,7 @@
 @EntityListeners(CausewayEntityListener.class)
 @Named(ApplicationUser.LOGICAL_TYPE_NAME)
 @DomainObject(
+        entityChangePublishing = Publishing.ENABLED,
         autoCompleteRepository = ApplicationUserRepository.class,
         autoCompleteMethod = "findMatching"
         )
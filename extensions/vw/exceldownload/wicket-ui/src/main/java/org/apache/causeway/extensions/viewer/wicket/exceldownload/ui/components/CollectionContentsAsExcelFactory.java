@@ -18,12 +18,9 @@
  */
 package org.apache.causeway.extensions.viewer.wicket.exceldownload.ui.components;
 
-import java.io.File;
-
 import org.apache.wicket.Component;
 import org.apache.wicket.markup.html.link.DownloadLink;
 import org.apache.wicket.model.IModel;
-import org.apache.wicket.model.LoadableDetachableModel;
 import org.apache.wicket.model.Model;
 
 import org.apache.causeway.viewer.commons.model.components.UiComponentType;
@@ -77,7 +74,7 @@ public IModel<String> getCssClass() {
     // -- HELPER
 
     private DownloadLink createDownloadLink(final String id, final EntityCollectionModel model) {
-        final LoadableDetachableModel<File> fileModel = ExcelFileModel.of(model);
+        final ExcelFileModel fileModel = ExcelFileModel.of(model);
         final String xlsxFileName = xlsxFileNameFor(model);
         final DownloadLink link = new ExcelFileDownloadLink(id, fileModel, xlsxFileName);
         return link;
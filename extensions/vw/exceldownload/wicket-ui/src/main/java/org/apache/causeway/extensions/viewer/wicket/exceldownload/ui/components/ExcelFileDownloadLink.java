@@ -19,47 +19,50 @@
 package org.apache.causeway.extensions.viewer.wicket.exceldownload.ui.components;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 
 import org.apache.wicket.markup.ComponentTag;
 import org.apache.wicket.markup.html.link.DownloadLink;
-import org.apache.wicket.model.LoadableDetachableModel;
-import org.apache.wicket.request.IRequestCycle;
+import org.apache.wicket.model.Model;
 import org.apache.wicket.request.handler.resource.ResourceStreamRequestHandler;
 import org.apache.wicket.request.resource.ContentDisposition;
 import org.apache.wicket.util.encoding.UrlEncoder;
-import org.apache.wicket.util.file.Files;
-import org.apache.wicket.util.resource.FileResourceStream;
+import org.apache.wicket.util.resource.AbstractResourceStreamWriter;
 import org.apache.wicket.util.resource.IResourceStream;
 
 class ExcelFileDownloadLink extends DownloadLink {
 
     private static final long serialVersionUID = 1L;
 
+    private final ExcelFileModel excelFileModel;
     private final String xlsxFileName;
 
     public ExcelFileDownloadLink(
-            final String id, final LoadableDetachableModel<File> model, final String xlsxFileName) {
-        super(id, model, xlsxFileName);
+            final String id, final ExcelFileModel excelFileModel, final String xlsxFileName) {
+        super(id, Model.<File>of(), xlsxFileName); // file model not used, as we stream on click (see below)
+        this.excelFileModel = excelFileModel;
         this.xlsxFileName = xlsxFileName;
     }
 
+    /**
+     * Streams the spreadsheet directly into the response, rather than first writing it to a temporary
+     * {@link File} (as would the super implementation).
+     */
     @Override
     public void onClick() {
 
-        final File file = getModelObject();
-        if (file == null)
-        {
-            throw new IllegalStateException(getClass().getName() +
-                    " failed to retrieve a File object from model");
-        }
-
         String fileName = encodedFileName();
 
-        final IResourceStream resourceStream = new FileResourceStream(
-                new org.apache.wicket.util.file.File(file)) {
+        final IResourceStream resourceStream = new AbstractResourceStreamWriter() {
 
             private static final long serialVersionUID = 1L;
 
+            @Override
+            public void write(final OutputStream output) throws IOException {
+                excelFileModel.writeTo(output);
+            }
+
             @Override
             public String getContentType() {
                 return "application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml";
@@ -68,14 +71,7 @@ public String getContentType() {
 
         getRequestCycle().scheduleRequestHandlerAfterCurrent(
                 new ResourceStreamRequestHandler(resourceStream)
-                {
-                    @Override
-                    public void respond(final IRequestCycle requestCycle)
-                    {
-                        super.respond(requestCycle);
-                        Files.remove(file);
-                    }
-                }.setFileName(fileName)
+                .setFileName(fileName)
                 .setContentDisposition(ContentDisposition.ATTACHMENT));
     }
 
@@ -18,10 +18,9 @@
  */
 package org.apache.causeway.extensions.viewer.wicket.exceldownload.ui.components;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -35,8 +34,7 @@
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.apache.wicket.model.LoadableDetachableModel;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataTableModel;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -44,10 +42,18 @@
 
 import lombok.val;
 
-class ExcelFileModel extends LoadableDetachableModel<File> {
+/**
+ * Writes the (filtered) rows of a collection as a spreadsheet.
+ */
+class ExcelFileModel implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Number of rows held in memory while writing the spreadsheet.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
     private final EntityCollectionModel model;
 
     public static ExcelFileModel of(final EntityCollectionModel model) {
@@ -75,62 +81,64 @@ private DataTableModel table() {
         return model.getDataTableModel();
     }
 
-    @Override
-    protected File load() {
-
+    /**
+     * Writes the spreadsheet directly to given {@link OutputStream}, without first materializing it as a
+     * {@link java.io.File}.
+     *
+     * <p>
+     *     Uses POI's {@link SXSSFWorkbook}, so that only a window of (at most {@link #ROW_ACCESS_WINDOW_SIZE}) rows
+     *     is held in memory at any time; rows already written are flushed to a temporary file (that is disposed
+     *     of once done).
+     * </p>
+     */
+    void writeTo(final OutputStream outputStream) throws IOException {
+        val wb = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
         try {
-            return createFile();
+            val sheet = wb.createSheet(sheetName());
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
+            final ExcelFileModel.RowFactory rowFactory = new RowFactory(sheet);
+            Row row = rowFactory.newRow();
 
-    private File createFile() throws IOException, FileNotFoundException {
-        try(final Workbook wb = new XSSFWorkbook()) {
-            String sheetName = table().getTitle().getValue();
-            if(sheetName==null||sheetName.length()==0) sheetName = "Collection";
-            val tempFile = File.createTempFile(ExcelFileModel.class.getCanonicalName(), sheetName + ".xlsx");
+            val dataColumns = table().getDataColumns().getValue();
 
-            try(val fos = new FileOutputStream(tempFile)) {
-                val sheet = wb.createSheet(sheetName);
+            // header row
+            int i=0;
+            for(val column : dataColumns) {
+                final Cell cell = row.createCell((short) i++);
+                cell.setCellValue(column.getColumnFriendlyName().getValue());
+            }
 
-                final ExcelFileModel.RowFactory rowFactory = new RowFactory(sheet);
-                Row row = rowFactory.newRow();
+            final CellStyle dateCellStyle = createDateFormatCellStyle(wb);
 
-                val dataColumns = table().getDataColumns().getValue();
+            val dataRows = table().getDataRowsFiltered().getValue();
 
-                // header row
-                int i=0;
+            // detail rows
+            for (val dataRow : dataRows) {
+                row = rowFactory.newRow();
+                i=0;
                 for(val column : dataColumns) {
                     final Cell cell = row.createCell((short) i++);
-                    cell.setCellValue(column.getColumnFriendlyName().getValue());
-                }
-
-                final CellStyle dateCellStyle = createDateFormatCellStyle(wb);
-
-                val dataRows = table().getDataRowsFiltered().getValue();
-
-                // detail rows
-                for (val dataRow : dataRows) {
-                    row = rowFactory.newRow();
-                    i=0;
-                    for(val column : dataColumns) {
-                        final Cell cell = row.createCell((short) i++);
-                        setCellValue(dataRow.getCellElement(column), cell, dateCellStyle);
-                    }
+                    setCellValue(dataRow.getCellElement(column), cell, dateCellStyle);
                 }
+            }
 
-                // freeze panes
-                sheet.createFreezePane(0, 1);
+            // freeze panes
+            sheet.createFreezePane(0, 1);
 
-                wb.write(fos);
+            wb.write(outputStream);
 
-            }
-            return tempFile;
+        } finally {
+            wb.dispose();
+            wb.close();
         }
     }
 
+    private String sheetName() {
+        String sheetName = table().getTitle().getValue();
+        if(sheetName==null||sheetName.length()==0) sheetName = "Collection";
+        return sheetName;
+    }
+
     protected void autoSize(final Sheet sh, final int numProps) {
         for(int prop=0; prop<numProps; prop++) {
             sh.autoSizeColumn(prop);
@@ -21,14 +21,15 @@
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
-import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
@@ -41,34 +42,61 @@
 
 import lombok.val;
 
+/**
+ * Provides the {@link Event}s of a single calendar, for the domain objects of a collection.
+ *
+ * <p>
+ *     Rather than converting every domain object into an {@link Event} up-front, the (cheap) {@link CalendarEvent}s
+ *     are first indexed by their time (see {@link _EventIndex}), once per load of the collection's data.  Only the
+ *     domain objects whose
+ *     events intersect the range requested by the calendar (typically the month or week being viewed) are then
+ *     converted, involving the bookmark and {@link CalendarableDereferencingService dereferencing} lookups.
+ * </p>
+ */
 public abstract class EventProviderAbstract implements EventProvider {
 
     private static final long serialVersionUID = 1L;
 
-    private final Map<String, Event> eventById = _Maps.newLinkedHashMap();
+    private final EntityCollectionModel collectionModel;
+    private final String calendarName;
+
+    /**
+     * Only those events provided to the calendar for the range most recently requested, so that these can be
+     * looked up by their id (eg. when clicked).
+     */
+    private Map<String, Event> eventById = Collections.emptyMap();
+
+    /**
+     * The data elements the {@link #eventIndex} was built from; (re-)loading the collection's data replaces these
+     * with a new instance, invalidating the index.
+     */
+    private transient Can<ManagedObject> indexedDomainObjects;
+    private transient _EventIndex eventIndex;
 
     // //////////////////////////////////////
 
     public EventProviderAbstract(final EntityCollectionModel collectionModel, final String calendarName) {
-        val commonContext = collectionModel.getMetaModelContext();
-
-        collectionModel.getDataTableModel()
-        .getDataElements().getValue()
-        .stream()
-        .map(newEvent(commonContext, calendarName))
-        .filter(Objects::nonNull)
-        .forEach(event->eventById.put(event.getId(), event));
+        this.collectionModel = collectionModel;
+        this.calendarName = calendarName;
     }
 
     @Override
     public Collection<Event> getEvents(final ZonedDateTime start, final ZonedDateTime end) {
 
-        val result = eventById.values().stream()
-        .filter(event->!start.isAfter(JodaTimeConverters.fromJoda(event.getStart())))
-        .filter(event->!end.isBefore(JodaTimeConverters.fromJoda(event.getEnd())))
+        val commonContext = collectionModel.getMetaModelContext();
+        val domainObjects = domainObjects();
+
+        val result = eventIndexFor(domainObjects)
+        .positionsIntersecting(start.toInstant().toEpochMilli(), end.toInstant().toEpochMilli())
+        .mapToObj(position->domainObjects.get(position)
+                .map(domainObject->newEvent(commonContext, domainObject))
+                .orElse(null))
+        .filter(Objects::nonNull)
         .collect(Collectors.toList());
-        return result;
 
+        eventById = result.stream()
+                .collect(Collectors.toMap(Event::getId, event->event, (first, second)->first, LinkedHashMap::new));
+        return result;
     }
 
     @Override
@@ -80,6 +108,40 @@ public Event getEventForId(final String id) throws NoSuchElementException {
 
     // -- HELPER
 
+    private Can<ManagedObject> domainObjects() {
+        return collectionModel.getDataTableModel()
+                .getDataElements().getValue();
+    }
+
+    /**
+     * The index for given data elements, reused across range requests until the collection's data is reloaded.
+     */
+    private _EventIndex eventIndexFor(final Can<ManagedObject> domainObjects) {
+        if(eventIndex == null
+                || indexedDomainObjects != domainObjects) {
+            eventIndex = buildEventIndex(domainObjects);
+            indexedDomainObjects = domainObjects;
+        }
+        return eventIndex;
+    }
+
+    /**
+     * Indexes the position of each domain object (that has an event for this calendar) within the collection.
+     */
+    private _EventIndex buildEventIndex(final Can<ManagedObject> domainObjects) {
+        val builder = _EventIndex.builder();
+        int position = 0;
+        for (val domainObject : domainObjects) {
+            val calendarEvent = calendarEventFor(domainObject.getPojo(), calendarName);
+            if(calendarEvent != null) {
+                // events are rendered as all-day, that is, their start and end coincide
+                builder.add(calendarEvent.getEpochMillis(), calendarEvent.getEpochMillis(), position);
+            }
+            position++;
+        }
+        return builder.build();
+    }
+
     private Object dereference(final MetaModelContext commonContext, final Object domainObject) {
         val serviceRegistry = commonContext.getServiceRegistry();
         val services = serviceRegistry.select(CalendarableDereferencingService.class);
@@ -93,60 +155,56 @@ private Object dereference(final MetaModelContext commonContext, final Object do
         return domainObject;
     }
 
-    private Function<ManagedObject, Event> newEvent(
+    private Event newEvent(
             final MetaModelContext commonContext,
-            final String calendarName) {
+            final ManagedObject domainObject) {
 
-        return domainObject -> {
-
-            final Object domainObjectPojo = domainObject.getPojo();
-            final CalendarEvent calendarEvent = calendarEventFor(domainObjectPojo, calendarName);
-            if(calendarEvent == null) {
-                return null;
-            }
-
-            val timeZone = commonContext.getInteractionService()
-                    .currentInteractionContext()
-                    .map(InteractionContext::getTimeZone)
-                    .orElse(ZoneId.systemDefault());
+        final Object domainObjectPojo = domainObject.getPojo();
+        final CalendarEvent calendarEvent = calendarEventFor(domainObjectPojo, calendarName);
+        if(calendarEvent == null) {
+            return null;
+        }
 
-            val start = calendarEvent.asDateTime(timeZone);
-            val end = start;
+        val timeZone = commonContext.getInteractionService()
+                .currentInteractionContext()
+                .map(InteractionContext::getTimeZone)
+                .orElse(ZoneId.systemDefault());
 
-            final Event event = new Event();
-            event.setStart(JodaTimeConverters.toJoda(start));
-            event.setEnd(JodaTimeConverters.toJoda(end));
-            event.setAllDay(true);
+        val start = calendarEvent.asDateTime(timeZone);
+        val end = start;
 
-            final Object dereferencedObject = dereference(commonContext, domainObjectPojo);
+        final Event event = new Event();
+        event.setStart(JodaTimeConverters.toJoda(start));
+        event.setEnd(JodaTimeConverters.toJoda(end));
+        event.setAllDay(true);
 
-            val dereferencedManagedObject =
-                    ManagedObject.adaptSingular(commonContext.getSpecificationLoader(), dereferencedObject);
+        final Object dereferencedObject = dereference(commonContext, domainObjectPojo);
 
-            val oid = ManagedObjects.bookmark(dereferencedManagedObject).orElse(null);
-            if(oid!=null) {
+        val dereferencedManagedObject =
+                ManagedObject.adaptSingular(commonContext.getSpecificationLoader(), dereferencedObject);
 
-                final String oidStr = oid.stringify();
-                event.setId(oidStr + "-" + calendarName);
+        val oid = ManagedObjects.bookmark(dereferencedManagedObject).orElse(null);
+        if(oid!=null) {
 
-                event.setClassName("fullCalendar2-event-" + calendarName);
-                event.setEditable(false);
-                event.setPayload(oidStr);
-                event.setTitle(calendarEvent.getTitle());
+            final String oidStr = oid.stringify();
+            event.setId(oidStr + "-" + calendarName);
 
-                //event.setBackgroundColor(backgroundColor)
-                //event.setBorderColor(borderColor)
-                //event.setColor(color)
-                //event.setTextColor(textColor)
-                //event.setUrl(url)
+            event.setClassName("fullCalendar2-event-" + calendarName);
+            event.setEditable(false);
+            event.setPayload(oidStr);
+            event.setTitle(calendarEvent.getTitle());
 
-                return event;
+            //event.setBackgroundColor(backgroundColor)
+            //event.setBorderColor(borderColor)
+            //event.setColor(color)
+            //event.setTextColor(textColor)
+            //event.setUrl(url)
 
-            } else {
-                return null;
-            }
+            return event;
 
-        };
+        } else {
+            return null;
+        }
     }
 
 }
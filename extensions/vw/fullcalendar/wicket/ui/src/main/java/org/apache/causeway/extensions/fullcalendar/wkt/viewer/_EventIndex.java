@@ -0,0 +1,136 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.fullcalendar.wkt.viewer;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Immutable index of time intervals (each associated with the position of a domain object within its collection),
+ * sorted by start, allowing to find those intervals that intersect a given range by binary search rather than by
+ * scanning all of them.
+ *
+ * <p>
+ *     Built once per load of the collection's data by the {@link EventProviderAbstract event provider}, and reused
+ *     across the range requests of the calendar, it is kept compact, using primitive arrays only.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class _EventIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long[] startMillis;
+    private final long[] endMillis;
+    private final int[] positions;
+    /** the longest of all intervals, bounding how far ahead of the range start an intersecting interval may start */
+    private final long maxDurationMillis;
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int size() {
+        return positions.length;
+    }
+
+    /**
+     * Positions of those intervals that intersect the (inclusive) range <code>[rangeStartMillis, rangeEndMillis]</code>,
+     * in order of interval start.
+     */
+    IntStream positionsIntersecting(final long rangeStartMillis, final long rangeEndMillis) {
+        if(rangeEndMillis < rangeStartMillis) {
+            return IntStream.empty();
+        }
+        val fromIndex = firstIndexStartingAfter(saturatedSubtract(rangeStartMillis, maxDurationMillis), false);
+        val toIndex = firstIndexStartingAfter(rangeEndMillis, true);
+        return IntStream.range(fromIndex, toIndex)
+                .filter(index->endMillis[index] >= rangeStartMillis)
+                .map(index->positions[index]);
+    }
+
+    // -- HELPER
+
+    /**
+     * Index of the first interval starting after (or, if not {@code strictly}, at) given millis.
+     */
+    private int firstIndexStartingAfter(final long millis, final boolean strictly) {
+        int low = 0;
+        int high = startMillis.length;
+        while(low < high) {
+            val mid = (low + high) >>> 1;
+            if(startMillis[mid] < millis
+                    || (strictly && startMillis[mid] == millis)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long saturatedSubtract(final long a, final long b) {
+        val result = a - b;
+        return ((a ^ b) & (a ^ result)) < 0 ? Long.MIN_VALUE : result;
+    }
+
+    // -- BUILDER
+
+    static final class Builder {
+
+        @RequiredArgsConstructor
+        private static final class Entry {
+            final long startMillis;
+            final long endMillis;
+            final int position;
+        }
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        Builder add(final long startMillis, final long endMillis, final int position) {
+            if(endMillis < startMillis) {
+                throw new IllegalArgumentException(
+                        String.format("interval end %d must not precede its start %d", endMillis, startMillis));
+            }
+            entries.add(new Entry(startMillis, endMillis, position));
+            return this;
+        }
+
+        _EventIndex build() {
+            val sorted = entries.stream()
+                    .sorted(Comparator.<Entry>comparingLong(entry->entry.startMillis)
+                            .thenComparingInt(entry->entry.position))
+                    .toArray(Entry[]::new);
+            return new _EventIndex(
+                    Arrays.stream(sorted).mapToLong(entry->entry.startMillis).toArray(),
+                    Arrays.stream(sorted).mapToLong(entry->entry.endMillis).toArray(),
+                    Arrays.stream(sorted).mapToInt(entry->entry.position).toArray(),
+                    Arrays.stream(sorted).mapToLong(entry->entry.endMillis - entry.startMillis).max().orElse(0L));
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.fullcalendar.wkt.viewer;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import lombok.val;
+
+class _EventIndexTest {
+
+    @Test
+    void emptyIndex() {
+        val index = _EventIndex.builder().build();
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.positionsIntersecting(Long.MIN_VALUE, Long.MAX_VALUE).count());
+    }
+
+    @Test
+    void instants_withinRange_inclusive() {
+        val index = _EventIndex.builder()
+                .add(30, 30, 0)
+                .add(10, 10, 1)
+                .add(20, 20, 2)
+                .add(40, 40, 3)
+                .build();
+
+        assertEquals("1,2,0", positions(index, 10, 30));
+        assertEquals("2", positions(index, 11, 29));
+        assertEquals("", positions(index, 41, 50));
+        assertEquals("", positions(index, 30, 10));
+    }
+
+    @Test
+    void intervals_intersectingRange() {
+        val index = _EventIndex.builder()
+                .add(0, 100, 0)     // long interval, starting well ahead of the range
+                .add(50, 55, 1)     // ends before the range
+                .add(90, 120, 2)    // overlaps the range start
+                .add(110, 115, 3)   // within the range
+                .add(119, 200, 4)   // overlaps the range end
+                .add(121, 130, 5)   // starts after the range
+                .build();
+
+        assertEquals("0,2,3,4", positions(index, 100, 120));
+    }
+
+    @Test
+    void extremeRange_doesNotOverflow() {
+        val index = _EventIndex.builder()
+                .add(Long.MIN_VALUE, Long.MIN_VALUE, 0)
+                .add(0, 10, 1)
+                .add(Long.MAX_VALUE, Long.MAX_VALUE, 2)
+                .build();
+
+        assertEquals("0,1,2", positions(index, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    // -- HELPER
+
+    private static String positions(final _EventIndex index, final long start, final long end) {
+        return index.positionsIntersecting(start, end)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(","));
+    }
+
+}
@@ -35,7 +35,6 @@
 import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.request.handler.resource.ResourceRequestHandler;
 import org.apache.wicket.request.http.flow.AbortWithHttpErrorCodeException;
-import org.apache.wicket.request.resource.ByteArrayResource;
 
 import org.apache.causeway.applib.services.user.UserService;
 import org.apache.causeway.applib.value.Blob;
@@ -46,11 +45,11 @@
 import org.apache.causeway.extensions.pdfjs.metamodel.facet.PdfJsViewerFacet;
 import org.apache.causeway.extensions.pdfjs.wkt.integration.components.PdfJsPanel;
 import org.apache.causeway.viewer.wicket.model.models.ScalarModel;
+import org.apache.causeway.viewer.wicket.ui.util.BlobResource;
 import org.apache.causeway.viewer.wicket.ui.util.Wkt;
 import org.apache.causeway.viewer.wicket.ui.util.WktComponents;
 
 import de.agilecoders.wicket.core.markup.html.bootstrap.common.NotificationPanel;
-import lombok.NonNull;
 import lombok.val;
 
 /**
@@ -204,7 +203,7 @@ protected MarkupContainer createRegularFrame() {
         val currentHeightSelect = createToolbarComponent("currentHeight", pdfJsPanel);
         val printButton = createToolbarComponent("print", pdfJsPanel);
 
-        val downloadResourceLink = Wkt.downloadLinkNoCache(ID_DOWNLOAD, asBlobResource(blob));
+        val downloadResourceLink = Wkt.downloadLinkNoCache(ID_DOWNLOAD, asBlobResource());
 
         regularFrame.addOrReplace(
                 pdfJsPanel, prevPageButton, nextPageButton, currentPageLabel, totalPagesLabel,
@@ -232,7 +231,7 @@ protected Component createCompactFrame() {
             return createShallowCompactFrame();
         }
         val compactFrame = new WebMarkupContainer(ID_SCALAR_IF_COMPACT);
-        val downloadLink = Wkt.add(compactFrame, Wkt.downloadLinkNoCache(ID_DOWNLOAD_IF_COMPACT, asBlobResource(blob)));
+        val downloadLink = Wkt.add(compactFrame, Wkt.downloadLinkNoCache(ID_DOWNLOAD_IF_COMPACT, asBlobResource()));
         Wkt.labelAdd(downloadLink, ID_FILE_NAME_IF_COMPACT, blob.getName());
         return compactFrame;
     }
@@ -279,8 +278,9 @@ public void onRequest() {
         if (blob == null) {
             throw new AbortWithHttpErrorCodeException(404);
         }
+        // supports range requests, so that pdf.js may fetch the document's pages incrementally
         getRequestCycle().scheduleRequestHandlerAfterCurrent(
-                new ResourceRequestHandler(asBlobResourceNoCache(blob), null));
+                new ResourceRequestHandler(asBlobResourceNoCache(), null));
     }
 
 //    @Override
@@ -299,20 +299,18 @@ private Blob getBlob() {
         return (Blob) MmUnwrapUtil.single(scalarModel().getObject());
     }
 
-    private static ByteArrayResource asBlobResource(final @NonNull Blob blob) {
-        return new ByteArrayResource(blob.getMimeType().getBaseType(), blob.getBytes(), blob.getName());
+    /**
+     * The blob is resolved only once requested, rather than being held on to (with the page).
+     */
+    private BlobResource asBlobResource() {
+        return BlobResource.of(this::getBlob);
     }
 
-    private static ByteArrayResource asBlobResourceNoCache(final @NonNull Blob blob) {
-        final byte[] bytes = blob.getBytes();
-        return new ByteArrayResource("application/pdf", bytes) {
-            private static final long serialVersionUID = 1L;
-            @Override protected void configureResponse(
-                    final ResourceResponse response, final Attributes attributes) {
-                super.configureResponse(response, attributes);
-                response.disableCaching();
-            }
-        };
+    private BlobResource asBlobResourceNoCache() {
+        return BlobResource.of(this::getBlob)
+                .withContentType("application/pdf")
+                .withFileName(false)
+                .withCachingDisabled();
     }
 
     private MarkupContainer createToolbarComponent(final String id, final PdfJsPanel pdfJsPanel) {
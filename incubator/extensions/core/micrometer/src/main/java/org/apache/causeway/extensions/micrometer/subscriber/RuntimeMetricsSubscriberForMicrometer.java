@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.micrometer.subscriber;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber;
+import org.apache.causeway.extensions.micrometer.CausewayModuleExtMicrometer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Records the framework's runtime metrics as Micrometer {@link Timer}s and {@link Counter}s,
+ * named after {@link Metric#getMeterName()} and tagged with
+ * {@code type} (logical type name), {@code member} and {@code outcome} (timers only).
+ * <p>
+ * Meters are registered on first use and then cached per tag set, so recording a measurement
+ * neither builds nor looks up a meter in the registry.
+ */
+@Service
+@Named(CausewayModuleExtMicrometer.NAMESPACE + ".RuntimeMetricsSubscriberForMicrometer")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class RuntimeMetricsSubscriberForMicrometer implements RuntimeMetricsSubscriber {
+
+    static final String TAG_TYPE = "type";
+    static final String TAG_MEMBER = "member";
+    static final String TAG_OUTCOME = "outcome";
+    static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    // tags are of low cardinality (bounded by the metamodel), hence so are these caches
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void onDuration(
+            final Metric metric,
+            final @Nullable String logicalTypeName,
+            final @Nullable String memberId,
+            final Outcome outcome,
+            final long durationNanos) {
+
+        timers.computeIfAbsent(new MeterKey(metric, logicalTypeName, memberId, outcome), this::registerTimer)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onCount(
+            final Metric metric,
+            final @Nullable String logicalTypeName,
+            final @Nullable String memberId,
+            final long count) {
+
+        counters.computeIfAbsent(new MeterKey(metric, logicalTypeName, memberId, null), this::registerCounter)
+            .increment(count);
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class MeterKey {
+        final Metric metric;
+        final @Nullable String logicalTypeName;
+        final @Nullable String memberId;
+        final @Nullable Outcome outcome;
+    }
+
+    private Timer registerTimer(final MeterKey key) {
+        return Timer.builder(key.getMetric().getMeterName())
+            .tags(tags(key).and(TAG_OUTCOME, key.getOutcome().name().toLowerCase()))
+            .register(meterRegistry);
+    }
+
+    private Counter registerCounter(final MeterKey key) {
+        return Counter.builder(key.getMetric().getMeterName())
+            .tags(tags(key))
+            .register(meterRegistry);
+    }
+
+    private static Tags tags(final MeterKey key) {
+        return Tags.of(
+                TAG_TYPE, key.getLogicalTypeName()!=null ? key.getLogicalTypeName() : NONE,
+                TAG_MEMBER, key.getMemberId()!=null ? key.getMemberId() : NONE);
+    }
+
+}
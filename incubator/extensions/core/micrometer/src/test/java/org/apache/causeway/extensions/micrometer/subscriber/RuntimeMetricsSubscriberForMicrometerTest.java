@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.micrometer.subscriber;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Metric;
+import org.apache.causeway.core.runtimeservices.metrics.RuntimeMetricsSubscriber.Outcome;
+
+import lombok.val;
+
+class RuntimeMetricsSubscriberForMicrometerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RuntimeMetricsSubscriberForMicrometer subscriber;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        subscriber = new RuntimeMetricsSubscriberForMicrometer(meterRegistry);
+    }
+
+    @Test
+    void durations_shouldBeRecordedAsTimers_taggedByTypeMemberAndOutcome() {
+
+        subscriber.onDuration(Metric.ACTION_INVOCATION, "simple.SimpleObject", "updateName", Outcome.SUCCESS,
+                TimeUnit.MILLISECONDS.toNanos(10));
+        subscriber.onDuration(Metric.ACTION_INVOCATION, "simple.SimpleObject", "updateName", Outcome.SUCCESS,
+                TimeUnit.MILLISECONDS.toNanos(20));
+        subscriber.onDuration(Metric.ACTION_INVOCATION, "simple.SimpleObject", "updateName", Outcome.FAILURE,
+                TimeUnit.MILLISECONDS.toNanos(5));
+
+        val successTimer = meterRegistry.find(Metric.ACTION_INVOCATION.getMeterName())
+                .tags(RuntimeMetricsSubscriberForMicrometer.TAG_TYPE, "simple.SimpleObject",
+                      RuntimeMetricsSubscriberForMicrometer.TAG_MEMBER, "updateName",
+                      RuntimeMetricsSubscriberForMicrometer.TAG_OUTCOME, "success")
+                .timer();
+        assertEquals(2L, successTimer.count());
+        assertEquals(30d, successTimer.totalTime(TimeUnit.MILLISECONDS));
+
+        val failureTimer = meterRegistry.find(Metric.ACTION_INVOCATION.getMeterName())
+                .tags(RuntimeMetricsSubscriberForMicrometer.TAG_OUTCOME, "failure")
+                .timer();
+        assertEquals(1L, failureTimer.count());
+
+        assertEquals(2, meterRegistry.getMeters().size());
+    }
+
+    @Test
+    void missingTags_shouldBeRecordedAsNone() {
+
+        subscriber.onDuration(Metric.INTERACTION, null, null, Outcome.SUCCESS, 1L);
+
+        val timer = meterRegistry.find(Metric.INTERACTION.getMeterName())
+                .tags(RuntimeMetricsSubscriberForMicrometer.TAG_TYPE, RuntimeMetricsSubscriberForMicrometer.NONE,
+                      RuntimeMetricsSubscriberForMicrometer.TAG_MEMBER, RuntimeMetricsSubscriberForMicrometer.NONE)
+                .timer();
+        assertEquals(1L, timer.count());
+    }
+
+    @Test
+    void counts_shouldBeRecordedAsCounters_withoutOutcome() {
+
+        subscriber.onCount(Metric.ENTITY_PROPERTY_CHANGES, "simple.SimpleObject", null, 3L);
+        subscriber.onCount(Metric.ENTITY_PROPERTY_CHANGES, "simple.SimpleObject", null, 2L);
+
+        val counter = meterRegistry.find(Metric.ENTITY_PROPERTY_CHANGES.getMeterName())
+                .tags(RuntimeMetricsSubscriberForMicrometer.TAG_TYPE, "simple.SimpleObject",
+                      RuntimeMetricsSubscriberForMicrometer.TAG_MEMBER, RuntimeMetricsSubscriberForMicrometer.NONE)
+                .counter();
+        assertEquals(5d, counter.count());
+        assertNull(counter.getId().getTag(RuntimeMetricsSubscriberForMicrometer.TAG_OUTCOME));
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.test.source;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.viewer.graphql.viewer.source.BookmarkBatchLoader;
+import org.apache.causeway.viewer.graphql.viewer.source.ExecutionStrategyResolvingWithinInteraction;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.Scalars;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeReference;
+import org.dataloader.DataLoaderRegistry;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Resolves {@code owners { book { name inInteraction } }}, where the owners complete on another thread
+ * and their (not yet fetched) books are resolved in bulk by the {@link BookmarkBatchLoader}.
+ */
+class ExecutionStrategyResolvingWithinInteraction_Test {
+
+    /** a reference to a book, as handed out by an owner's getter, not (yet) fetched */
+    @Value
+    static class BookRef {
+        String id;
+    }
+
+    private InteractionService interactionService;
+    private BookmarkService bookmarkService;
+    private DefaultBatchLoaderRegistry batchLoaderRegistry;
+    private GraphQL graphQL;
+
+    // models the thread-local interaction state of the actual InteractionService
+    private final ThreadLocal<Boolean> interactionOpen = ThreadLocal.withInitial(() -> false);
+    private final ConcurrentLinkedQueue<Boolean> lookupAllWithinInteraction = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Thread> lookupAllThreads = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        interactionService = mock(InteractionService.class);
+        when(interactionService.isInInteraction()).thenAnswer(invocation -> interactionOpen.get());
+
+        final Answer<Object> openInteractionWhileCalling = invocation -> {
+            final Callable<?> callable = invocation.getArgument(invocation.getArguments().length - 1);
+            assertFalse(interactionOpen.get(), "interaction already open on this thread");
+            interactionOpen.set(true);
+            try {
+                return callable.call();
+            } finally {
+                interactionOpen.set(false);
+            }
+        };
+        when(interactionService.callAnonymous(any())).thenAnswer(openInteractionWhileCalling);
+        when(interactionService.call(any(), any())).thenAnswer(openInteractionWhileCalling);
+
+        bookmarkService = mock(BookmarkService.class);
+        when(bookmarkService.bookmarkFor(any())).thenAnswer(invocation ->
+            Optional.of(Bookmark.forLogicalTypeNameAndIdentifier(
+                    "test.Book", ((BookRef) invocation.getArgument(0)).getId())));
+        when(bookmarkService.lookupAll(anyList())).thenAnswer(invocation -> {
+            lookupAllWithinInteraction.add(interactionService.isInInteraction());
+            lookupAllThreads.add(Thread.currentThread());
+            final List<Bookmark> bookmarks = invocation.getArgument(0);
+            return bookmarks.stream()
+                    .map(bookmark -> Optional.<Object>of(Map.of("name", "book-" + bookmark.getIdentifier())))
+                    .collect(Collectors.toList());
+        });
+
+        batchLoaderRegistry = new DefaultBatchLoaderRegistry();
+        val bookmarkBatchLoader = new BookmarkBatchLoader(batchLoaderRegistry, bookmarkService, interactionService);
+        bookmarkBatchLoader.init();
+
+        // completes on another thread, after the strategy's execute(..) has returned
+        final DataFetcher<CompletableFuture<List<Map<String, Object>>>> ownersFetcher = environment ->
+            CompletableFuture.supplyAsync(
+                    () -> List.of(
+                            Map.<String, Object>of("book", new BookRef("1")),
+                            Map.<String, Object>of("book", new BookRef("2")),
+                            Map.<String, Object>of("book", new BookRef("3"))),
+                    CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        final DataFetcher<Object> bookFetcher = environment -> {
+            final Map<String, Object> owner = environment.getSource();
+            return bookmarkBatchLoader.load(environment, owner.get("book"));
+        };
+
+        final DataFetcher<Boolean> inInteractionFetcher = environment -> interactionService.isInInteraction();
+
+        val schema = GraphQLSchema.newSchema()
+                .query(GraphQLObjectType.newObject()
+                        .name("Query")
+                        .field(GraphQLFieldDefinition.newFieldDefinition()
+                                .name("owners")
+                                .type(GraphQLList.list(GraphQLTypeReference.typeRef("Owner")))))
+                .additionalType(GraphQLObjectType.newObject()
+                        .name("Owner")
+                        .field(GraphQLFieldDefinition.newFieldDefinition()
+                                .name("book")
+                                .type(GraphQLTypeReference.typeRef("Book")))
+                        .build())
+                .additionalType(GraphQLObjectType.newObject()
+                        .name("Book")
+                        .field(GraphQLFieldDefinition.newFieldDefinition()
+                                .name("name")
+                                .type(Scalars.GraphQLString))
+                        .field(GraphQLFieldDefinition.newFieldDefinition()
+                                .name("inInteraction")
+                                .type(Scalars.GraphQLBoolean))
+                        .build())
+                .codeRegistry(GraphQLCodeRegistry.newCodeRegistry()
+                        .dataFetcher(FieldCoordinates.coordinates("Query", "owners"), ownersFetcher)
+                        .dataFetcher(FieldCoordinates.coordinates("Owner", "book"), bookFetcher)
+                        .dataFetcher(FieldCoordinates.coordinates("Book", "inInteraction"), inInteractionFetcher)
+                        .build())
+                .build();
+
+        graphQL = GraphQL.newGraphQL(schema)
+                .queryExecutionStrategy(new ExecutionStrategyResolvingWithinInteraction(interactionService))
+                .build();
+    }
+
+    @Test
+    void books_shouldBeLoadedInBulk_andResolvedWithinInteraction_onTheThreadRunningTheField() {
+
+        val result = execute(ExecutionInput.newExecutionInput()
+                .query("{ owners { book { name inInteraction } } }")
+                .build());
+
+        assertTrue(result.getErrors().isEmpty(), () -> result.getErrors().toString());
+        assertEquals(
+                Map.of("owners", List.of(
+                        Map.of("book", Map.of("name", "book-1", "inInteraction", true)),
+                        Map.of("book", Map.of("name", "book-2", "inInteraction", true)),
+                        Map.of("book", Map.of("name", "book-3", "inInteraction", true)))),
+                result.getData());
+
+        // a single bulk lookup for all 3 books, within an interaction on the thread dispatching the batch
+        verify(bookmarkService).lookupAll(anyList());
+        assertEquals(List.of(true), new ArrayList<>(lookupAllWithinInteraction));
+        assertNotEquals(Thread.currentThread(), lookupAllThreads.peek());
+
+        // the strategy did not await field resolution within the interaction
+        assertFalse(interactionOpen.get());
+        verify(interactionService, atLeastOnce()).callAnonymous(any());
+    }
+
+    @Test
+    void interaction_shouldUseCallersContext_whenCaptured() {
+
+        val interactionContext = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"));
+
+        val result = execute(ExecutionInput.newExecutionInput()
+                .query("{ owners { book { inInteraction } } }")
+                .graphQLContext(Map.of(InteractionContext.class, interactionContext))
+                .build());
+
+        assertTrue(result.getErrors().isEmpty(), () -> result.getErrors().toString());
+        verify(interactionService, atLeastOnce()).call(eq(interactionContext), any());
+        verify(interactionService, never()).callAnonymous(any());
+    }
+
+    // -- HELPER
+
+    private ExecutionResult execute(final ExecutionInput executionInput) {
+        val dataLoaderRegistry = new DataLoaderRegistry();
+        batchLoaderRegistry.registerDataLoaders(dataLoaderRegistry, executionInput.getGraphQLContext());
+        return graphQL.executeAsync(executionInput.transform(builder -> builder.dataLoaderRegistry(dataLoaderRegistry)))
+                .join();
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.source;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.BatchLoaderEnvironment;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import reactor.core.publisher.Mono;
+
+/**
+ * Registers a <i>DataLoader</i> with the {@link BatchLoaderRegistry}, that resolves
+ * {@link Bookmark}s to domain objects.
+ *
+ * <p>
+ * Entity reference and collection fetchers hand over the bookmarks of the (possibly not yet fetched) entities
+ * they would otherwise have resolved one at a time; the (per operation) data loader collects these per level of
+ * the operation and resolves them in bulk using {@link BookmarkService#lookupAll(java.util.List)}, that is, with a
+ * single query per entity type, and each bookmark at most once.
+ * </p>
+ *
+ * <p>
+ * As a batch may be dispatched outside of the interaction of the operation's initial thread, each batch is
+ * resolved within the interaction of the current thread, else within an interaction of its own.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class BookmarkBatchLoader {
+
+    static final String DATA_LOADER_NAME = "causeway.bookmarks";
+
+    private final BatchLoaderRegistry batchLoaderRegistry;
+    private final BookmarkService bookmarkService;
+    private final InteractionService interactionService;
+
+    @PostConstruct
+    public void init() {
+        batchLoaderRegistry.forTypePair(Bookmark.class, Object.class)
+            .withName(DATA_LOADER_NAME)
+            .registerMappedBatchLoader((bookmarks, batchLoaderEnvironment) ->
+                    Mono.fromCallable(() -> lookupAll(bookmarks, batchLoaderEnvironment)));
+    }
+
+    /**
+     * Defers resolution of given (reference or collection) {@code pojo} to the data loader; returns the
+     * {@code pojo} as is, if not (entirely) bookmarkable.
+     */
+    public Object load(final DataFetchingEnvironment environment, final @Nullable Object pojo) {
+        if (pojo == null) {
+            return null;
+        }
+
+        val dataLoader = environment.<Bookmark, Object>getDataLoader(DATA_LOADER_NAME);
+        if (dataLoader == null) {
+            return pojo;
+        }
+
+        if (pojo instanceof Collection) {
+            val elements = (Collection<?>) pojo;
+            val bookmarks = new ArrayList<Bookmark>(elements.size());
+            for (val element : elements) {
+                val bookmark = bookmarkService.bookmarkFor(element).orElse(null);
+                if (bookmark == null) {
+                    return pojo;
+                }
+                bookmarks.add(bookmark);
+            }
+            return dataLoader.loadMany(bookmarks);
+        }
+
+        return bookmarkService.bookmarkFor(pojo)
+                .<Object>map(dataLoader::load)
+                .orElse(pojo);
+    }
+
+    // -- HELPER
+
+    private Map<Bookmark, Object> lookupAll(
+            final Set<Bookmark> bookmarks,
+            final BatchLoaderEnvironment batchLoaderEnvironment) throws Exception {
+
+        final GraphQLContext graphQLContext = batchLoaderEnvironment.getContext();
+        return _Utils.callWithinInteraction(interactionService, graphQLContext, () -> {
+            val bookmarkList = new ArrayList<Bookmark>(bookmarks);
+            val domainObjects = bookmarkService.lookupAll(bookmarkList);
+
+            val domainObjectsByBookmark = new HashMap<Bookmark, Object>(bookmarkList.size());
+            for (int i = 0; i < bookmarkList.size(); i++) {
+                val bookmark = bookmarkList.get(i);
+                domainObjects.get(i)
+                    .ifPresent(domainObject -> domainObjectsByBookmark.put(bookmark, domainObject));
+            }
+            return domainObjectsByBookmark;
+        });
+    }
+
+}
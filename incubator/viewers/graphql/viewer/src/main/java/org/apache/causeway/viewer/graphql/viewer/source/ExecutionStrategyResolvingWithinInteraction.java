@@ -24,14 +24,29 @@
 
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 
+import graphql.ExecutionResult;
 import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionStrategyParameters;
-import graphql.execution.FieldValueInfo;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 
+/**
+ * Resolves the fields of a GraphQL operation within an interaction, using the caller's
+ * {@link InteractionContext} as captured by {@link GraphQlServiceForCauseway}, else an anonymous one.
+ *
+ * <p>
+ * Field resolution is not awaited within the interaction, as that would rule out batching with data loaders
+ * (see {@link BookmarkBatchLoader}), which are dispatched level by level, as the fields of each level have been
+ * fetched. Instead any part of the operation that completes later, possibly on another thread, opens an
+ * interaction of its own (with the same {@link InteractionContext}): nested objects are resolved by (recursively)
+ * calling {@link #execute(ExecutionContext, ExecutionStrategyParameters)} again, on whatever thread completed
+ * their parent field, and batch loads open one for themselves.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 public class ExecutionStrategyResolvingWithinInteraction extends AsyncExecutionStrategy {
@@ -39,15 +54,12 @@ public class ExecutionStrategyResolvingWithinInteraction extends AsyncExecutionS
     private final InteractionService interactionService;
 
     @Override
-    protected CompletableFuture<FieldValueInfo> resolveFieldWithInfo(
+    @SneakyThrows
+    public CompletableFuture<ExecutionResult> execute(
             final ExecutionContext executionContext,
             final ExecutionStrategyParameters parameters) {
 
-        // TODO: propagate identity from executionContext
-//        interactionService.openInteraction(InteractionContext.builder().user(UserMemento.builder().build()).build());
-
-        return interactionService.callAnonymous( () -> {
-            return super.resolveFieldWithInfo(executionContext, parameters);
-        });
+        return _Utils.callWithinInteraction(interactionService, executionContext.getGraphQLContext(),
+                () -> super.execute(executionContext, parameters));
     }
 }
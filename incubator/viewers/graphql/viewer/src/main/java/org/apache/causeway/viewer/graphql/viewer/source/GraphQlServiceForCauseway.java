@@ -28,11 +28,19 @@
 import org.springframework.graphql.execution.GraphQlSource;
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
 /**
  * Defers calling of {@link GraphQlSourceForCauseway#schema()} until after the metamodel is fully introspected.
+ *
+ * <p>
+ * Also captures the caller's {@link InteractionContext} (if any) into the operation's <i>GraphQLContext</i>, for
+ * {@link ExecutionStrategyResolvingWithinInteraction} to resolve the operation with.
+ * </p>
  */
 @Service()
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
@@ -40,6 +48,7 @@ public class GraphQlServiceForCauseway implements ExecutionGraphQlService {
 
     private final BatchLoaderRegistry batchLoaderRegistry;
     private final GraphQlSource graphQlSource;
+    private final InteractionService interactionService;
 
     DefaultExecutionGraphQlService delegate;
 
@@ -49,6 +58,12 @@ public Mono<ExecutionGraphQlResponse> execute(final ExecutionGraphQlRequest requ
             delegate = new DefaultExecutionGraphQlService(graphQlSource);
             delegate.addDataLoaderRegistrar(batchLoaderRegistry);
         }
+        interactionService.currentInteractionContext()
+            .ifPresent(interactionContext ->
+                request.configureExecutionInput((executionInput, builder) -> {
+                    executionInput.getGraphQLContext().put(InteractionContext.class, interactionContext);
+                    return executionInput;
+                }));
         return delegate.execute(request);
     }
 }
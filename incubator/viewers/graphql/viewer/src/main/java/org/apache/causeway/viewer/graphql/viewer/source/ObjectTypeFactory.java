@@ -70,6 +70,7 @@ public class ObjectTypeFactory {
 
     private final BookmarkService bookmarkService;
     private final SpecificationLoader specificationLoader;
+    private final BookmarkBatchLoader bookmarkBatchLoader;
 
     private static GraphQLFieldDefinition idField = newFieldDefinition()
             .name("id").type(nonNull(Scalars.GraphQLString)).build();
@@ -412,8 +413,12 @@ private void createAndRegisterDataFetcherForObjectAssociation(
                         ManagedObject owner = ManagedObject.adaptSingular(specification, domainObjectInstance);
 
                         ManagedObject managedObject = otom.get(owner);
+                        Object pojo = managedObject!=null ? managedObject.getPojo() : null;
 
-                        return managedObject!=null ? managedObject.getPojo() : null;
+                        // entity references (and collections thereof) are resolved in bulk, per level of the operation
+                        return beanSort == BeanSort.ENTITY
+                                ? bookmarkBatchLoader.load(environment, pojo)
+                                : pojo;
 
                     });
 
@@ -18,6 +18,13 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.source;
 
+import java.util.concurrent.Callable;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+
+import graphql.GraphQLContext;
+
 final class _Utils {
 
     final static String GQL_INPUTTYPE_PREFIX = "_gql_input__";
@@ -35,4 +42,26 @@ static String logicalTypeNameSanitized(final String logicalTypeName) {
         return logicalTypeName.replace('.', '_');
     }
 
+    /**
+     * Calls given {@code callable} within the interaction already open on the current thread, if any,
+     * else within a new one, using the caller's {@link InteractionContext} as captured into the operation's
+     * {@link GraphQLContext} by {@link GraphQlServiceForCauseway}, else an anonymous one.
+     * <p>
+     * Parts of an operation may complete on other threads (eg. batch loads), which have no interaction
+     * of their own.
+     */
+    static <T> T callWithinInteraction(
+            final InteractionService interactionService,
+            final GraphQLContext graphQLContext,
+            final Callable<T> callable) throws Exception {
+
+        if (interactionService.isInInteraction()) {
+            return callable.call();
+        }
+        final InteractionContext interactionContext = graphQLContext.get(InteractionContext.class);
+        return interactionContext != null
+                ? interactionService.call(interactionContext, callable)
+                : interactionService.callAnonymous(callable);
+    }
+
 }
@@ -25,6 +25,7 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -49,6 +50,7 @@
 import org.apache.causeway.applib.services.metrics.MetricsService;
 import org.apache.causeway.applib.services.publishing.spi.EntityChanges;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
 import org.apache.causeway.applib.services.xactn.TransactionId;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
@@ -63,11 +65,13 @@
 import org.apache.causeway.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
 import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.causeway.core.transaction.changetracking.EntityPropertyChangePublisher;
 import org.apache.causeway.core.transaction.changetracking.HasEnlistedEntityChanges;
+import org.apache.causeway.core.transaction.events.TransactionAfterCompletionEvent;
 import org.apache.causeway.core.transaction.events.TransactionBeforeCompletionEvent;
 
 import lombok.AccessLevel;
@@ -109,6 +113,7 @@
     private final EntityPropertyChangePublisher entityPropertyChangePublisher;
     private final EntityChangesPublisher entityChangesPublisher;
     private final Provider<InteractionProvider> interactionProviderProvider;
+    private final Optional<SharedQueryResultsCache> sharedQueryResultsCache;
 
     /**
      * Contains a record for every objectId/propertyId that was changed.
@@ -130,6 +135,13 @@
     private final LongAdder entityChangeEventCount = new LongAdder();
     private final AtomicBoolean persistentChangesEncountered = new AtomicBoolean();
 
+    /**
+     * Types of all entities changed within the current transaction, irrespective of whether enabled for
+     * change publishing; used to invalidate any dependent {@link SharedQueryResultsCache} entries
+     * (and to bypass that cache, while changes are pending).
+     */
+    private final Set<ObjectSpecification> changedEntityTypes = _Sets.newHashSet();
+
 
     @Override
     public void destroy() throws Exception {
@@ -140,6 +152,7 @@ public void destroy() throws Exception {
         numberEntitiesLoaded.reset();
         entityChangeEventCount.reset();
         persistentChangesEncountered.set(false);
+        changedEntityTypes.clear();
     }
 
     Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
@@ -230,6 +243,19 @@ public void onTransactionCompleting(final TransactionBeforeCompletionEvent event
             entityChangeTracker().onTransactionCompleting(event);
         }
 
+        /**
+         * TRANSACTION END BOUNDARY
+         * @apiNote intended to be called after transaction completion by the framework internally
+         */
+        @EventListener(value = TransactionAfterCompletionEvent.class)
+        @Order(PriorityPrecedence.LATE)
+        public void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+            if(!interactionService.isInInteraction()) {
+                return;
+            }
+            entityChangeTracker().onTransactionCompleted(event);
+        }
+
         private EntityChangeTrackerDefault entityChangeTracker() {
             return entityChangeTrackerProvider.get();
         }
@@ -244,7 +270,34 @@ void onTransactionCompleting(final TransactionBeforeCompletionEvent event) {
             doPublish();
         } finally {
             postPublishing();
+            invalidateSharedQueryResults();
+        }
+    }
+
+    /**
+     * As called by {@link TransactionSubscriber}, so long as there is an {@link Interaction} in
+     * {@link InteractionScope scope}.
+     * <p>
+     * Invalidates dependent shared query results once more, as these might have been
+     * re-populated by concurrent interactions, while the transaction was still committing
+     * (or rolling back).
+     */
+    void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+        invalidateSharedQueryResults();
+        changedEntityTypes.clear();
+    }
+
+    private void invalidateSharedQueryResults() {
+        if(changedEntityTypes.isEmpty()) {
+            return;
         }
+        sharedQueryResultsCache
+            .filter(SharedQueryResultsCache::isEnabled)
+            .ifPresent(cache->cache.invalidate(
+                    changedEntityTypes.stream()
+                        .flatMap(ObjectSpecification::streamTypeHierarchy)
+                        .map(ObjectSpecification::getLogicalTypeName)
+                        .collect(Collectors.toSet())));
     }
 
     private void doPublish() {
@@ -354,6 +407,7 @@ long countPotentialPropertyChangeRecords() {
     public void enlistCreated(final ManagedObject entity) {
 
         _Xray.enlistCreated(entity, interactionProviderProvider);
+        changedEntityTypes.add(entity.getSpecification());
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -375,6 +429,7 @@ public void enlistUpdating(
             @Nullable final Can<PropertyChangeRecord> ormPropertyChangeRecords) {
 
         _Xray.enlistUpdating(entity, interactionProviderProvider);
+        changedEntityTypes.add(entity.getSpecification());
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -410,6 +465,7 @@ public void enlistUpdating(
     public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionProviderProvider);
+        changedEntityTypes.add(entity.getSpecification());
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -442,6 +498,11 @@ public void incrementLoaded(final ManagedObject entity) {
     }
 
 
+    @Override
+    public boolean hasChangesPending() {
+        return !changedEntityTypes.isEmpty();
+    }
+
     // -- METRICS SERVICE
 
     @Override
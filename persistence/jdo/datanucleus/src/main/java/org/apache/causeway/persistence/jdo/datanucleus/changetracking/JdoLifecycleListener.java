@@ -31,11 +31,15 @@
 import org.datanucleus.enhancement.Persistable;
 
 import org.apache.causeway.applib.annotation.Domain;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.causeway.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
 import org.apache.causeway.persistence.jdo.datanucleus.entities.DnObjectProviderForCauseway;
 
 import lombok.NonNull;
@@ -48,6 +52,7 @@
  * <li>enlistCreated <-> postStore (when NEW)</li>
  * <li>enlistDeleting <-> preDelete</li>
  * <li>enlistUpdating <-> preDirty</li>
+ * <li>enlistUpdating (actually modified properties) <-> preStore (when NOT NEW)</li>
  * <li>recognizeLoaded <-> postLoad</li>
  * <li>recognizePersisting <-> preStore (when NEW)</li>
  * <li>recognizeUpdating <-> postStore (when NOT NEW)</li>
@@ -106,6 +111,19 @@ public void preStore(final InstanceLifecycleEvent event) {
             val entity = adaptEntity(pojo);
             objectLifecyclePublisher.onPrePersist(
                     entity.asEitherWithOrWithoutMemoizedBookmark());
+        } else {
+            // provide the change records of those fields actually modified, as tracked by our StateManager
+            DnObjectProviderForCauseway.extractFrom(pojo)
+            .ifPresent(stateManager->{
+                val entity = adaptEntity(pojo);
+                if(!EntityChangePublishingFacet.isPublishingEnabled(entity.getSpecification())) {
+                    return;
+                }
+                val propertyChangeRecords = propertyChangeRecordsFor(entity, stateManager);
+                if(propertyChangeRecords.isNotEmpty()) {
+                    objectLifecyclePublisher.onUpdateFlushing(entity, propertyChangeRecords);
+                }
+            });
         }
     }
 
@@ -151,7 +169,12 @@ public void preDirty(final InstanceLifecycleEvent event) {
 
     private final void doPreDirty(final Persistable pojo) {
         val entity = adaptEntity(pojo);
-        objectLifecyclePublisher.onPreUpdate(entity, null);
+        // if our StateManager is in use, the actually modified fields are provided later (on preStore),
+        // otherwise (null) the EntityChangeTracker has to capture the pre-values of all properties
+        val changeRecords = DnObjectProviderForCauseway.extractFrom(pojo).isPresent()
+                ? Can.<PropertyChangeRecord>empty()
+                : null;
+        objectLifecyclePublisher.onPreUpdate(entity, changeRecords);
     }
 
     @Override
@@ -206,6 +229,16 @@ public void postDetach(final InstanceLifecycleEvent event) {
 
     // -- HELPER
 
+    private static Can<PropertyChangeRecord> propertyChangeRecordsFor(
+            final ManagedObject entity,
+            final DnObjectProviderForCauseway stateManager) {
+        return stateManager.getPreValueByProperty().entrySet().stream()
+                .filter(entry -> !EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(entry.getKey()))
+                .map(entry -> PropertyChangeRecord.ofCurrent(
+                        PropertyChangeRecordId.of(entity, entry.getKey()), entry.getValue()))
+                .collect(Can.toCan());
+    }
+
     private ManagedObject adaptEntity(
             final @NonNull Persistable pojo) {
         return _Utils.adaptEntity(metaModelContext, pojo);
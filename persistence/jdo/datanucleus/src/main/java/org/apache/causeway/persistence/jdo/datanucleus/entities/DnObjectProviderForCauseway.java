@@ -18,8 +18,12 @@
  */
 package org.apache.causeway.persistence.jdo.datanucleus.entities;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.jdo.PersistenceManager;
 
@@ -29,12 +33,22 @@
 import org.datanucleus.metadata.AbstractClassMetaData;
 import org.datanucleus.state.ReferentialStateManagerImpl;
 import org.datanucleus.store.FieldValues;
+import org.datanucleus.transaction.Transaction;
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.services.inject.ServiceInjector;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.collections._Sets;
+import org.apache.causeway.commons.internal.reflection._ClassCache;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
+import org.apache.causeway.core.metamodel.facets.propcoll.accessor.PropertyOrCollectionAccessorFacet;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.persistence.jdo.spring.integration.TransactionAwarePersistenceManagerFactoryProxy;
 
 import lombok.val;
@@ -49,11 +63,13 @@
 public class DnObjectProviderForCauseway
 extends ReferentialStateManagerImpl {
 
+    private MetaModelContext metaModelContext;
     private ServiceInjector serviceInjector;
 
     public DnObjectProviderForCauseway(final ExecutionContext ec, final AbstractClassMetaData cmd) {
         super(ec, cmd);
-        this.serviceInjector = extractServiceInjectorFrom(ec).orElse(null);
+        this.metaModelContext = extractMetaModelContextFrom(ec).orElse(null);
+        this.serviceInjector = extractServiceInjectorFrom(metaModelContext).orElse(null);
     }
 
     @SuppressWarnings("rawtypes")
@@ -120,7 +136,7 @@ public void initialiseForCachedPC(final CachedPC cachedPC, final Object id) {
 
     // -- HELPER
 
-    private Optional<ServiceInjector> extractServiceInjectorFrom(final ExecutionContext ec) {
+    private Optional<MetaModelContext> extractMetaModelContextFrom(final ExecutionContext ec) {
 
         val pm = ec.getOwner();
         if(! (pm instanceof PersistenceManager)) {
@@ -137,7 +153,16 @@ private Optional<ServiceInjector> extractServiceInjectorFrom(final ExecutionCont
             return Optional.empty();
         }
 
-        val serviceInjector = ((MetaModelContext)mmc).getServiceInjector();
+        return Optional.of((MetaModelContext)mmc);
+    }
+
+    private Optional<ServiceInjector> extractServiceInjectorFrom(final @Nullable MetaModelContext mmc) {
+
+        if(mmc == null) {
+            return Optional.empty();
+        }
+
+        val serviceInjector = mmc.getServiceInjector();
         if(serviceInjector == null) {
             log.error("could not find a usable ServiceInjector with given MetaModelContext");
             return Optional.empty();
@@ -226,57 +251,168 @@ public static Optional<DnObjectProviderForCauseway> extractFrom(final @Nullable
                 : Optional.empty();
     }
 
-    // --
+    // -- DIRTY FIELD TRACKING
+
+    /**
+     * Field numbers of those fields that have actually been modified within the current transaction.
+     */
+    private final Set<Integer> modifiedFieldNumbers =
+            _Sets.newHashSet();
+
+    // in support of logging unmapped fields only once
+    private static final Set<String> unmappedFieldsLogged = _Sets.newConcurrentHashSet();
 
-    /*
+    /**
+     * Pre-values (as at the start of the transaction) of those properties, whose backing fields have actually
+     * been modified; as returned by the property's getter, just before the field is first written to.
+     */
+    private final Map<OneToOneAssociation, Object> preValueByProperty =
+            _Maps.newLinkedHashMap();
+
+    /**
+     * The pre-values (as at the start of the transaction) of those properties of a persistent (not new)
+     * entity, whose backing fields have been modified within the current transaction.
+     * <p>
+     * Unlike a full snapshot of the entity taken when first dirtied, only those properties are captured,
+     * whose fields were actually written to.
+     */
+    public Map<OneToOneAssociation, Object> getPreValueByProperty() {
+        return preValueByProperty.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(preValueByProperty);
+    }
 
-    could be used as hooks to detect field changes ...
+    @Override
+    public void setBooleanField(final Persistable pc, final int fieldNumber, final boolean currentValue, final boolean newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setBooleanField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setByteField(final Persistable pc, final int fieldNumber, final byte currentValue, final byte newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setByteField(pc, fieldNumber, currentValue, newValue);
+    }
 
     @Override
-    public void replaceField(final Persistable pc, final int fieldNumber, final Object value) {
-        super.replaceField(pc, fieldNumber, value);
+    public void setCharField(final Persistable pc, final int fieldNumber, final char currentValue, final char newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setCharField(pc, fieldNumber, currentValue, newValue);
     }
 
     @Override
-    public void replaceFieldValue(final int fieldNumber, final Object value) {
-        super.replaceField(fieldNumber, value);
+    public void setDoubleField(final Persistable pc, final int fieldNumber, final double currentValue, final double newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setDoubleField(pc, fieldNumber, currentValue, newValue);
     }
 
     @Override
-    public void replaceField(final int fieldNumber, final Object value) {
-        super.replaceField(fieldNumber, value);
+    public void setFloatField(final Persistable pc, final int fieldNumber, final float currentValue, final float newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setFloatField(pc, fieldNumber, currentValue, newValue);
     }
 
     @Override
-    public void replaceFieldMakeDirty(final int fieldNumber, final Object value) {
-        super.replaceField(fieldNumber, value);
+    public void setIntField(final Persistable pc, final int fieldNumber, final int currentValue, final int newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setIntField(pc, fieldNumber, currentValue, newValue);
     }
 
     @Override
-    public void replaceField(final Persistable pc, final int fieldNumber, final Object value, final boolean makeDirty) {
-        super.replaceField(pc, fieldNumber, value, makeDirty);
+    public void setLongField(final Persistable pc, final int fieldNumber, final long currentValue, final long newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setLongField(pc, fieldNumber, currentValue, newValue);
     }
 
     @Override
-    public void replaceFields(final int[] fieldNumbers, final FieldManager fm) {
-        super.replaceFields(fieldNumbers, fm);
+    public void setShortField(final Persistable pc, final int fieldNumber, final short currentValue, final short newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setShortField(pc, fieldNumber, currentValue, newValue);
     }
 
     @Override
-    public void replaceFields(final int[] fieldNumbers, final FieldManager fm, final boolean replaceWhenDirty) {
-        super.replaceFields(fieldNumbers, fm, replaceWhenDirty);
+    public void setStringField(final Persistable pc, final int fieldNumber, final String currentValue, final String newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setStringField(pc, fieldNumber, currentValue, newValue);
     }
 
     @Override
-    public void replaceNonLoadedFields(final int fieldNumbers[], final FieldManager fm) {
-        super.replaceNonLoadedFields(fieldNumbers, fm);
+    public void setObjectField(final Persistable pc, final int fieldNumber, final Object currentValue, final Object newValue) {
+        capturePreValue(pc, fieldNumber);
+        super.setObjectField(pc, fieldNumber, currentValue, newValue);
     }
 
     @Override
-    public void postCommit(final org.datanucleus.Transaction tx) {
+    public void postCommit(final Transaction tx) {
+        clearModifiedFields();
         super.postCommit(tx);
-    } */
+    }
 
+    @Override
+    public void preRollback(final Transaction tx) {
+        clearModifiedFields();
+        super.preRollback(tx);
+    }
 
-}
+    private void clearModifiedFields() {
+        modifiedFieldNumbers.clear();
+        preValueByProperty.clear();
+    }
+
+    /**
+     * Captures the current value of the property backed by given field, unless already captured within
+     * this transaction; ignored for new or deleted entities (which are tracked in their entirety).
+     */
+    private void capturePreValue(final Persistable pc, final int fieldNumber) {
+        if(pc != myPC
+                || metaModelContext == null
+                || !modifiedFieldNumbers.add(fieldNumber)) {
+            return;
+        }
+        val lifecycleState = getLifecycleState();
+        if(lifecycleState == null
+                || lifecycleState.isNew()
+                || lifecycleState.isDeleted()) {
+            return;
+        }
+        val entity = metaModelContext.getObjectManager().adapt(pc);
+        val property = propertyFor(entity.getSpecification(), fieldNumber).orElse(null);
+        if(property == null) {
+            return; // not tracked
+        }
+        if(!isLoaded(fieldNumber)) {
+            loadField(fieldNumber);
+        }
+        // the field is not yet written to, hence the getter still returns the pre-value
+        preValueByProperty.put(property,
+                MmUnwrapUtil.single(property.get(entity, InteractionInitiatedBy.FRAMEWORK)));
+    }
+
+    /**
+     * Maps given field to the (non mixed-in) property, whose getter is the one for the field
+     * (or is the persistent member itself, in case of property based persistence), as recognized by the
+     * property's accessor facet. Unmapped fields are logged.
+     */
+    private Optional<OneToOneAssociation> propertyFor(final ObjectSpecification spec, final int fieldNumber) {
+        val mmd = cmd.getMetaDataForManagedMemberAtAbsolutePosition(fieldNumber);
+        val member = mmd.getMemberRepresented();
+        val getter = member instanceof Method
+                ? Optional.of((Method) member)
+                : member instanceof Field
+                    ? _ClassCache.getInstance().getterForField(member.getDeclaringClass(), (Field) member)
+                    : Optional.<Method>empty();
+        val property = getter.flatMap(method->spec.streamProperties(MixedIn.EXCLUDED)
+                .filter(prop->prop.lookupFacet(PropertyOrCollectionAccessorFacet.class)
+                        .filter(ImperativeFacet.class::isInstance)
+                        .map(accessorFacet->((ImperativeFacet)accessorFacet).getMethods().contains(method))
+                        .orElse(false))
+                .findFirst());
+        if(!property.isPresent()
+                && unmappedFieldsLogged.add(cmd.getFullClassName() + "#" + mmd.getName())) {
+            log.info("field {}.{} is not mapped to any property, hence not tracked for entity change publishing",
+                    cmd.getFullClassName(), mmd.getName());
+        }
+        return property;
+    }
 
+}
@@ -19,18 +19,25 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
+import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
+import javax.jdo.identity.SingleFieldIdentity;
 
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.enhancement.Persistable;
+import org.datanucleus.identity.DatastoreId;
+import org.datanucleus.identity.SingleFieldId;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
 
 import org.apache.causeway.applib.exceptions.unrecoverable.ObjectNotFoundException;
@@ -65,6 +72,7 @@
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.Value;
 import lombok.val;
 import lombok.experimental.Accessors;
 import lombok.extern.log4j.Log4j2;
@@ -150,6 +158,15 @@ public Optional<String> identifierFor(final Object pojo) {
         return idIfAny;
     }
 
+    @Override
+    public Optional<Object> versionOf(final Object pojo) {
+        if (pojo==null
+                || !getEntityState(pojo).hasOid()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(JDOHelper.getVersion(pojo));
+    }
+
     @Override
     public Bookmark validateBookmark(final @NonNull Bookmark bookmark) {
         _Assert.assertNotNull(primaryKeyTypeForDecoding().destring(bookmark.getIdentifier()));
@@ -186,6 +203,121 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Keeps the number of bind parameters of the {@code IN} clause within the limits
+     * of common databases.
+     */
+    private static final int MAX_OBJECT_IDS_PER_QUERY = 1000;
+
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        val entityPojoByBookmark = new HashMap<Bookmark, Object>(bookmarks.size());
+        if(bookmarks.isEmpty()) {
+            return entityPojoByBookmark;
+        }
+
+        val bulkFetchFilter = bulkFetchFilter().orElse(null);
+        if(bulkFetchFilter == null) {
+            // eg. application identity with an objectIdClass of its own
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val persistenceManager = getPersistenceManager();
+
+        // keyed by the identity's key value, as target class names of identities may differ (eg. with inheritance)
+        val bookmarksByKey = new HashMap<Object, List<Bookmark>>(bookmarks.size());
+        bookmarks.forEach(bookmark->
+            bookmarksByKey
+                .computeIfAbsent(keyOf(primaryKeyTypeForDecoding().destring(bookmark.getIdentifier())), __->new ArrayList<>())
+                .add(bookmark));
+        val keys = new ArrayList<Object>(bookmarksByKey.keySet());
+
+        for(int from = 0; from < keys.size(); from += MAX_OBJECT_IDS_PER_QUERY) {
+            val keysOfChunk = keys
+                    .subList(from, Math.min(from + MAX_OBJECT_IDS_PER_QUERY, keys.size()));
+
+            val query = persistenceManager.newQuery(entityClass, bulkFetchFilter.getFilter());
+            query.getFetchPlan().addGroup(FetchGroup.DEFAULT);
+            query.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+            query.setParameters(bulkFetchFilter.isFilteringByKeys()
+                    ? new ArrayList<>(keysOfChunk)
+                    : keysOfChunk.stream()
+                        .map(key->persistenceManager.newObjectIdInstance(entityClass, key))
+                        .collect(Collectors.toCollection(ArrayList::new)));
+
+            fetchWithinTransaction(query::executeList)
+                .forEach(entity->{
+                    val entityPojo = entity.getPojo();
+                    _NullSafe.stream(bookmarksByKey.get(keyOf(JDOHelper.getObjectId(entityPojo))))
+                        .forEach(bookmark->entityPojoByBookmark.put(bookmark, entityPojo));
+                });
+        }
+
+        return entityPojoByBookmark;
+    }
+
+    /**
+     * The key value of datastore and single field identities.
+     */
+    private static Object keyOf(final Object objectId) {
+        if(objectId instanceof DatastoreId) {
+            return ((DatastoreId) objectId).getKeyAsObject();
+        }
+        if(objectId instanceof SingleFieldId) {
+            return ((SingleFieldId<?, ?>) objectId).getKeyAsObject();
+        }
+        if(objectId instanceof SingleFieldIdentity) {
+            return ((SingleFieldIdentity) objectId).getKeyAsObject();
+        }
+        throw _Exceptions.unexpectedCodeReach();
+    }
+
+    /**
+     * JDOQL filter selecting entities by their identity's key values, as passed in with the
+     * {@code :objectIds} collection parameter.
+     */
+    @Value(staticConstructor = "of")
+    private static class BulkFetchFilter {
+        String filter;
+        /**
+         * Whether the parameter holds the key values themselves (filtering by the primary key member),
+         * or otherwise the identities (as created by the {@link PersistenceManager}).
+         */
+        boolean filteringByKeys;
+    }
+
+    // lazily looks up the bulkFetchFilter (needs a PersistenceManager)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE) @Accessors(fluent = true)
+    private final Optional<BulkFetchFilter> bulkFetchFilter = lookupBulkFetchFilter();
+
+    private Optional<BulkFetchFilter> lookupBulkFetchFilter() {
+
+        val persistenceManager = getPersistenceManager();
+        val pmf = (JDOPersistenceManagerFactory) persistenceManager.getPersistenceManagerFactory();
+        val nucleusContext = pmf.getNucleusContext();
+
+        val contextLoader = Thread.currentThread().getContextClassLoader();
+        val clr = nucleusContext.getClassLoaderResolver(contextLoader);
+
+        val classMetadata = nucleusContext.getMetaDataManager().getMetaDataForClass(entityClass, clr);
+
+        switch (classMetadata.getIdentityType()) {
+            case DATASTORE:
+                return Optional.of(BulkFetchFilter.of(":objectIds.contains(JDOHelper.getObjectId(this))", false));
+            case APPLICATION:
+                // identities as parameter values would be bound as serialized objects, so filter by the primary key member instead
+                return classMetadata.usesSingleFieldIdentityClass()
+                        ? Optional.of(BulkFetchFilter.of(
+                                String.format(":objectIds.contains(%s)", classMetadata.getPrimaryKeyMemberNames()[0]), true))
+                        : Optional.empty();
+            default:
+                return Optional.empty();
+        }
+    }
+
     private Map<Class<?>, Class<?>> primaryKeyClassByEntityClass = new ConcurrentHashMap<>();
 
     private Class<?> primaryKeyTypeFor(final Class<?> entityClass) {
@@ -18,14 +18,23 @@
  */
 package org.apache.causeway.persistence.jpa.integration.entity;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceException;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.IdentifiableType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.eclipse.persistence.exceptions.DescriptorException;
 import org.springframework.data.jpa.repository.JpaContext;
@@ -40,7 +49,9 @@
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.internal.reflection._Reflect;
 import org.apache.causeway.core.config.beans.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
@@ -116,6 +127,55 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Keeps the number of bind parameters of the {@code IN} clause within the limits
+     * of common databases.
+     */
+    private static final int MAX_PRIMARY_KEYS_PER_QUERY = 1000;
+
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        val idAttributeName = jpaIdAttributeNameRef.get().orElse(null);
+        if(bookmarks.size() < 2
+                || idAttributeName == null) {
+            // composite primary keys are not supported by the IN clause below
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val bookmarksByPrimaryKey = new HashMap<Object, List<Bookmark>>(bookmarks.size());
+        bookmarks.forEach(bookmark->
+            bookmarksByPrimaryKey
+                .computeIfAbsent(primaryKeyType.destring(bookmark.getIdentifier()), __->new ArrayList<>())
+                .add(bookmark));
+        val primaryKeys = new ArrayList<Object>(bookmarksByPrimaryKey.keySet());
+
+        val entityManager = getEntityManager();
+        val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        val cb = entityManager.getCriteriaBuilder();
+
+        val entityPojoByBookmark = new HashMap<Bookmark, Object>(bookmarks.size());
+
+        for(int from = 0; from < primaryKeys.size(); from += MAX_PRIMARY_KEYS_PER_QUERY) {
+            val primaryKeysOfChunk = primaryKeys
+                    .subList(from, Math.min(from + MAX_PRIMARY_KEYS_PER_QUERY, primaryKeys.size()));
+
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root))
+                .where(root.get(idAttributeName).in(primaryKeysOfChunk));
+
+            entityManager.createQuery(cr).getResultStream()
+                .forEach(entityPojo->
+                    _NullSafe.stream(bookmarksByPrimaryKey.get(persistenceUnitUtil.getIdentifier(entityPojo)))
+                        .forEach(bookmark->entityPojoByBookmark.put(bookmark, entityPojo)));
+        }
+
+        return entityPojoByBookmark;
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getJpaEntityType().getIdType().getJavaType();
     }
@@ -293,6 +353,16 @@ public EntityState getEntityState(final Object pojo) {
         }
     }
 
+    @Override
+    public Optional<Object> versionOf(final @Nullable Object pojo) {
+        if(pojo==null
+                || !getEntityState(pojo).hasOid()) {
+            return Optional.empty();
+        }
+        return jpaVersionMemberRef.get()
+                .flatMap(versionMember->readVersion(versionMember, pojo));
+    }
+
     @Override
     public boolean isProxyEnhancement(final Method method) {
         return false;
@@ -327,6 +397,48 @@ private Optional<EntityType<?>> queryJpaMetamodel() {
 
 
 
+    private final _Lazy<Optional<String>> jpaIdAttributeNameRef = _Lazy.threadSafe(this::queryJpaIdAttributeName);
+
+    /**
+     * find the name of the {@link javax.persistence.Id} attribute, if there is exactly one
+     */
+    private Optional<String> queryJpaIdAttributeName() {
+        return jpaEntityTypeRef.get()
+                .filter(IdentifiableType::hasSingleIdAttribute)
+                .flatMap(type->type.getSingularAttributes().stream()
+                        .filter(SingularAttribute::isId)
+                        .map(Attribute::getName)
+                        .findFirst());
+    }
+
+    private final _Lazy<Optional<Member>> jpaVersionMemberRef = _Lazy.threadSafe(this::queryJpaVersionMember);
+
+    /**
+     * find the field or getter of the {@link javax.persistence.Version} attribute, if any
+     */
+    private Optional<Member> queryJpaVersionMember() {
+        return jpaEntityTypeRef.get()
+                .filter(IdentifiableType::hasVersionAttribute)
+                .flatMap(type->type.getSingularAttributes().stream()
+                        .filter(SingularAttribute::isVersion)
+                        .map(Attribute::getJavaMember)
+                        .findFirst());
+    }
+
+    private static Optional<Object> readVersion(final Member versionMember, final Object pojo) {
+        try {
+            if(versionMember instanceof Field) {
+                return Optional.ofNullable(_Reflect.getFieldOn((Field) versionMember, pojo));
+            }
+            if(versionMember instanceof Method) {
+                return _Reflect.invokeMethodOn((Method) versionMember, pojo).getValue();
+            }
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            log.warn("failed to read version of {}", pojo.getClass().getName(), e);
+        }
+        return Optional.empty();
+    }
+
     // -- DEPENDENCIES
 
     protected EntityManager getEntityManager() {
@@ -0,0 +1,55 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+
+/**
+ * Bookmark parsing and formatting, as done for every object reference passed in or out of a viewer.
+ * Does not require the framework to be bootstrapped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookmarkBenchmark {
+
+    private final Bookmark bookmark =
+            Bookmark.forLogicalTypeNameAndIdentifier("regressiontests.InteractionDemo", "12345");
+    private final String bookmarkString = bookmark.stringify();
+
+    @Benchmark
+    public Bookmark parse() {
+        return Bookmark.parseElseFail(bookmarkString);
+    }
+
+    @Benchmark
+    public String format() {
+        return bookmark.stringify();
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import org.apache.causeway.testdomain.conf.Configuration_headless;
+import org.apache.causeway.testdomain.model.interaction.Configuration_usingInteractionDomain;
+
+/**
+ * Bootstraps the framework (headless) with the interaction domain of the regression tests,
+ * once per benchmark run, shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class CausewayBenchmarkState {
+
+    @Configuration
+    @Import({
+        Configuration_headless.class,
+        Configuration_usingInteractionDomain.class
+    })
+    static class BenchmarkConfiguration {
+    }
+
+    private ConfigurableApplicationContext applicationContext;
+
+    @Setup(Level.Trial)
+    public void bootstrap() {
+        applicationContext = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                        "causeway.core.meta-model.introspector.mode=FULL",
+                        "causeway.applib.annotation.domain-object.editing=TRUE",
+                        "causeway.core.meta-model.validator.explicit-object-type=FALSE")
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        applicationContext.close();
+    }
+
+    public <T> T lookupServiceElseFail(final Class<T> requiredType) {
+        return applicationContext.getBean(requiredType);
+    }
+
+}
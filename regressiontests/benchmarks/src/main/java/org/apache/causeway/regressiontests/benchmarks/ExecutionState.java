@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedProperty;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.testdomain.model.interaction.InteractionDemo;
+
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * Like {@link InteractionState}, but opens and closes the interaction per invocation,
+ * as each member execution is recorded with the interaction (its execution graph would otherwise grow
+ * with every invocation).
+ */
+@State(Scope.Thread)
+@Getter
+public class ExecutionState {
+
+    private InteractionService interactionService;
+
+    private InteractionDemo wrappedDemo;
+    private ManagedProperty managedProperty;
+    private ManagedObject proposedValue;
+
+    @Setup(Level.Invocation)
+    public void openInteraction(final CausewayBenchmarkState causeway) {
+        interactionService = causeway.lookupServiceElseFail(InteractionService.class);
+
+        interactionService.openInteraction();
+
+        val factoryService = causeway.lookupServiceElseFail(FactoryService.class);
+        val wrapperFactory = causeway.lookupServiceElseFail(WrapperFactory.class);
+        val objectManager = causeway.lookupServiceElseFail(ObjectManager.class);
+
+        val demo = factoryService.viewModel(InteractionDemo.class);
+        wrappedDemo = wrapperFactory.wrap(demo);
+        managedProperty = ManagedProperty
+                .lookupProperty(objectManager.adapt(demo), "stringMultiline", Where.OBJECT_FORMS)
+                .orElseThrow();
+        proposedValue = objectManager.adapt("Hello");
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeInteraction() {
+        interactionService.closeInteractionLayers();
+    }
+
+}
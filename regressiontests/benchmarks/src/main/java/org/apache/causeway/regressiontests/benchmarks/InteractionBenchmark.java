@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.interactions.managed.InteractionVeto;
+import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataRow;
+import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataTableModel;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.testdomain.model.interaction.InteractionDemoItem;
+
+/**
+ * Member interactions on a view model, as triggered by the viewers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InteractionBenchmark {
+
+    @Benchmark
+    public ManagedObject propertyGet(final InteractionState state) {
+        return state.getManagedProperty().getPropertyValue();
+    }
+
+    @Benchmark
+    public Optional<InteractionVeto> propertySet(final ExecutionState state) {
+        return state.getManagedProperty().modifyProperty(state.getProposedValue());
+    }
+
+    @Benchmark
+    public List<InteractionDemoItem> actionInvocationViaWrapper(final ExecutionState state) {
+        return state.getWrappedDemo().limitedItems(2);
+    }
+
+    @Benchmark
+    public String titleRendering(final InteractionState state) {
+        return state.getTitleService().titleOf(state.getDemo());
+    }
+
+    /**
+     * Creates a new table model each time, as the model memoizes its rows.
+     */
+    @Benchmark
+    public Can<DataRow> dataTableRows(final InteractionState state) {
+        return DataTableModel.forCollection(state.getManagedCollection())
+                .getDataRowsFiltered()
+                .getValue();
+    }
+
+}
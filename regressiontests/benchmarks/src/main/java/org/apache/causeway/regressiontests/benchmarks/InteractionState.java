@@ -0,0 +1,91 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.title.TitleService;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedProperty;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.model.interaction.InteractionDemo;
+
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * Per benchmark thread, holds an open interaction (interactions are bound to the current thread)
+ * and an {@link InteractionDemo} view model, with some of its members already looked up.
+ * <p>
+ * The interaction is opened and closed per iteration, as it accumulates state over its lifetime;
+ * benchmarks that execute members should use {@link ExecutionState} instead.
+ */
+@State(Scope.Thread)
+@Getter
+public class InteractionState {
+
+    private InteractionService interactionService;
+    private SpecificationLoader specificationLoader;
+    private ObjectManager objectManager;
+    private TitleService titleService;
+
+    private InteractionDemo demo;
+    private ManagedObject demoAdapter;
+    private ObjectSpecification demoSpec;
+    private ManagedProperty managedProperty;
+    private ManagedCollection managedCollection;
+
+    @Setup(Level.Iteration)
+    public void openInteraction(final CausewayBenchmarkState causeway) {
+        interactionService = causeway.lookupServiceElseFail(InteractionService.class);
+        specificationLoader = causeway.lookupServiceElseFail(SpecificationLoader.class);
+        objectManager = causeway.lookupServiceElseFail(ObjectManager.class);
+        titleService = causeway.lookupServiceElseFail(TitleService.class);
+
+        interactionService.openInteraction();
+
+        val factoryService = causeway.lookupServiceElseFail(FactoryService.class);
+
+        demo = factoryService.viewModel(InteractionDemo.class);
+        demoAdapter = objectManager.adapt(demo);
+        demoSpec = demoAdapter.getSpecification();
+        managedProperty = ManagedProperty
+                .lookupProperty(demoAdapter, "stringMultiline", Where.OBJECT_FORMS)
+                .orElseThrow();
+        managedCollection = ManagedCollection
+                .lookupCollection(demoAdapter, "items", Where.PARENTED_TABLES)
+                .orElseThrow();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeInteraction() {
+        interactionService.closeInteractionLayers();
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
+import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.causeway.viewer.restfulobjects.viewer.context.ResourceContext;
+import org.apache.causeway.viewer.restfulobjects.viewer.resources.ResourceDescriptor;
+
+import lombok.val;
+
+/**
+ * Restful Objects domain object representation, as rendered for {@code GET objects/{domainType}/{instanceId}}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestfulObjectsBenchmark {
+
+    /**
+     * Creates a new resource context each time, as is done per request
+     * (also the context keeps track of objects already rendered).
+     */
+    @Benchmark
+    public JsonRepresentation domainObjectRendering(final InteractionState state) {
+        val resourceContext = new ResourceContext(
+                ResourceDescriptor.of(
+                        RepresentationType.DOMAIN_OBJECT,
+                        Where.OBJECT_FORMS,
+                        RepresentationService.Intent.ALREADY_PERSISTENT),
+                null, null, null,
+                "http://localhost/",
+                "http://localhost/restful/",
+                null, null, null, null,
+                state.getObjectManager().getMetaModelContext(),
+                InteractionInitiatedBy.USER,
+                Collections.emptyMap());
+
+        return new DomainObjectReprRenderer(resourceContext, null, JsonRepresentation.newMap())
+                .with(state.getDemoAdapter())
+                .includesSelf()
+                .render();
+    }
+
+}
@@ -26,13 +26,18 @@
 import org.springframework.test.context.TestPropertySource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataRow;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
 import org.apache.causeway.testdomain.conf.Configuration_headless;
 import org.apache.causeway.testdomain.model.interaction.Configuration_usingInteractionDomain;
 import org.apache.causeway.testdomain.model.interaction.InteractionDemo;
+import org.apache.causeway.testdomain.model.interaction.InteractionDemoItem;
 import org.apache.causeway.testdomain.util.interaction.InteractionTestAbstract;
 
 import lombok.val;
@@ -105,6 +110,80 @@ void columns() {
 
     }
 
+    @Test
+    void sorting() {
+
+        val table =
+                testerFactory.collectionTester(InteractionDemo.class, "items", Where.ANYWHERE)
+                .tableTester()
+                .getDataTable();
+
+        val nameProperty = table.getElementType().getPropertyElseFail("name");
+
+        val sortedAscending = table.getDataRowsFilteredAndSorted(nameProperty, true);
+        assertEquals(List.of("first", "last", "second", "third"), namesOf(sortedAscending));
+
+        // memoized, as long as sort criteria and filtered rows don't change
+        assertSame(sortedAscending, table.getDataRowsFilteredAndSorted(nameProperty, true));
+
+        // editing a row's sort property does not re-read any sort keys (paging stays cheap) ...
+        val firstItem = (InteractionDemoItem) MmUnwrapUtil.single(sortedAscending.getFirstOrFail().getRowElement());
+        firstItem.setName("zero");
+        assertSame(sortedAscending, table.getDataRowsFilteredAndSorted(nameProperty, true));
+
+        // ... until the data elements are invalidated, which discards the memoized order
+        table.getDataElements().invalidate();
+        assertEquals(List.of("last", "second", "third", "zero"),
+                namesOf(table.getDataRowsFilteredAndSorted(nameProperty, true)));
+        firstItem.setName("first");
+        table.getDataElements().invalidate();
+
+        val sortedDescending = table.getDataRowsFilteredAndSorted(nameProperty, false);
+        assertEquals(List.of("third", "second", "last", "first"), namesOf(sortedDescending));
+
+        // unsorted
+        assertEquals(List.of("first", "second", "third", "last"),
+                namesOf(table.getDataRowsFilteredAndSorted(null, true)));
+    }
+
+    @Test
+    void filtering() {
+
+        val table =
+                testerFactory.collectionTester(InteractionDemo.class, "items", Where.ANYWHERE)
+                .tableTester()
+                .getDataTable();
+
+        val allRows = table.getDataRowsFiltered().getValue();
+        assertEquals(4, allRows.size());
+
+        // matches title and column values, case-insensitive
+        table.getSearchArgument().setValue("IR");
+        assertEquals(List.of("first", "third"), namesOf(table.getDataRowsFiltered().getValue()));
+
+        // extended search term narrows the previous result
+        table.getSearchArgument().setValue("ird");
+        assertEquals(List.of("third"), namesOf(table.getDataRowsFiltered().getValue()));
+
+        // lookup by UUID is scoped to the filtered data rows
+        assertTrue(table.lookupDataRow(allRows.getFirstOrFail().getUuid()).isEmpty());
+
+        // matches column values (date), not contained in titles
+        table.getSearchArgument().setValue("2022");
+        assertEquals(4, table.getDataRowsFiltered().getValue().size());
+
+        table.getSearchArgument().setValue("no-match");
+        assertEquals(0, table.getDataRowsFiltered().getValue().size());
+
+        table.getSearchArgument().setValue(" ");
+        assertEquals(4, table.getDataRowsFiltered().getValue().size());
+
+        // data rows are not recreated by filtering, and can be looked up by UUID
+        allRows.forEach(dataRow->
+            assertSame(dataRow, table.lookupDataRow(dataRow.getUuid()).orElseThrow()));
+        assertEquals(allRows, table.getDataRowsFiltered().getValue());
+    }
+
     @Test
     void choicesFromMultiselect() {
 
@@ -144,4 +223,15 @@ void choicesFromMultiselect() {
                 arg1->assertEquals(expectedParamDefault, arg1, ()->"param 1 mismatch"));
     }
 
+    // -- HELPER
+
+    private static List<String> namesOf(final Can<DataRow> dataRows) {
+        return dataRows
+                .map(DataRow::getRowElement)
+                .map(MmUnwrapUtil::single)
+                .map(InteractionDemoItem.class::cast)
+                .map(InteractionDemoItem::getName)
+                .toList();
+    }
+
 }
@@ -19,6 +19,10 @@
 package org.apache.causeway.testdomain.persistence.jdo;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -34,14 +38,20 @@
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
 import org.apache.causeway.testdomain.jdo.JdoTestFixtures;
 import org.apache.causeway.testdomain.jdo.entities.JdoBook;
 import org.apache.causeway.testdomain.jdo.entities.JdoInventory;
 import org.apache.causeway.testdomain.jdo.entities.JdoProduct;
+import org.apache.causeway.testdomain.jdo.entities.JdoPublisher;
 import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
 
 import lombok.val;
@@ -57,6 +67,8 @@ class JdoQueryTest extends CausewayIntegrationTestAbstract {
 
  //   @Inject private JdoSupportService jdoSupport;
     @Inject private JdoTestFixtures jdoTestFixtures;
+    @Inject private BookmarkService bookmarkService;
+    @Inject private ObjectManager objectManager;
 
     @BeforeAll
     static void beforeAll() throws SQLException {
@@ -155,6 +167,71 @@ void sampleInventory_shouldSupportNamedQueriesThroughApplib() {
 //        assertInventoryHasBooks(affordableBooks, 1, 2);
 //    }
 
+    @Test @Order(6)
+    void sampleInventory_shouldSupportBulkBookmarkLookup() { // datastore identity
+
+        val books = repositoryService.allInstances(JdoBook.class);
+        assertEquals(3, books.size());
+
+        val bookmarks = books.stream()
+                .map(bookmarkService::bookmarkForElseFail)
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(bookmarks);
+        // mixing in a non-existent and a null bookmark
+        bookmarks.add(1, Bookmark.forLogicalTypeNameAndIdentifier(bookmarks.get(0).getLogicalTypeName(), "999999"));
+        bookmarks.add(null);
+
+        // when
+        val lookedUp = bookmarkService.lookupAll(bookmarks);
+
+        // then - preserves order and reports misses
+        assertEquals(5, lookedUp.size());
+        assertEquals(books.get(2), lookedUp.get(0).orElseThrow());
+        assertEquals(Optional.empty(), lookedUp.get(1));
+        assertEquals(books.get(1), lookedUp.get(2).orElseThrow());
+        assertEquals(books.get(0), lookedUp.get(3).orElseThrow());
+        assertEquals(Optional.empty(), lookedUp.get(4));
+    }
+
+    @Test @Order(7)
+    void sampleInventory_shouldFailBulkObjectLoading_whenEntityNotFound() {
+
+        val bookmarks = repositoryService.allInstances(JdoBook.class).stream()
+                .map(bookmarkService::bookmarkForElseFail)
+                .collect(Can.toCan());
+        assertEquals(3, objectManager.loadObjectsElseFail(bookmarks).size());
+
+        // mixing in a non-existent bookmark
+        val bookmarksWithMiss = bookmarks.add(
+                Bookmark.forLogicalTypeNameAndIdentifier(bookmarks.getFirstOrFail().getLogicalTypeName(), "999999"));
+        assertThrows(RuntimeException.class, ()->objectManager.loadObjectsElseFail(bookmarksWithMiss));
+    }
+
+    @Test @Order(8)
+    void bulkBookmarkLookup_shouldSupportApplicationIdentity() {
+
+        val publishers = Can.of("Alpha", "Beta", "Gamma")
+                .map(name->repositoryService.persistAndFlush(JdoPublisher.of(name)));
+
+        val bookmarks = publishers.reverse()
+                .map(bookmarkService::bookmarkForElseFail)
+                .toArrayList();
+        // mixing in the bookmark of a since removed entity
+        val removed = repositoryService.persistAndFlush(JdoPublisher.of("Omega"));
+        bookmarks.add(1, bookmarkService.bookmarkForElseFail(removed));
+        repositoryService.removeAndFlush(removed);
+
+        // when
+        val lookedUp = bookmarkService.lookupAll(bookmarks);
+
+        // then - preserves order and reports misses
+        assertEquals(4, lookedUp.size());
+        assertEquals(publishers.getElseFail(2), lookedUp.get(0).orElseThrow());
+        assertEquals(Optional.empty(), lookedUp.get(1));
+        assertEquals(publishers.getElseFail(1), lookedUp.get(2).orElseThrow());
+        assertEquals(publishers.getElseFail(0), lookedUp.get(3).orElseThrow());
+    }
+
     @Test @Order(99) @Disabled("broken won't fix")
     void previousTest_shouldHaveRolledBack() {
         assertEquals(0, repositoryService.allInstances(JdoInventory.class).size());
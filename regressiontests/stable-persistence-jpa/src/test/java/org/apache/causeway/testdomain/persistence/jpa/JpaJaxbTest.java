@@ -18,17 +18,24 @@
  */
 package org.apache.causeway.testdomain.persistence.jpa;
 
+import java.util.ArrayList;
+
 import javax.inject.Inject;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.domain.DomainObjectList;
 import org.apache.causeway.applib.services.jaxb.JaxbService;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.testdomain.RegressionTestAbstract;
 import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
 import org.apache.causeway.testdomain.jpa.JpaInventoryJaxbVm;
+import org.apache.causeway.testdomain.jpa.entities.JpaBook;
 import org.apache.causeway.testdomain.jpa.JpaTestFixtures;
 
 import lombok.val;
@@ -64,4 +71,29 @@ void inventoryJaxbVm_shouldRoundtripProperly() {
         });
     }
 
+    @Test
+    void domainObjectList_shouldRoundtripProperly() {
+
+        val xml = call(()->{
+            val books = testFixtures.setUpViewmodelWith3Books().listBooks();
+            val domainObjectList = new DomainObjectList(
+                    "Books", JpaBook.class.getName(), JpaInventoryJaxbVm.class.getName(), "listBooks", null);
+            domainObjectList.setObjects(new ArrayList<>(books));
+            val xml1 = jaxbService.toXml(domainObjectList);
+            // marshal again, reusing the cached JAXBContext
+            assertEquals(xml1, jaxbService.toXml(domainObjectList));
+            return xml1;
+        });
+
+        run(()->{
+            for(int i = 0; i < 2; ++i) {
+                val recoveredList = jaxbService.fromXml(DomainObjectList.class, xml);
+                assertEquals("Books", recoveredList.getTitle());
+                assertEquals(3, recoveredList.getObjects().size());
+                recoveredList.getObjects()
+                    .forEach(book->assertTrue(book instanceof JpaBook));
+            }
+        });
+    }
+
 }
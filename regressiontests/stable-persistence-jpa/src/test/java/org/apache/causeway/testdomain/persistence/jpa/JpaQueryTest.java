@@ -19,6 +19,10 @@
 package org.apache.causeway.testdomain.persistence.jpa;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -36,10 +40,15 @@
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
 import org.apache.causeway.testdomain.jpa.JpaTestFixtures;
@@ -61,6 +70,8 @@
 class JpaQueryTest extends CausewayIntegrationTestAbstract {
 
     @Inject private JpaTestFixtures testFixtures;
+    @Inject private BookmarkService bookmarkService;
+    @Inject private ObjectManager objectManager;
     @Inject private InteractionService interactionService;
     @Inject private JpaSupportService jpaSupport;
 
@@ -147,6 +158,46 @@ void sampleInventory_shouldSupportJpaCriteria() {
         testFixtures.assertInventoryHasBooks(affordableBooks, 1, 2);
     }
 
+    @Test @Order(6)
+    void sampleInventory_shouldSupportBulkBookmarkLookup() {
+
+        val books = repositoryService.allInstances(JpaBook.class);
+        assertEquals(3, books.size());
+
+        val bookmarks = books.stream()
+                .map(bookmarkService::bookmarkForElseFail)
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(bookmarks);
+        // mixing in a non-existent and a null bookmark
+        bookmarks.add(1, Bookmark.forLogicalTypeNameAndIdentifier(bookmarks.get(0).getLogicalTypeName(), "999999"));
+        bookmarks.add(null);
+
+        // when
+        val lookedUp = bookmarkService.lookupAll(bookmarks);
+
+        // then - preserves order and reports misses
+        assertEquals(5, lookedUp.size());
+        assertEquals(books.get(2), lookedUp.get(0).orElseThrow());
+        assertEquals(Optional.empty(), lookedUp.get(1));
+        assertEquals(books.get(1), lookedUp.get(2).orElseThrow());
+        assertEquals(books.get(0), lookedUp.get(3).orElseThrow());
+        assertEquals(Optional.empty(), lookedUp.get(4));
+    }
+
+    @Test @Order(7)
+    void sampleInventory_shouldFailBulkObjectLoading_whenEntityNotFound() {
+
+        val bookmarks = repositoryService.allInstances(JpaBook.class).stream()
+                .map(bookmarkService::bookmarkForElseFail)
+                .collect(Can.toCan());
+        assertEquals(3, objectManager.loadObjectsElseFail(bookmarks).size());
+
+        // mixing in a non-existent bookmark
+        val bookmarksWithMiss = bookmarks.add(
+                Bookmark.forLogicalTypeNameAndIdentifier(bookmarks.getFirstOrFail().getLogicalTypeName(), "999999"));
+        assertThrows(RuntimeException.class, ()->objectManager.loadObjectsElseFail(bookmarksWithMiss));
+    }
+
     @Test @Order(99) @Disabled("broken won't fix")
     void previousTest_shouldHaveRolledBack() {
         assertEquals(0, repositoryService.allInstances(JpaInventory.class).size());
@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.rest;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.util.rest.RestEndpointService;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulMediaType;
+import org.apache.causeway.viewer.restfulobjects.jaxrsresteasy.CausewayModuleViewerRestfulObjectsJaxrsResteasy;
+
+import lombok.val;
+
+/**
+ * Verifies that streaming rendering produces the same JSON as tree rendering,
+ * for action results of list type, with and without following the elements.
+ */
+@SpringBootTest(
+        classes = {RestEndpointService.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Import({
+    Configuration_usingJdo.class,
+    CausewayModuleViewerRestfulObjectsJaxrsResteasy.class
+})
+class RestStreamingRenderingTest {
+
+    private static final String LIST_BOOKS =
+            "services/testdomain.jdo.InventoryResourceAlias/actions/listBooks/invoke";
+
+    @Inject RestEndpointService restService;
+    @Inject CausewayConfiguration causewayConfiguration;
+
+    @AfterEach
+    void restoreDefault() {
+        setStreamingRendering(false);
+    }
+
+    @Test
+    void listOfLinks() {
+        setStreamingRendering(false);
+        val asTree = invoke(LIST_BOOKS);
+
+        setStreamingRendering(true);
+        val asStream = invoke(LIST_BOOKS);
+
+        assertTrue(asTree.contains("urn:org.restfulobjects:rels/element"), asTree);
+        assertEquals(asTree, asStream);
+    }
+
+    @Test
+    void listOfFollowedLinks() {
+        val listBooksFollowingValues = LIST_BOOKS + "?x-ro-follow-links=value";
+
+        setStreamingRendering(false);
+        val asTree = invoke(listBooksFollowingValues);
+
+        setStreamingRendering(true);
+        val asStream = invoke(listBooksFollowingValues);
+
+        // elements followed, that is, rendered in full
+        assertTrue(asTree.contains("\"members\""), asTree);
+        assertEquals(asTree, asStream);
+    }
+
+    // -- HELPER
+
+    private void setStreamingRendering(final boolean streamingRendering) {
+        causewayConfiguration.getViewer().getRestfulobjects().setStreamingRendering(streamingRendering);
+    }
+
+    private String invoke(final String endpointPath) {
+        val restfulClient = restService.newClient(false);
+        val response = restfulClient.request(endpointPath)
+                .accept(RestfulMediaType.APPLICATION_JSON_ACTION_RESULT)
+                .post(restfulClient.arguments().build());
+        assertEquals(200, response.getStatus());
+        return response.readEntity(String.class);
+    }
+
+}
@@ -30,6 +30,7 @@
     requires org.apache.causeway.commons;
     requires org.apache.causeway.core.config;
     requires org.apache.causeway.core.metamodel;
+    requires org.apache.causeway.security.api;
     requires org.apache.causeway.viewer.commons.applib;
     requires org.apache.logging.log4j;
     requires spring.beans;
@@ -19,6 +19,11 @@
 package org.apache.causeway.viewer.commons.services.menu;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -27,35 +32,54 @@
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.DomainServiceLayout;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.layout.menubars.MenuBars;
 import org.apache.causeway.applib.layout.menubars.bootstrap.BSMenuBar;
+import org.apache.causeway.applib.locale.UserLocale;
 import org.apache.causeway.applib.services.menu.MenuBarsService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.util.Facets;
+import org.apache.causeway.core.security.authorization.AuthorizationEvent;
 import org.apache.causeway.viewer.commons.applib.services.menu.MenuUiModel;
 import org.apache.causeway.viewer.commons.applib.services.menu.MenuUiService;
 import org.apache.causeway.viewer.commons.applib.services.menu.MenuVisitor;
 import org.apache.causeway.viewer.commons.services.CausewayModuleViewerCommonsServices;
+import org.apache.causeway.viewer.commons.services.menu._MenuItemBuilder.MenuEntry;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
-
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * If enabled (<code>causeway.viewer.common.application.menubars-caching</code>), caches the menu entries
+ * (as resolved from the menu bar layout) per menu bar, the user's roles and locale;
+ * only actions that might be hidden imperatively have their visibility evaluated on every request.
+ * <p>
+ * The cache is discarded whenever the menu bars are reloaded
+ * or on {@link AuthorizationEvent#PERMISSIONS_CHANGED}.
+ */
 @Service
 @Named(CausewayModuleViewerCommonsServices.NAMESPACE + ".MenuUiServiceDefault")
 @Priority(PriorityPrecedence.LATE)
 @Qualifier("Default")
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
 public class MenuUiServiceDefault
 implements MenuUiService {
 
     private final MetaModelContext metaModelContext;
     private final MenuBarsService menuBarsService;
 
+    private final AtomicReference<MenuEntriesCache> menuEntriesCacheRef = new AtomicReference<>();
+
     @Override
     public MenuUiModel getMenu(final DomainServiceLayout.MenuBar menuBarSelect) {
         return MenuUiModel.of(menuBarSelect, select(menuBarSelect));
@@ -67,17 +91,77 @@ public void buildMenuItems(
             final MenuVisitor menuBuilder) {
 
         val menuBars = menuBarsService.menuBars();
-        val menuBar = (BSMenuBar) menuBars.menuBarFor(menuUiModel.getMenuBarSelect());
+        val menuBarSelect = menuUiModel.getMenuBarSelect();
+
+        val menuEntries = isMenubarsCaching()
+                ? MenuEntriesKey.current(metaModelContext, menuBarSelect)
+                    .map(key -> menuEntriesCache(menuBars).getMenuEntriesByKey()
+                            .computeIfAbsent(key, __ -> resolveMenuEntries(menuBars, menuBarSelect)))
+                    .orElseGet(() -> resolveMenuEntries(menuBars, menuBarSelect))
+                : resolveMenuEntries(menuBars, menuBarSelect);
 
         _MenuItemBuilder.buildMenuItems(
                 metaModelContext,
-                menuBar,
+                menuEntries,
                 menuBuilder);
 
     }
 
+    @EventListener(AuthorizationEvent.class)
+    public void onAuthorizationEvent(final AuthorizationEvent event) {
+        if(event == AuthorizationEvent.PERMISSIONS_CHANGED) {
+            log.debug("permissions changed, discarding cached menus");
+            menuEntriesCacheRef.set(null);
+        }
+    }
+
     // -- HELPER
 
+    private boolean isMenubarsCaching() {
+        return metaModelContext.getConfiguration().getViewer().getCommon().getApplication().isMenubarsCaching();
+    }
+
+    /**
+     * Menu entries cached for a specific {@link MenuBars} instance; replaced as a whole, when the menu bars are
+     * (re-)loaded or permissions change, such that entries resolved concurrently end up in the discarded instance.
+     */
+    @Value(staticConstructor = "of")
+    private static class MenuEntriesCache {
+        MenuBars menuBars;
+        Map<MenuEntriesKey, Can<MenuEntry>> menuEntriesByKey = new ConcurrentHashMap<>();
+    }
+
+    private MenuEntriesCache menuEntriesCache(final MenuBars menuBars) {
+        return menuEntriesCacheRef.updateAndGet(cache -> cache != null
+                    && cache.getMenuBars() == menuBars
+                ? cache
+                : MenuEntriesCache.of(menuBars));
+    }
+
+    private Can<MenuEntry> resolveMenuEntries(
+            final MenuBars menuBars,
+            final DomainServiceLayout.MenuBar menuBarSelect) {
+        val menuBar = (BSMenuBar) menuBars.menuBarFor(menuBarSelect);
+        return _MenuItemBuilder.resolveMenuEntries(metaModelContext, menuBar);
+    }
+
+    @Value(staticConstructor = "of")
+    private static class MenuEntriesKey {
+        DomainServiceLayout.MenuBar menuBarSelect;
+        Set<String> roleNames;
+        UserLocale locale;
+
+        static Optional<MenuEntriesKey> current(
+                final MetaModelContext mmc,
+                final DomainServiceLayout.MenuBar menuBarSelect) {
+            return mmc.getInteractionService().currentInteractionContext()
+                    .map(interactionContext -> of(
+                            menuBarSelect,
+                            interactionContext.getUser().streamRoleNames().collect(Collectors.toSet()),
+                            interactionContext.getLocale()));
+        }
+    }
+
     private List<String> select(final DomainServiceLayout.MenuBar menuBarSelect) {
         return metaModelContext.streamServiceAdapters()
                 .filter(with(menuBarSelect))
@@ -21,42 +21,63 @@
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.events.domain.ActionDomainEvent;
 import org.apache.causeway.applib.layout.component.ServiceActionLayoutData;
 import org.apache.causeway.applib.layout.menubars.bootstrap.BSMenu;
 import org.apache.causeway.applib.layout.menubars.bootstrap.BSMenuBar;
 import org.apache.causeway.applib.layout.menubars.bootstrap.BSMenuSection;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.actions.action.invocation.ActionDomainEventFacet;
+import org.apache.causeway.core.metamodel.facets.members.hidden.method.HideForContextFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedAction;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.viewer.commons.applib.services.menu.MenuItemDto;
 import org.apache.causeway.viewer.commons.applib.services.menu.MenuVisitor;
 import org.apache.causeway.viewer.commons.services.userprof.UserProfileUiServiceDefault;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 final class _MenuItemBuilder {
 
-    public static void buildMenuItems(
-            final MetaModelContext mmc,
-            final BSMenuBar menuBar,
-            final MenuVisitor menuBuilder) {
+    /**
+     * A service action as resolved from the menu bar layout, that passed all visibility checks, other than
+     * imperative ones (if any).
+     */
+    @Value(staticConstructor = "of")
+    static class MenuEntry {
+        @NonNull BSMenu menu;
+        @NonNull BSMenuSection menuSection;
+        @NonNull ManagedObject serviceAdapter;
+        @NonNull ObjectAction objectAction;
+        @NonNull ServiceActionLayoutData actionLayoutData;
+        /**
+         * whether visibility needs to be checked on every request (as is the case with a supporting
+         * <code>hideXxx</code> method or a domain event, that subscribers might veto the action with)
+         */
+        boolean imperative;
+    }
 
-        val itemsPerSectionCounter = new LongAdder();
+    /**
+     * Resolves the service actions of given {@code menuBar}, evaluating all visibility checks that
+     * only depend on the current user's roles (and locale).
+     */
+    public static Can<MenuEntry> resolveMenuEntries(
+            final MetaModelContext mmc,
+            final BSMenuBar menuBar) {
 
-        val menuVisitor = MenuProcessor.of(mmc, menuBuilder);
+        val menuEntries = _Lists.<MenuEntry>newArrayList();
 
         for (val menu : menuBar.getMenus()) {
-
-            menuVisitor.addTopLevel(menu);
-
             for (val menuSection : menu.getSections()) {
-
-                itemsPerSectionCounter.reset();
-
                 for (val actionLayoutData : menuSection.getServiceActions()) {
                     val serviceBeanName = actionLayoutData.getLogicalTypeName();
 
@@ -76,19 +97,58 @@ public static void buildMenuItems(
                         continue;
                     }
 
-                    val visibilityVeto = managedAction.checkVisibility();
-                    if (visibilityVeto.isPresent()) {
+                    val imperative = isImperativelyHidable(managedAction.getAction());
+                    if (!imperative
+                            && managedAction.checkVisibility().isPresent()) {
                         continue;
                     }
 
-                    val isFirstInSection = itemsPerSectionCounter.intValue()==0;
+                    menuEntries.add(MenuEntry.of(
+                            menu, menuSection, serviceAdapter, managedAction.getAction(), actionLayoutData, imperative));
+                }
+            }
+        }
 
-                    menuVisitor.addSubMenu(menuSection, managedAction, isFirstInSection, actionLayoutData);
-                    itemsPerSectionCounter.increment();
+        return Can.ofCollection(menuEntries);
+    }
 
+    public static void buildMenuItems(
+            final MetaModelContext mmc,
+            final Can<MenuEntry> menuEntries,
+            final MenuVisitor menuBuilder) {
+
+        val itemsPerSectionCounter = new LongAdder();
+
+        val menuVisitor = MenuProcessor.of(mmc, menuBuilder);
+
+        BSMenu currentMenu = null;
+        BSMenuSection currentMenuSection = null;
+
+        for (val menuEntry : menuEntries) {
+
+            if(menuEntry.getMenu() != currentMenu) {
+                currentMenu = menuEntry.getMenu();
+                menuVisitor.addTopLevel(currentMenu);
+            }
+            if(menuEntry.getMenuSection() != currentMenuSection) {
+                currentMenuSection = menuEntry.getMenuSection();
+                itemsPerSectionCounter.reset();
+            }
+
+            val managedAction = ManagedAction
+                    .of(menuEntry.getServiceAdapter(), menuEntry.getObjectAction(), Where.EVERYWHERE);
+
+            if (menuEntry.isImperative()) {
+                val visibilityVeto = managedAction.checkVisibility();
+                if (visibilityVeto.isPresent()) {
+                    continue;
                 }
             }
 
+            val isFirstInSection = itemsPerSectionCounter.intValue()==0;
+
+            menuVisitor.addSubMenu(currentMenuSection, managedAction, isFirstInSection, menuEntry.getActionLayoutData());
+            itemsPerSectionCounter.increment();
         }
     }
 
@@ -148,6 +208,16 @@ public void addSubMenu(
 
     }
 
+    /**
+     * Whether visibility might be vetoed imperatively, that is by a supporting <code>hideXxx</code> method,
+     * or by subscribers of the action's domain event (which includes subscribers of
+     * {@link ActionDomainEvent.Default} or any supertype, hence any domain event that is posted at all counts).
+     */
+    static boolean isImperativelyHidable(final ObjectAction objectAction) {
+        return objectAction.containsFacet(HideForContextFacet.class)
+                || objectAction.containsFacet(ActionDomainEventFacet.class); // only present if posted
+    }
+
     /**
      * @implNote when ever the top level MenuItem name is empty or {@code null} we set the name
      * to the current user's profile name
@@ -177,7 +247,4 @@ private static String userProfileName(
         return userProfile.getUserProfileName();
     }
 
-
-
-
 }
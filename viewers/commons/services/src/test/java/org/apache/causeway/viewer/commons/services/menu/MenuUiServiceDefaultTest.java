@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.commons.services.menu;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.annotation.DomainServiceLayout;
+import org.apache.causeway.applib.layout.component.ServiceActionLayoutData;
+import org.apache.causeway.applib.layout.menubars.bootstrap.BSMenu;
+import org.apache.causeway.applib.layout.menubars.bootstrap.BSMenuBars;
+import org.apache.causeway.applib.layout.menubars.bootstrap.BSMenuSection;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.menu.MenuBarsService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facetapi.Facet;
+import org.apache.causeway.core.metamodel.facets.actions.action.invocation.ActionDomainEventFacet;
+import org.apache.causeway.core.metamodel.facets.members.hidden.method.HideForContextFacet;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.security.authorization.AuthorizationEvent;
+import org.apache.causeway.viewer.commons.applib.services.menu.MenuUiModel;
+import org.apache.causeway.viewer.commons.applib.services.menu.MenuVisitor;
+
+import lombok.val;
+
+class MenuUiServiceDefaultTest {
+
+    private static final String SERVICE_ID = "test.MenuService";
+
+    private CausewayConfiguration configuration;
+    private MetaModelContext mmc;
+    private MenuBarsService menuBarsService;
+    private MenuUiServiceDefault menuUiService;
+    private MenuUiModel menuUiModel;
+    private MenuVisitor menuVisitor;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new CausewayConfiguration(null);
+
+        val interactionService = mock(InteractionService.class);
+        when(interactionService.currentInteractionContext())
+            .thenReturn(Optional.of(InteractionContext.ofUserWithSystemDefaults(
+                    UserMemento.ofNameAndRoleNames("sven", "role1"))));
+
+        mmc = mock(MetaModelContext.class);
+        when(mmc.getConfiguration()).thenReturn(configuration);
+        when(mmc.getInteractionService()).thenReturn(interactionService);
+
+        menuBarsService = mock(MenuBarsService.class);
+        when(menuBarsService.menuBars()).thenReturn(menuBars());
+
+        menuUiService = new MenuUiServiceDefault(mmc, menuBarsService);
+        menuUiModel = MenuUiModel.of(DomainServiceLayout.MenuBar.PRIMARY, List.of());
+        menuVisitor = mock(MenuVisitor.class);
+    }
+
+    @Test
+    void whenCachingDisabled_shouldResolveOnEveryRequest() {
+        menuUiService.buildMenuItems(menuUiModel, menuVisitor);
+        menuUiService.buildMenuItems(menuUiModel, menuVisitor);
+
+        verify(mmc, times(2)).lookupServiceAdapterById(SERVICE_ID);
+    }
+
+    @Test
+    void whenCachingEnabled_shouldResolveOnlyOnce() {
+        enableCaching();
+
+        menuUiService.buildMenuItems(menuUiModel, menuVisitor);
+        menuUiService.buildMenuItems(menuUiModel, menuVisitor);
+
+        verify(mmc, times(1)).lookupServiceAdapterById(SERVICE_ID);
+    }
+
+    @Test
+    void whenCachingEnabled_shouldResolveAgain_onPermissionsChanged() {
+        enableCaching();
+
+        menuUiService.buildMenuItems(menuUiModel, menuVisitor);
+        menuUiService.onAuthorizationEvent(AuthorizationEvent.PERMISSIONS_CHANGED);
+        menuUiService.buildMenuItems(menuUiModel, menuVisitor);
+
+        verify(mmc, times(2)).lookupServiceAdapterById(SERVICE_ID);
+    }
+
+    @Test
+    void whenCachingEnabled_shouldResolveAgain_onMenuBarsReloaded() {
+        enableCaching();
+
+        menuUiService.buildMenuItems(menuUiModel, menuVisitor);
+        when(menuBarsService.menuBars()).thenReturn(menuBars());
+        menuUiService.buildMenuItems(menuUiModel, menuVisitor);
+
+        verify(mmc, times(2)).lookupServiceAdapterById(SERVICE_ID);
+    }
+
+    @Test
+    void actionsWithDomainEventOrHideMethod_shouldBeImperativelyHidable() {
+        assertTrue(_MenuItemBuilder.isImperativelyHidable(objectActionWith(ActionDomainEventFacet.class)));
+        assertTrue(_MenuItemBuilder.isImperativelyHidable(objectActionWith(HideForContextFacet.class)));
+        assertFalse(_MenuItemBuilder.isImperativelyHidable(objectActionWith(null)));
+    }
+
+    // -- HELPER
+
+    private void enableCaching() {
+        configuration.getViewer().getCommon().getApplication().setMenubarsCaching(true);
+    }
+
+    private static BSMenuBars menuBars() {
+        val menuSection = new BSMenuSection();
+        menuSection.getServiceActions().add(new ServiceActionLayoutData(SERVICE_ID, "act"));
+        val menu = new BSMenu();
+        menu.getSections().add(menuSection);
+        val menuBars = new BSMenuBars();
+        menuBars.getPrimary().getMenus().add(menu);
+        return menuBars;
+    }
+
+    private static ObjectAction objectActionWith(final Class<? extends Facet> facetType) {
+        val objectAction = mock(ObjectAction.class);
+        if(facetType!=null) {
+            when(objectAction.containsFacet(facetType)).thenReturn(true);
+        }
+        return objectAction;
+    }
+
+}
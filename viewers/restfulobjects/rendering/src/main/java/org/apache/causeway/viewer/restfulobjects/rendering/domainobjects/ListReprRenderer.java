@@ -30,6 +30,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonStreamingArray;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
@@ -100,28 +101,37 @@ private void addValue() {
             return;
         }
 
+        // followed elements are rendered up-front, as eager rendering is order dependent
+        if(resourceContext.config().isStreamingRendering()
+                && getLinkFollowSpecs().follow("value").isTerminated()) {
+            representation.mapPut("value", JsonStreamingArray.of(objectAdapters, this::renderElement));
+            return;
+        }
+
         final JsonRepresentation values = JsonRepresentation.newArray();
 
         objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPutJsonRepresentation("value", domainObject);
-            }
-        });
+        .forEach(adapter->values.arrayAdd(renderElement(adapter)));
 
         representation.mapPutJsonRepresentation("value", values);
     }
 
+    private JsonRepresentation renderElement(final ManagedObject adapter) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPutJsonRepresentation("value", domainObject);
+        }
+        return linkToObject;
+    }
+
 
     protected void addLinkToReturnType() {
         addLink(Rel.RETURN_TYPE, returnType);
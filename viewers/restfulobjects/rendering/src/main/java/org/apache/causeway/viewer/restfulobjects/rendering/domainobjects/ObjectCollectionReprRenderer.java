@@ -19,11 +19,14 @@
 package org.apache.causeway.viewer.restfulobjects.rendering.domainobjects;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
@@ -34,6 +37,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonStreamingArray;
 
 import lombok.val;
 
@@ -102,10 +106,7 @@ private void addValue(final LinkFollowSpecs linkFollower) {
                         && Facets.defaultViewIsTable(objectMember)
                         && resourceContext.canEagerlyRender(valueAdapter));
 
-        final List<JsonRepresentation> list = _Lists.newArrayList();
-
-        CollectionFacet.streamAdapters(valueAdapter)
-        .forEach(elementAdapter->{
+        final Function<ManagedObject, JsonRepresentation> elementRenderer = elementAdapter->{
             final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
                     .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
             if(eagerlyRender) {
@@ -118,9 +119,25 @@ private void addValue(final LinkFollowSpecs linkFollower) {
 
                 valueLinkBuilder.withValue(domainObjectReprRenderer.render());
             }
+            return valueLinkBuilder.build();
+        };
+
+        // eagerly rendered elements are rendered up-front, as eager rendering is order dependent;
+        // event serialization is rendered up-front, as it is not written to a response
+        if(resourceContext.config().isStreamingRendering()
+                && !eagerlyRender
+                && !mode.isEventSerialization()) {
+            final List<ManagedObject> elementAdapters = CollectionFacet.streamAdapters(valueAdapter)
+                    .collect(Collectors.toList());
+            representation.mapPut("value", JsonStreamingArray.of(elementAdapters, elementRenderer));
+            return;
+        }
+
+        final List<JsonRepresentation> list = _Lists.newArrayList();
 
-            list.add(valueLinkBuilder.build());
-        });
+        CollectionFacet.streamAdapters(valueAdapter)
+        .map(elementRenderer)
+        .forEach(list::add);
 
         representation.mapPut("value", list);
     }
@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A JSON array, whose elements are rendered one by one only while being written to the {@link JsonGenerator},
+ * such that at no time more than a single element's {@link JsonRepresentation} tree is held in memory.
+ * <p>
+ * To be put into a {@link JsonRepresentation} map (which wraps it in a POJO node), eg.
+ * <pre>representation.mapPut("value", JsonStreamingArray.of(elements, this::render))</pre>
+ * The JSON written is identical to that of the equivalent array of rendered elements, provided rendering an
+ * element has no side effects on the rendering of the remaining representation.
+ * <p>
+ * Rendering is deferred until the representation is written, hence must happen within the same interaction.
+ * Also, elements to be rendered in full (eagerly) must not be deferred, as
+ * {@code IResourceContext#canEagerlyRender(ManagedObject)} depends on the order of rendering.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class JsonStreamingArray<T> implements JsonSerializable {
+
+    private final @NonNull Iterable<T> elements;
+    private final @NonNull Function<T, JsonRepresentation> elementRenderer;
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        gen.writeStartArray();
+        for(final T element : elements) {
+            gen.writeTree(elementRenderer.apply(element).asJsonNode());
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        // no polymorphic type information involved
+        serialize(gen, serializers);
+    }
+
+}
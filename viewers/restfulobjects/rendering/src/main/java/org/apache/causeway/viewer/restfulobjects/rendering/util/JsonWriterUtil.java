@@ -20,6 +20,8 @@
 
 import java.io.IOException;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -39,6 +41,14 @@ public static String jsonFor(Object object, JsonMapper.PrettyPrinting prettyPrin
         }
     }
 
+    /**
+     * As per {@link #jsonFor(Object, JsonMapper.PrettyPrinting)}, however defers writing until the response
+     * entity is written, then writes directly to the response's output stream.
+     */
+    public static StreamingOutput streamingOutputFor(Object object, JsonMapper.PrettyPrinting prettyPrinting) {
+        return out->JsonMapper.instance(prettyPrinting).write(object, out);
+    }
+
     public static String jsonFor(Object object, @Nullable CausewaySystemEnvironment systemEnvironment) {
         val prettyPrinting = (systemEnvironment!=null && systemEnvironment.isPrototyping())
                 ? JsonMapper.PrettyPrinting.ENABLE
@@ -0,0 +1,84 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+
+import lombok.val;
+
+class JsonStreamingArrayTest {
+
+    @ParameterizedTest
+    @EnumSource(JsonMapper.PrettyPrinting.class)
+    void shouldWriteSameAsTree(final JsonMapper.PrettyPrinting prettyPrinting) throws Exception {
+        assertSameAsTree(List.of("a", "b", "c"), prettyPrinting);
+    }
+
+    @ParameterizedTest
+    @EnumSource(JsonMapper.PrettyPrinting.class)
+    void whenEmpty_shouldWriteSameAsTree(final JsonMapper.PrettyPrinting prettyPrinting) throws Exception {
+        assertSameAsTree(List.of(), prettyPrinting);
+    }
+
+    // -- HELPER
+
+    private static void assertSameAsTree(
+            final List<String> elements,
+            final JsonMapper.PrettyPrinting prettyPrinting) throws Exception {
+
+        val tree = representation();
+        val values = JsonRepresentation.newArray();
+        elements.forEach(element->values.arrayAdd(render(element)));
+        tree.mapPutJsonRepresentation("value", values);
+        tree.mapPutString("after", "z");
+
+        val streaming = representation();
+        streaming.mapPut("value", JsonStreamingArray.of(elements, JsonStreamingArrayTest::render));
+        streaming.mapPutString("after", "z");
+
+        val out = new ByteArrayOutputStream();
+        JsonMapper.instance(prettyPrinting).write(streaming, out);
+
+        assertEquals(
+                JsonWriterUtil.jsonFor(tree, prettyPrinting),
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static JsonRepresentation representation() {
+        return JsonRepresentation.newMap()
+                .mapPutString("before", "x");
+    }
+
+    private static JsonRepresentation render(final String element) {
+        return JsonRepresentation.newMap()
+                .mapPutString("href", "http://localhost/objects/" + element)
+                .mapPutInt("size", element.length());
+    }
+
+}
@@ -175,7 +175,9 @@ public Response object(
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                _ETags.evaluate(httpHeaders,
+                        _ETags.forDomainObject(resourceContext, objectAdapter),
+                        domainResourceHelper::objectRepresentation));
     }
 
 
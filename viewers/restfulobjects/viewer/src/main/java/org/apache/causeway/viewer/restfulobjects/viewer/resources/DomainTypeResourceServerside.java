@@ -97,12 +97,15 @@ public Response domainTypes() {
         val domainTypeSpecifications = getSpecificationLoader().snapshotSpecifications()
                 .filter(spec->spec.isEntityOrViewModel()); // concrete types only, no abstract types
 
-        final TypeListReprRenderer renderer =
-                new TypeListReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(domainTypeSpecifications).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/",
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                _ETags.evaluate(httpHeaders,
+                        _ETags.forMetamodel(resourceContext, "domainTypes", domainTypeSpecifications.stream()),
+                        ()->{
+                            final TypeListReprRenderer renderer =
+                                    new TypeListReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                            renderer.with(domainTypeSpecifications).includesSelf();
+                            return Responses.ofOk(renderer, Caching.ONE_DAY).build();
+                        }));
     }
 
     @Override
@@ -123,11 +126,14 @@ public Response domainType(
                     RestfulObjectsApplicationException.create(HttpStatusCode.NOT_FOUND));
         }
 
-        val renderer = new DomainTypeReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(objectSpec).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}", domainType,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                _ETags.evaluate(httpHeaders,
+                        _ETags.forMetamodel(resourceContext, "domainType", objectSpec),
+                        ()->{
+                            val renderer = new DomainTypeReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                            renderer.with(objectSpec).includesSelf();
+                            return Responses.ofOk(renderer, Caching.ONE_DAY).build();
+                        }));
     }
 
     @Override
@@ -145,16 +151,17 @@ public Response layout(
 
         val serializationStrategy = resourceContext.getSerializationStrategy();
 
-        val responseBuilder = getSpecificationLoader().specForLogicalTypeName(domainType)
-                .map(Facets::bootstrapGrid)
-                .map(grid ->
-                        Response.status(Response.Status.OK)
-                                .entity(serializationStrategy.entity(grid))
-                                .type(serializationStrategy.type(RepresentationType.LAYOUT)))
-                .orElse(Responses.ofNotFound());
+        val response = getSpecificationLoader().specForLogicalTypeName(domainType)
+                .map(objectSpec->_ETags.evaluate(httpHeaders,
+                        _ETags.forMetamodel(resourceContext, "layout", objectSpec),
+                        ()->Response.status(Response.Status.OK)
+                                .entity(serializationStrategy.entity(Facets.bootstrapGrid(objectSpec)))
+                                .type(serializationStrategy.type(RepresentationType.LAYOUT))
+                                .build()))
+                .orElseGet(()->Responses.ofNotFound().build());
 
         return _EndpointLogging.response(log, "GET({}) /domain-types/{}/layout", serializationStrategy.name(), domainType,
-                responseBuilder.build());
+                response);
     }
 
     @Override
@@ -187,11 +194,14 @@ public Response typeProperty(
         }
         final OneToOneAssociation property = (OneToOneAssociation) objectMember;
 
-        final PropertyDescriptionReprRenderer renderer = new PropertyDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(new ParentSpecAndProperty(parentSpec, property)).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}/properties/{}", domainType, propertyId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                _ETags.evaluate(httpHeaders,
+                        _ETags.forMetamodel(resourceContext, "typeProperty:" + propertyId, parentSpec),
+                        ()->{
+                            final PropertyDescriptionReprRenderer renderer = new PropertyDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                            renderer.with(new ParentSpecAndProperty(parentSpec, property)).includesSelf();
+                            return Responses.ofOk(renderer, Caching.ONE_DAY).build();
+                        }));
     }
 
     @Override
@@ -224,11 +234,14 @@ public Response typeCollection(
         }
         final OneToManyAssociation collection = (OneToManyAssociation) objectMember;
 
-        final CollectionDescriptionReprRenderer renderer = new CollectionDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(new ParentSpecAndCollection(parentSpec, collection)).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}/collections/{}", domainType, collectionId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                _ETags.evaluate(httpHeaders,
+                        _ETags.forMetamodel(resourceContext, "typeCollection:" + collectionId, parentSpec),
+                        ()->{
+                            final CollectionDescriptionReprRenderer renderer = new CollectionDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                            renderer.with(new ParentSpecAndCollection(parentSpec, collection)).includesSelf();
+                            return Responses.ofOk(renderer, Caching.ONE_DAY).build();
+                        }));
     }
 
     @Override
@@ -254,11 +267,14 @@ public Response typeAction(
                 .orElseThrow(()->_EndpointLogging.error(log, "GET /domain-types/{}/actions/{}", domainType, actionId,
                         RestfulObjectsApplicationException.create(HttpStatusCode.NOT_FOUND)));
 
-        final ActionDescriptionReprRenderer renderer = new ActionDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(new ParentSpecAndAction(parentSpec, action)).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}/actions/{}", domainType, actionId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                _ETags.evaluate(httpHeaders,
+                        _ETags.forMetamodel(resourceContext, "typeAction:" + actionId, parentSpec),
+                        ()->{
+                            final ActionDescriptionReprRenderer renderer = new ActionDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                            renderer.with(new ParentSpecAndAction(parentSpec, action)).includesSelf();
+                            return Responses.ofOk(renderer, Caching.ONE_DAY).build();
+                        }));
     }
 
     @Override
@@ -287,11 +303,14 @@ public Response typeActionParam(
 
         final ObjectActionParameter actionParam = parentAction.getParameterByName(paramName);
 
-        final ActionParameterDescriptionReprRenderer renderer = new ActionParameterDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(new ParentSpecAndActionParam(parentSpec, actionParam)).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}/actions/{}/params/{}", domainType, actionId, paramName,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                _ETags.evaluate(httpHeaders,
+                        _ETags.forMetamodel(resourceContext, "typeActionParam:" + actionId + ":" + paramName, parentSpec),
+                        ()->{
+                            final ActionParameterDescriptionReprRenderer renderer = new ActionParameterDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                            renderer.with(new ParentSpecAndActionParam(parentSpec, actionParam)).includesSelf();
+                            return Responses.ofOk(renderer, Caching.ONE_DAY).build();
+                        }));
     }
 
     // //////////////////////////////////////////////////////////
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
+import java.util.stream.Stream;
+
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -61,11 +63,14 @@ public Response homePage() {
         val resourceContext = createResourceContext(
                 RepresentationType.HOME_PAGE, Where.NOWHERE, RepresentationService.Intent.NOT_APPLICABLE);
 
-        val homePageReprRenderer = new HomePageReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        homePageReprRenderer.includesSelf();
-
         return _EndpointLogging.response(log, "GET /",
-                Responses.ofOk(homePageReprRenderer, Caching.ONE_DAY).build());
+                _ETags.evaluate(httpHeaders,
+                        _ETags.forMetamodel(resourceContext, "homePage", Stream.empty()),
+                        ()->{
+                            val homePageReprRenderer = new HomePageReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                            homePageReprRenderer.includesSelf();
+                            return Responses.ofOk(homePageReprRenderer, Caching.ONE_DAY).build();
+                        }));
     }
 
     @Override
@@ -22,12 +22,15 @@
 import java.util.regex.Pattern;
 
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse;
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+import org.apache.causeway.viewer.restfulobjects.rendering.UrlDecoderUtils;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender.JsonValueEncoderService;
 import org.apache.causeway.viewer.restfulobjects.rendering.util.Util;
 
@@ -142,6 +145,56 @@ ManagedObject objectAdapterFor(final JsonRepresentation argRepr) {
         return objectAdapter;
     }
 
+    /**
+     * Variant of {@link #objectAdapterFor(JsonRepresentation)} for plural arguments,
+     * where the 'value' is a list of values or links.
+     * <p>
+     * Referenced objects are fetched in bulk, that is with a single query per entity type.
+     *
+     * @param argRepr
+     *            - expected to be a Map, with its 'value' being a List
+     */
+    Can<ManagedObject> objectAdaptersFor(final JsonRepresentation argRepr) {
+
+        if(!argRepr.isArray("value")) {
+            String reason = "Expected a list as 'value'";
+            argRepr.mapPutString("invalidReason", reason);
+            throw new IllegalArgumentException(reason);
+        }
+
+        val elementReprs = argRepr.getRepresentation("value").streamArrayElements()
+                .collect(Can.toCan());
+
+        // value (encodable)
+        if (objectSpec.isValue()) {
+            return elementReprs.map(elementRepr->
+                jsonValueEncoder.asAdapter(objectSpec, elementRepr, null));
+        }
+
+        // references
+        val bookmarks = elementReprs.map(elementRepr->{
+            final String oidFromHref = elementRepr.isLink()
+                    ? encodedOidFromLink(elementRepr)
+                    : null;
+            if (oidFromHref == null) {
+                final String reason = "Expected a list of links (because this object's type is not a value), "
+                        + "but found an element with no parseable 'href'";
+                argRepr.mapPutString("invalidReason", reason);
+                throw new IllegalArgumentException(reason);
+            }
+            return Bookmark.parseElseFail(UrlDecoderUtils.urlDecode(oidFromHref));
+        });
+
+        val objectAdapters = resourceContext.getMetaModelContext().getObjectManager()
+                .loadObjects(bookmarks);
+        if(objectAdapters.stream().anyMatch(ManagedObjects::isNullOrUnspecifiedOrEmpty)) {
+            val reason = "'href' does not reference a known entity";
+            argRepr.mapPutString("invalidReason", reason);
+            throw new IllegalArgumentException(reason);
+        }
+        return objectAdapters;
+    }
+
     static String encodedOidFromLink(final JsonRepresentation link) {
         final String href = link.getString("href");
 
@@ -32,6 +32,7 @@
 import org.apache.causeway.applib.layout.links.Link;
 import org.apache.causeway.applib.layout.menubars.MenuBars;
 import org.apache.causeway.applib.services.menu.MenuBarsService;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.viewer.restfulobjects.applib.Rel;
 import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulMediaType;
@@ -68,15 +69,21 @@ public Response menuBars() {
         val serializationStrategy = resourceContext.getSerializationStrategy();
         val menuBarsService = metaModelContext.getServiceRegistry().lookupServiceElseFail(MenuBarsService.class);
 
-        final Response.ResponseBuilder builder;
-        final MenuBars menuBars = menuBarsService.menuBars();
-        addLinksForServiceActions(resourceContext, menuBars);
-
-        builder = Response.status(Response.Status.OK)
-                .entity(serializationStrategy.entity(menuBars))
-                .type(serializationStrategy.type(RepresentationType.MENUBARS));
-
-        return builder.build();
+        val domainServiceSpecs = getSpecificationLoader().snapshotSpecifications()
+                .filter(ObjectSpecification::isInjectable);
+
+        return _ETags.evaluate(httpHeaders,
+                _ETags.forMetamodel(resourceContext, "menuBars",
+                        domainServiceSpecs.stream()),
+                ()->{
+                    final MenuBars menuBars = menuBarsService.menuBars();
+                    addLinksForServiceActions(resourceContext, menuBars);
+
+                    return Response.status(Response.Status.OK)
+                            .entity(serializationStrategy.entity(menuBars))
+                            .type(serializationStrategy.type(RepresentationType.MENUBARS))
+                            .build();
+                });
     }
 
     void addLinksForServiceActions(final ResourceContext resourceContext, final MenuBars menuBars) {
@@ -62,12 +62,19 @@ public static Can<Railway<InteractionVeto, ManagedObject>> parseArguments(
             val tryArgument = (paramMeta.isOptional()
                     && argRepr == null)
                     ? Try.success(ManagedObject.empty(paramSpec))
-                    : Try.call(()->
-                        new JsonParserHelper(resourceContext, paramSpec)
-                            .objectAdapterFor(argRepr))
-                        .mapSuccess(success->success!=null
-                                ? success
-                                : ManagedObject.empty(paramSpec));
+                    : paramMeta.isPlural()
+                        && argRepr != null
+                        && argRepr.isArray("value")
+                        ? Try.<ManagedObject>call(()->
+                            ManagedObject.packed(paramSpec,
+                                    new JsonParserHelper(resourceContext, paramSpec)
+                                        .objectAdaptersFor(argRepr)))
+                        : Try.call(()->
+                            new JsonParserHelper(resourceContext, paramSpec)
+                                .objectAdapterFor(argRepr))
+                            .mapSuccess(success->success!=null
+                                    ? success
+                                    : ManagedObject.empty(paramSpec));
 
             val objectOrVeto = tryArgument.<Railway<InteractionVeto, ManagedObject>>fold(
                     exception->Railway.failure(
@@ -0,0 +1,231 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.hash._Hashes;
+import org.apache.causeway.core.config.CausewayConfiguration.Viewer.Restfulobjects.EtagPolicy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectFeature;
+import org.apache.causeway.viewer.restfulobjects.viewer.context.ResourceContext;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Computes weak entity tags and evaluates <code>If-None-Match</code> conditional requests,
+ * as governed by {@link EtagPolicy}.
+ * <p>
+ * Entity tags are derived from the request's user (including roles), locale, time zone,
+ * the acceptable media types and the query string, combined with either a fingerprint of the
+ * metamodel (for metamodel resources) or an entity's version (for domain object resources).
+ */
+@UtilityClass
+class _ETags {
+
+    /**
+     * Fingerprints of the metamodel, per {@link ObjectSpecification}.
+     */
+    private final Map<ObjectSpecification, String> fingerprintBySpec =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // -- METAMODEL
+
+    /**
+     * Weak {@link EntityTag} for a metamodel resource, based on given {@code specs}, or empty if
+     * disabled by policy.
+     * <p>
+     * Always empty when prototyping, as layouts may then be reloaded at runtime.
+     */
+    Optional<EntityTag> forMetamodel(
+            final @NonNull ResourceContext resourceContext,
+            final @NonNull String resourceName,
+            final @NonNull Stream<ObjectSpecification> specs) {
+        if(!policy(resourceContext).isMetamodel()
+                || resourceContext.getMetaModelContext().getSystemEnvironment().isPrototyping()) {
+            return Optional.empty();
+        }
+        val specFingerprints = specs
+                .map(_ETags::fingerprint)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return Optional.of(entityTag(resourceContext, resourceName, specFingerprints));
+    }
+
+    /**
+     * Weak {@link EntityTag} for a metamodel resource, based on given {@code spec}, or empty if
+     * disabled by policy.
+     */
+    Optional<EntityTag> forMetamodel(
+            final @NonNull ResourceContext resourceContext,
+            final @NonNull String resourceName,
+            final @NonNull ObjectSpecification spec) {
+        return forMetamodel(resourceContext, resourceName, Stream.of(spec));
+    }
+
+    // -- DOMAIN OBJECT
+
+    /**
+     * Weak {@link EntityTag} for a domain object resource, based on the entity's version,
+     * or empty if disabled by policy or the object is not a versioned entity.
+     */
+    Optional<EntityTag> forDomainObject(
+            final @NonNull ResourceContext resourceContext,
+            final @NonNull ManagedObject domainObject) {
+        if(!policy(resourceContext).isDomainObjects()) {
+            return Optional.empty();
+        }
+        val spec = domainObject.getSpecification();
+        return spec.entityFacet()
+                .flatMap(entityFacet->entityFacet.versionOf(domainObject.getPojo()))
+                .flatMap(version->ManagedObjects.bookmark(domainObject)
+                        .map(bookmark->entityTag(resourceContext,
+                                bookmark.stringify() + "@" + version,
+                                fingerprint(spec))));
+    }
+
+    // -- CONDITIONAL REQUESTS
+
+    /**
+     * If given {@code eTag} matches the request's <code>If-None-Match</code> header, returns a
+     * <i>Not Modified</i> response, otherwise renders the response using given supplier and tags it.
+     */
+    Response evaluate(
+            final @NonNull HttpHeaders httpHeaders,
+            final @NonNull Optional<EntityTag> eTagIfAny,
+            final @NonNull Supplier<Response> responseSupplier) {
+        if(eTagIfAny.isEmpty()) {
+            return responseSupplier.get();
+        }
+        val eTag = eTagIfAny.get();
+        if(matchesAny(httpHeaders.getRequestHeaders().get(HttpHeaders.IF_NONE_MATCH), eTag.getValue())) {
+            return Response.notModified(eTag).build();
+        }
+        return Response.fromResponse(responseSupplier.get())
+                .tag(eTag)
+                .build();
+    }
+
+    /**
+     * Whether any of the given <code>If-None-Match</code> header values matches given (unquoted)
+     * entity tag value, using weak comparison.
+     */
+    boolean matchesAny(final @Nullable Iterable<String> ifNoneMatchHeaders, final @NonNull String eTagValue) {
+        if(ifNoneMatchHeaders==null) {
+            return false;
+        }
+        for(val header : ifNoneMatchHeaders) {
+            if(header==null) {
+                continue;
+            }
+            for(val candidate : header.split(",")) {
+                val trimmed = candidate.trim();
+                if(trimmed.equals("*")) {
+                    return true;
+                }
+                val opaqueTag = trimmed.startsWith("W/")
+                        ? trimmed.substring(2)
+                        : trimmed;
+                if(opaqueTag.equals("\"" + eTagValue + "\"")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // -- HELPER
+
+    private EtagPolicy policy(final ResourceContext resourceContext) {
+        return resourceContext.getMetaModelContext().getConfiguration()
+                .getViewer().getRestfulobjects().getEtagPolicy();
+    }
+
+    private EntityTag entityTag(
+            final ResourceContext resourceContext,
+            final String resourceName,
+            final String resourceFingerprint) {
+
+        val interactionContext = resourceContext.getMetaModelContext().getInteractionService()
+                .currentInteractionContext();
+
+        val digestInput = String.join("|",
+                resourceName,
+                resourceFingerprint,
+                interactionContext.map(_ETags::userFingerprint).orElse(""),
+                resourceContext.getAcceptableMediaTypes().toString(),
+                _Strings.nullToEmpty(resourceContext.getUrlUnencodedQueryString()));
+
+        val digest = _Hashes.digest(_Hashes.Algorithm.MD5, digestInput.getBytes(StandardCharsets.UTF_8))
+                .map(bytes->new BigInteger(1, bytes).toString(16))
+                .orElse(digestInput);
+
+        return new EntityTag(digest, true);
+    }
+
+    private String userFingerprint(final InteractionContext interactionContext) {
+        val user = interactionContext.getUser();
+        return String.join(";",
+                user.getName(),
+                _Strings.nullToEmpty(user.getMultiTenancyToken()),
+                user.streamRoleNames().sorted().collect(Collectors.joining(",")),
+                interactionContext.getLocale().toString(),
+                interactionContext.getTimeZone().getId());
+    }
+
+    private String fingerprint(final ObjectSpecification spec) {
+        return fingerprintBySpec.computeIfAbsent(spec, _ETags::computeFingerprint);
+    }
+
+    private String computeFingerprint(final ObjectSpecification spec) {
+        return Stream.concat(
+                    spec.streamAssociations(MixedIn.INCLUDED),
+                    spec.streamAnyActions(MixedIn.INCLUDED))
+                .map(_ETags::fingerprint)
+                .collect(Collectors.joining(",", spec.getLogicalTypeName() + "[", "]"));
+    }
+
+    private String fingerprint(final ObjectFeature feature) {
+        return feature.getFeatureIdentifier().getFullIdentityString()
+                + ":" + feature.getCanonicalFriendlyName()
+                + ":" + feature.getCanonicalDescription().orElse("");
+    }
+
+}
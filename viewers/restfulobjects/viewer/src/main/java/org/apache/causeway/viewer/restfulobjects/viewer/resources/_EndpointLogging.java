@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.apache.logging.log4j.Logger;
 
@@ -188,6 +189,9 @@ private void logResponse(final Logger log, final Response response) {
             log.debug(dto);
         } else if(_Collections.isAnyCollectionOrArrayType(dto.getClass())){
             log.debug("non-scalar content of type {}", dto.getClass());
+        } else if(dto instanceof StreamingOutput){
+            // not rendered here, as can only be written once (directly to the client)
+            log.debug("streamed content of type {}", dto.getClass());
         } else {
             val xmlResult = _Xml.writeXml(dto, WriteOptions.builder().allowMissingRootElement(true).build());
             xmlResult
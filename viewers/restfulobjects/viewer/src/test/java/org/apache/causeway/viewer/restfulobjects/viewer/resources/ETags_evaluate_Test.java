@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import lombok.val;
+
+class ETags_evaluate_Test {
+
+    private final EntityTag eTag = new EntityTag("abc", true);
+
+    private MultivaluedHashMap<String, String> requestHeaders;
+    private HttpHeaders httpHeaders;
+    private AtomicInteger renderCount;
+
+    @BeforeEach
+    void setUp() {
+        requestHeaders = new MultivaluedHashMap<>();
+        httpHeaders = mock(HttpHeaders.class);
+        when(httpHeaders.getRequestHeaders()).thenReturn(requestHeaders);
+        renderCount = new AtomicInteger();
+    }
+
+    @Test
+    void whenMatchingIfNoneMatch_shouldAnswerNotModified_withoutRendering() {
+        requestHeaders.add(HttpHeaders.IF_NONE_MATCH, "W/\"abc\"");
+
+        val response = _ETags.evaluate(httpHeaders, Optional.of(eTag), this::render);
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(eTag, response.getEntityTag());
+        assertEquals(0, renderCount.get());
+    }
+
+    @Test
+    void whenOtherIfNoneMatch_shouldRender_andTag() {
+        requestHeaders.add(HttpHeaders.IF_NONE_MATCH, "W/\"xyz\"");
+
+        val response = _ETags.evaluate(httpHeaders, Optional.of(eTag), this::render);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(eTag, response.getEntityTag());
+        assertEquals("representation", response.getEntity());
+        assertEquals(1, renderCount.get());
+    }
+
+    @Test
+    void whenNoIfNoneMatch_shouldRender_andTag() {
+        val response = _ETags.evaluate(httpHeaders, Optional.of(eTag), this::render);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(eTag, response.getEntityTag());
+        assertEquals(1, renderCount.get());
+    }
+
+    @Test
+    void whenDisabled_shouldRender_withoutTag() {
+        requestHeaders.add(HttpHeaders.IF_NONE_MATCH, "*");
+
+        val response = _ETags.evaluate(httpHeaders, Optional.empty(), this::render);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertNull(response.getEntityTag());
+        assertEquals(1, renderCount.get());
+    }
+
+    // -- HELPER
+
+    private Response render() {
+        renderCount.incrementAndGet();
+        return Response.ok("representation").build();
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ETags_matchesAny_Test {
+
+    private final String eTag = "abc";
+
+    @Test
+    void whenNoHeader() {
+        assertFalse(_ETags.matchesAny(null, eTag));
+        assertFalse(_ETags.matchesAny(List.of(), eTag));
+    }
+
+    @Test
+    void whenWeakOrStrong_shouldMatchUsingWeakComparison() {
+        assertTrue(_ETags.matchesAny(List.of("W/\"abc\""), eTag));
+        assertTrue(_ETags.matchesAny(List.of("\"abc\""), eTag));
+    }
+
+    @Test
+    void whenAnyOfList() {
+        assertTrue(_ETags.matchesAny(List.of("\"xyz\", W/\"abc\""), eTag));
+        assertTrue(_ETags.matchesAny(List.of("\"xyz\"", "W/\"abc\""), eTag));
+    }
+
+    @Test
+    void whenWildcard() {
+        assertTrue(_ETags.matchesAny(List.of("*"), eTag));
+    }
+
+    @Test
+    void whenOther() {
+        assertFalse(_ETags.matchesAny(List.of("W/\"xyz\""), eTag));
+        assertFalse(_ETags.matchesAny(List.of("abc"), eTag));
+    }
+
+}
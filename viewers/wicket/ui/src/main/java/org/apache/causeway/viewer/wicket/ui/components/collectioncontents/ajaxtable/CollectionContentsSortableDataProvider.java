@@ -26,10 +26,8 @@
 import org.apache.wicket.extensions.markup.html.repeater.util.SortableDataProvider;
 import org.apache.wicket.model.IModel;
 
-import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataRow;
 import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataTableModel;
-import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.viewer.wicket.model.models.EntityCollectionModelAbstract;
 import org.apache.causeway.viewer.wicket.model.models.interaction.coll.DataRowWkt;
@@ -68,22 +66,16 @@ public long size() {
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        val visibleRows = getDataTableModel().getDataRowsFiltered().getValue();
-        return sorted(visibleRows).iterator(Math.toIntExact(skip), Math.toIntExact(limit));
-    }
-
-    // -- HELPER
-
-    private Can<DataRow> sorted(final Can<DataRow> dataRows) {
         val sort = getSort();
         val sortProperty = lookupPropertyFor(sort).orElse(null);
-        if(sortProperty != null) {
-            val objComparator = ManagedObjects.orderingBy(sortProperty, sort.isAscending());
-            return dataRows.sorted((a, b)->objComparator.compare(a.getRowElement(), b.getRowElement()));
-        }
-        return dataRows;
+        // sorting is memoized by the model, so page flips don't re-sort
+        val visibleRows = getDataTableModel()
+                .getDataRowsFilteredAndSorted(sortProperty, sortProperty!=null && sort.isAscending());
+        return visibleRows.iterator(Math.toIntExact(skip), Math.toIntExact(limit));
     }
 
+    // -- HELPER
+
     private Optional<OneToOneAssociation> lookupPropertyFor(final SortParam<String> sort) {
         return Optional.ofNullable(sort)
         .map(SortParam::getProperty)
@@ -56,7 +56,11 @@ protected CausewayBlobOrClobPanelAbstract(final String id, final ScalarModel sca
     }
 
     protected abstract IModel<List<FileUpload>> fileUploadModel();
-    protected abstract IResource newResource(final T namedWithMimeType);
+    /**
+     * @param namedWithMimeTypeModel - the (non-null) {@link Blob} or {@link Clob}; resources are encouraged to
+     * resolve it only once actually requested
+     */
+    protected abstract IResource newResource(final IModel<T> namedWithMimeTypeModel);
 
 
     // -- INPUT FORMAT
@@ -108,7 +112,7 @@ private Optional<T> getBlobOrClobFromModel() {
 
     private Component createDownloadLink(final String id, final IModel<String> labelModel) {
         return getBlobOrClobFromModel()
-        .map(this::newResource)
+        .map(__->newResource(unwrapped))
         .map(resource->(MarkupContainer)Wkt.downloadLinkNoCache(id, resource))
         .<Component>map(linkContainer->{
             WktTooltips.addTooltip(linkContainer, translate("Download file"));
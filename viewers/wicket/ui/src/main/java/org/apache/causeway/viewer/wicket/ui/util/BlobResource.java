@@ -0,0 +1,217 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.ui.util;
+
+import java.io.ByteArrayInputStream;
+import java.lang.ref.SoftReference;
+import java.math.BigInteger;
+
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.request.http.WebRequest;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.request.resource.AbstractResource;
+import org.apache.wicket.request.resource.ByteArrayResource;
+import org.apache.wicket.request.resource.ContentDisposition;
+import org.apache.wicket.request.resource.PartWriterCallback;
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.commons.internal.hash._Hashes;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Serves a {@link Blob}, as provided by a model that is only asked for the {@link Blob}
+ * once the resource is actually requested.
+ * <p>
+ * Unlike Wicket's {@link ByteArrayResource}, the blob's bytes are therefore not held on to by the
+ * resource (and in turn by the page store), for as long as the page (with its download link) lives.
+ * <p>
+ * Supports HTTP <code>Range</code> requests, responding with <i>206 Partial Content</i>,
+ * such that clients (eg. pdf.js) may fetch large documents incrementally.
+ * Range requests are served from the content materialized by the most recent request (if still
+ * softly reachable), rather than asking the model for the {@link Blob} over and over again.
+ * The content's hash is sent as <code>ETag</code>, which is honored when sent back as <code>If-Range</code>:
+ * if it does not match, the full content is served instead of the requested range.
+ *
+ * @since 2.0
+ */
+public class BlobResource extends AbstractResource {
+
+    private static final long serialVersionUID = 1L;
+
+    private final IModel<Blob> blobModel;
+    private String contentType;
+    private boolean includeFileName = true;
+    private ContentDisposition contentDisposition = ContentDisposition.INLINE;
+    private boolean cachingDisabled;
+
+    /**
+     * Content as materialized by the most recent request, to be reused by subsequent range requests.
+     */
+    private transient SoftReference<Content> contentRef;
+
+    public static BlobResource of(final @NonNull IModel<Blob> blobModel) {
+        return new BlobResource(blobModel);
+    }
+
+    protected BlobResource(final @NonNull IModel<Blob> blobModel) {
+        this.blobModel = blobModel;
+    }
+
+    // -- OPTIONS
+
+    /**
+     * Overrides the content type, which otherwise is the {@link Blob}'s MIME base type.
+     */
+    public BlobResource withContentType(final @Nullable String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    /**
+     * Whether to send the {@link Blob}'s name as the file name (on by default).
+     */
+    public BlobResource withFileName(final boolean includeFileName) {
+        this.includeFileName = includeFileName;
+        return this;
+    }
+
+    public BlobResource withContentDisposition(final @NonNull ContentDisposition contentDisposition) {
+        this.contentDisposition = contentDisposition;
+        return this;
+    }
+
+    public BlobResource withCachingDisabled() {
+        this.cachingDisabled = true;
+        return this;
+    }
+
+    // -- RESPONSE
+
+    @Override
+    protected ResourceResponse newResourceResponse(final Attributes attributes) {
+        val response = new ResourceResponse();
+
+        // range (if any) as parsed by AbstractResource from the request's 'Range' header
+        val requestCycle = RequestCycle.get();
+        val isRangeRequest = requestCycle.getMetaData(CONTENT_RANGE_STARTBYTE) != null;
+
+        val content = isRangeRequest
+                ? cachedContentElseLoad()
+                : loadContent();
+        if(content == null) {
+            response.setError(404);
+            return response;
+        }
+
+        if(isRangeRequest
+                && !content.isMatchedBy(ifRange(attributes))) {
+            // validator does not match, so serve the full content instead
+            requestCycle.setMetaData(CONTENT_RANGE_STARTBYTE, null);
+            requestCycle.setMetaData(CONTENT_RANGE_ENDBYTE, null);
+        }
+
+        val blob = content.blob;
+        val bytes = content.bytes;
+
+        response.setContentType(contentType != null
+                ? contentType
+                : blob.getMimeType().getBaseType());
+        if(includeFileName) {
+            response.setFileName(blob.getName());
+        }
+        response.setContentDisposition(contentDisposition);
+        response.setContentLength(bytes.length);
+        response.setAcceptRange(ContentRangeType.BYTES);
+        response.getHeaders().setHeader("ETag", content.etag);
+        if(cachingDisabled) {
+            response.disableCaching();
+        }
+
+        response.setWriteCallback(
+                new PartWriterCallback(
+                        new ByteArrayInputStream(bytes),
+                        (long) bytes.length,
+                        requestCycle.getMetaData(CONTENT_RANGE_STARTBYTE),
+                        requestCycle.getMetaData(CONTENT_RANGE_ENDBYTE))
+                .setClose(true));
+
+        return response;
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static class Content {
+        final Blob blob;
+        final byte[] bytes;
+        final String etag;
+
+        static Content of(final Blob blob) {
+            val bytes = blob.getBytes() != null
+                    ? blob.getBytes()
+                    : new byte[0];
+            val etag = _Hashes.digest(_Hashes.Algorithm.SHA256, bytes)
+                    .map(hash->new BigInteger(1, hash).toString(16))
+                    .orElseGet(()->Integer.toHexString(blob.hashCode()));
+            return new Content(blob, bytes, "\"" + etag + "\"");
+        }
+
+        /**
+         * An absent <code>If-Range</code> header always matches.
+         */
+        boolean isMatchedBy(final @Nullable String ifRange) {
+            return ifRange == null
+                    || etag.equals(ifRange);
+        }
+    }
+
+    @Nullable
+    private Content loadContent() {
+        val blob = blobModel.getObject();
+        if(blob == null) {
+            contentRef = null;
+            return null;
+        }
+        val content = Content.of(blob);
+        contentRef = new SoftReference<>(content);
+        return content;
+    }
+
+    @Nullable
+    private Content cachedContentElseLoad() {
+        val content = contentRef != null
+                ? contentRef.get()
+                : null;
+        return content != null
+                ? content
+                : loadContent();
+    }
+
+    @Nullable
+    private static String ifRange(final Attributes attributes) {
+        return attributes.getRequest() instanceof WebRequest
+                ? ((WebRequest) attributes.getRequest()).getHeader("If-Range")
+                : null;
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.ui.test.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.wicket.util.tester.WicketTester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.viewer.wicket.ui.util.BlobResource;
+
+import lombok.val;
+
+class BlobResourceTest {
+
+    private WicketTester tester;
+    private final Blob blob = Blob.of("sample", CommonMimeType.PDF, "0123456789".getBytes(StandardCharsets.US_ASCII));
+
+    @BeforeEach
+    void setUp() {
+        tester = new WicketTester();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tester.destroy();
+    }
+
+    @Test
+    void whenNoRange_shouldServeAll() {
+        tester.startResource(BlobResource.of(()->blob));
+
+        val response = tester.getLastResponse();
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeader("Accept-Range")); // as named by Wicket
+        assertEquals("application/pdf", response.getContentType());
+        assertArrayEquals(blob.getBytes(), response.getBinaryContent());
+    }
+
+    @Test
+    void whenRange_shouldServePartialContent() {
+        tester.getRequest().setHeader("range", "bytes=2-5"); // the mock request's header lookup is case-sensitive
+        tester.startResource(BlobResource.of(()->blob));
+
+        val response = tester.getLastResponse();
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-5/10", response.getHeader("Content-Range"));
+        assertArrayEquals("2345".getBytes(StandardCharsets.US_ASCII), response.getBinaryContent());
+    }
+
+    @Test
+    void whenRange_shouldReuseContentOfPreviousRequest() {
+        val loadCount = new AtomicInteger();
+        val resource = BlobResource.of(()->{
+            loadCount.incrementAndGet();
+            return blob;
+        });
+
+        tester.startResource(resource);
+        val etag = tester.getLastResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        tester.getRequest().setHeader("range", "bytes=2-5");
+        tester.getRequest().setHeader("If-Range", etag);
+        tester.startResource(resource);
+
+        val response = tester.getLastResponse();
+        assertEquals(206, response.getStatus());
+        assertArrayEquals("2345".getBytes(StandardCharsets.US_ASCII), response.getBinaryContent());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void whenIfRangeDoesNotMatch_shouldServeAll() {
+        tester.getRequest().setHeader("range", "bytes=2-5");
+        tester.getRequest().setHeader("If-Range", "\"outdated\"");
+        tester.startResource(BlobResource.of(()->blob));
+
+        val response = tester.getLastResponse();
+        assertEquals(200, response.getStatus());
+        assertEquals(null, response.getHeader("Content-Range"));
+        assertArrayEquals(blob.getBytes(), response.getBinaryContent());
+    }
+
+    @Test
+    void whenNoBlob_shouldRespondNotFound() {
+        tester.startResource(BlobResource.of(()->null));
+
+        assertEquals(404, tester.getLastResponse().getStatus());
+    }
+
+}